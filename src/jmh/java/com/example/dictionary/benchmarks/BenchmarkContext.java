@@ -0,0 +1,84 @@
+package com.example.dictionary.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.dictionary.DictionaryApplication;
+import com.example.dictionary.model.User;
+import com.example.dictionary.model.Word;
+import com.example.dictionary.repository.WordDailyCountRepository;
+import com.example.dictionary.repository.WordRepository;
+import com.example.dictionary.service.UserService;
+
+// Uygulamanın tamamı, web sunucusu olmadan, bellek içi H2 (MySQL modu) ve StubUpstream ile.
+// Ayarlar komut satırı argümanı olarak verilir ki application.properties'i ezsin.
+public final class BenchmarkContext implements AutoCloseable {
+
+    private static final int INSERT_CHUNK = 1000;
+
+    private final StubUpstream upstream;
+    private final ConfigurableApplicationContext context;
+
+    private BenchmarkContext(StubUpstream upstream, ConfigurableApplicationContext context) {
+        this.upstream = upstream;
+        this.context = context;
+    }
+
+    public static BenchmarkContext start() {
+        return start(new String[0]);
+    }
+
+    // extraArgs: benchmark'a özel ayarlar ("--anahtar=değer")
+    public static BenchmarkContext start(String... extraArgs) {
+        StubUpstream upstream = StubUpstream.start();
+        List<String> args = new ArrayList<>(List.of(
+                        "--spring.main.web-application-type=none",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN",
+                        "--spring.datasource.url=jdbc:h2:mem:bench-" + UUID.randomUUID()
+                                + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=DAY,VALUE,YEAR,MONTH",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--dictionary.lookup.api-url=" + upstream.baseUrl() + "/api/v2/entries/en/",
+                        "--dictionary.translation.api-url=" + upstream.baseUrl() + "/translate"));
+        args.addAll(List.of(extraArgs));
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(DictionaryApplication.class)
+                .run(args.toArray(new String[0]));
+        return new BenchmarkContext(upstream, context);
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    // Kelimeler olay yayınlamadan doğrudan yazılır; özet tablosu sonunda baştan kurulur
+    public User createUserWithWords(int wordCount) {
+        User user = bean(UserService.class).registerUser("bench-" + UUID.randomUUID() + "@example.com", "bench", "Bench");
+        WordRepository wordRepository = bean(WordRepository.class);
+        TransactionTemplate transactionTemplate = bean(TransactionTemplate.class);
+
+        List<Word> words = BenchmarkData.words(wordCount, user, 42);
+        for (int from = 0; from < words.size(); from += INSERT_CHUNK) {
+            List<Word> chunk = words.subList(from, Math.min(from + INSERT_CHUNK, words.size()));
+            transactionTemplate.executeWithoutResult(status -> wordRepository.saveAll(chunk));
+        }
+
+        WordDailyCountRepository dailyCountRepository = bean(WordDailyCountRepository.class);
+        dailyCountRepository.deleteAllInBatch();
+        dailyCountRepository.rebuildUserRows();
+        dailyCountRepository.rebuildTotalRows();
+        return user;
+    }
+
+    @Override
+    public void close() {
+        context.close();
+        upstream.close();
+    }
+}
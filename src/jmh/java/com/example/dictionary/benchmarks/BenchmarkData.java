@@ -0,0 +1,64 @@
+package com.example.dictionary.benchmarks;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.example.dictionary.model.EnrichmentStatus;
+import com.example.dictionary.model.User;
+import com.example.dictionary.model.Word;
+
+// Tekrarlanabilir (sabit seed) sahte kelime verisi; hece birleşimleri ön ek aramasında
+// gerçek sözlüğe benzer dağılımda ortak önekler üretir
+public final class BenchmarkData {
+
+    private static final String[] SYLLABLES = {
+            "ba", "ka", "ro", "mi", "te", "lu", "sa", "no", "ve", "di", "po", "ri", "zu", "fe", "ga", "hi",
+            "ster", "ing", "tion", "ly", "ment", "pre", "con", "ex"
+    };
+    private static final String[] DIFFICULTIES = {"easy", "medium", "hard", null};
+
+    private BenchmarkData() {
+    }
+
+    public static List<Word> words(int count, User user, long seed) {
+        Random random = new Random(seed);
+        LocalDateTime now = LocalDateTime.now();
+        List<Word> words = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            words.add(Word.builder()
+                    .english(token(random, 2, 4))
+                    .meaning(sentence(random, 6, 12))
+                    .turkishMeaning(sentence(random, 1, 3))
+                    .exampleUsage(sentence(random, 6, 10))
+                    .difficultyLevel(DIFFICULTIES[random.nextInt(DIFFICULTIES.length)])
+                    .addedDate(now.minusMinutes(random.nextInt(365 * 24 * 60)))
+                    .enrichmentStatus(EnrichmentStatus.COMPLETED)
+                    .user(user)
+                    .build());
+        }
+        return words;
+    }
+
+    private static String sentence(Random random, int minWords, int maxWords) {
+        int length = minWords + random.nextInt(maxWords - minWords + 1);
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            if (i > 0) {
+                sentence.append(' ');
+            }
+            sentence.append(token(random, 1, 3));
+        }
+        return sentence.append('.').toString();
+    }
+
+    private static String token(Random random, int minSyllables, int maxSyllables) {
+        int length = minSyllables + random.nextInt(maxSyllables - minSyllables + 1);
+        StringBuilder token = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            token.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        return token.toString();
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.dictionary.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// JMH'yi çalıştırır, sonucu JSON olarak yazar ve kayıtlı baseline ile karşılaştırır.
+// Ayarlar sistem özellikleridir (pom.xml'deki benchmarks profili geçirir):
+//   bench.result            sonuç dosyası
+//   bench.baseline          karşılaştırılacak baseline dosyası (yoksa karşılaştırma atlanır)
+//   bench.threshold         yüzde olarak izin verilen kötüleşme
+//   bench.saveBaseline      true ise sonuç yeni baseline olarak kopyalanır
+//   bench.failOnRegression  true ise eşiği aşan kötüleşmede çıkış kodu 1 olur
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path result = Path.of(System.getProperty("bench.result", "target/jmh-result.json"));
+        Path baseline = Path.of(System.getProperty("bench.baseline", "src/jmh/baseline.json"));
+        double threshold = Double.parseDouble(System.getProperty("bench.threshold", "10"));
+
+        Files.createDirectories(result.toAbsolutePath().getParent());
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .resultFormat(ResultFormatType.JSON)
+                .result(result.toString())
+                .build();
+        new Runner(options).run();
+
+        int regressions = 0;
+        if (Files.exists(baseline)) {
+            regressions = compare(baseline, result, threshold);
+        } else {
+            System.out.println("No baseline at " + baseline + ", skipping comparison");
+        }
+
+        if (Boolean.getBoolean("bench.saveBaseline")) {
+            Files.createDirectories(baseline.toAbsolutePath().getParent());
+            Files.copy(result, baseline, StandardCopyOption.REPLACE_EXISTING);
+            System.out.println("Saved " + result + " as baseline " + baseline);
+        }
+
+        if (regressions > 0 && Boolean.getBoolean("bench.failOnRegression")) {
+            System.exit(1);
+        }
+    }
+
+    // Sadece iki dosyada da bulunan benchmark'lar karşılaştırılır; döner değer kötüleşme sayısıdır
+    static int compare(Path baselineFile, Path resultFile, double thresholdPercent) throws IOException {
+        Map<String, JsonNode> baseline = load(baselineFile);
+        Map<String, JsonNode> current = load(resultFile);
+
+        List<String> lines = new ArrayList<>();
+        int regressions = 0;
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode before = baseline.get(entry.getKey());
+            if (before == null) {
+                continue;
+            }
+            double oldScore = before.path("primaryMetric").path("score").asDouble();
+            double newScore = entry.getValue().path("primaryMetric").path("score").asDouble();
+            if (oldScore == 0) {
+                continue;
+            }
+            // thrpt'de büyük skor, diğer modlarda (avgt, sample, ss) küçük skor iyidir
+            boolean higherIsBetter = "thrpt".equals(entry.getValue().path("mode").asText());
+            double change = (newScore - oldScore) / oldScore * 100;
+            double worsening = higherIsBetter ? -change : change;
+            boolean regressed = worsening > thresholdPercent;
+            if (regressed) {
+                regressions++;
+            }
+            lines.add(String.format("%s %-90s %12.3f -> %12.3f %s (%+.1f%%)",
+                    regressed ? "REGRESSION" : "          ",
+                    entry.getKey(), oldScore, newScore,
+                    entry.getValue().path("primaryMetric").path("scoreUnit").asText(), change));
+        }
+
+        System.out.println();
+        System.out.println("Comparison with baseline " + baselineFile + " (threshold " + thresholdPercent + "%):");
+        lines.forEach(System.out::println);
+        System.out.println(regressions + " regression(s)");
+        return regressions;
+    }
+
+    // Anahtar: benchmark adı + sıralı parametreler
+    private static Map<String, JsonNode> load(Path file) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode node : new ObjectMapper().readTree(file.toFile())) {
+            Map<String, String> params = new TreeMap<>();
+            Iterator<Map.Entry<String, JsonNode>> fields = node.path("params").fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                params.put(field.getKey(), field.getValue().asText());
+            }
+            results.put(node.path("benchmark").asText() + (params.isEmpty() ? "" : " " + params), node);
+        }
+        return results;
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.dictionary.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.example.dictionary.auth.AuthenticatedUser;
+import com.example.dictionary.controller.WordController;
+import com.example.dictionary.service.WordStatistics;
+import com.example.dictionary.service.WordStatisticsService;
+
+// GET /api/words/chart-data ve /statistics: özet tablosu ve GROUP BY sorguları üzerinden (servis),
+// cache'lenmiş cevap ve If-None-Match ile 304 (controller)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChartDataBenchmark {
+
+    private static final int WORDS_PER_USER = 10000;
+
+    @Param({"7", "30", "365"})
+    private int days;
+
+    private BenchmarkContext context;
+    private WordController wordController;
+    private WordStatisticsService wordStatisticsService;
+    private AuthenticatedUser user;
+    private String etag;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start();
+        wordController = context.bean(WordController.class);
+        wordStatisticsService = context.bean(WordStatisticsService.class);
+        user = AuthenticatedUser.of(context.createUserWithWords(WORDS_PER_USER));
+        etag = wordController.getChartData(days, user, request(null)).getHeaders().getETag();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object[] chartData() {
+        return new Object[] {
+                wordStatisticsService.getDailyCounts(user.id(), days),
+                wordStatisticsService.getDifficultyCounts(user.id())
+        };
+    }
+
+    @Benchmark
+    public WordStatistics statistics() {
+        return wordStatisticsService.getStatistics(user.id());
+    }
+
+    @Benchmark
+    public ResponseEntity<?> chartDataCached() {
+        return wordController.getChartData(days, user, request(null));
+    }
+
+    @Benchmark
+    public ServletWebRequest chartDataNotModified() {
+        ServletWebRequest request = request(etag);
+        wordController.getChartData(days, user, request);
+        return request;
+    }
+
+    private static ServletWebRequest request(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/words/chart-data");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+}
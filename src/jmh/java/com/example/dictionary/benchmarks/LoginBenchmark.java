@@ -0,0 +1,70 @@
+package com.example.dictionary.benchmarks;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.dictionary.model.User;
+import com.example.dictionary.service.UserService;
+
+// Girişte şifre doğrulama: BCrypt maliyetine göre saniyede kaç giriş yapılabildiği.
+// Thread sayısı hash havuzundan fazla tutulur ki havuzun doyduğu nokta görünsün.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Threads(8)
+@Fork(1)
+public class LoginBenchmark {
+
+    private static final String PASSWORD = "correct horse battery staple";
+
+    @Param({"4", "8", "10", "12"})
+    private int cost;
+
+    private BenchmarkContext context;
+    private UserService userService;
+    private String email;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start(
+                "--dictionary.auth.password.bcrypt-strength=" + cost,
+                "--dictionary.auth.password.queue-capacity=64",
+                "--dictionary.auth.password.timeout=60s");
+        userService = context.bean(UserService.class);
+        email = "login-" + UUID.randomUUID() + "@example.com";
+        userService.registerUser(email, PASSWORD, "Bench");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<User> authenticate() {
+        return userService.authenticate(email, PASSWORD);
+    }
+
+    // Bilinmeyen email de aynı maliyette olmalı (kullanıcı var/yok ayırt edilemesin)
+    @Benchmark
+    public Optional<User> unknownEmail() {
+        return userService.authenticate("missing-" + email, PASSWORD);
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.dictionary.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+// dictionaryapi.dev ve LibreTranslate yerine geçen yerel HTTP sunucusu;
+// her sözlük isteğine aynı gerçekçi cevabı döner
+public final class StubUpstream implements AutoCloseable {
+
+    private final HttpServer server;
+
+    private StubUpstream(HttpServer server) {
+        this.server = server;
+    }
+
+    public static StubUpstream start() {
+        byte[] dictionaryPayload = fixture("dictionary-response.json");
+        byte[] translationPayload = "{\"translatedText\":\"çeviri\"}".getBytes(StandardCharsets.UTF_8);
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.createContext("/api/v2/entries/en/", exchange -> respond(exchange, dictionaryPayload));
+            server.createContext("/translate", exchange -> respond(exchange, translationPayload));
+            server.start();
+            return new StubUpstream(server);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public static byte[] fixture(String name) {
+        try (InputStream in = StubUpstream.class.getClassLoader().getResourceAsStream(name)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing benchmark fixture " + name);
+            }
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, byte[] payload) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, payload.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(payload);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
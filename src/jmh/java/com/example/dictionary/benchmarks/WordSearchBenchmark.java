@@ -0,0 +1,70 @@
+package com.example.dictionary.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.dictionary.model.Word;
+import com.example.dictionary.search.WordSearchIndex;
+import com.example.dictionary.service.WordService;
+
+// Kullanıcı başına 1k/10k/100k kelimede arama: sadece indeks ve kelimelerin yüklenmesiyle birlikte
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class WordSearchBenchmark {
+
+    private static final int MAX_RESULTS = 50;
+
+    @Param({"1000", "10000", "100000"})
+    private int wordsPerUser;
+
+    // Tek ön ek çok sayıda terime genişler; iki terim AND kesişimini ölçer
+    @Param({"ba", "kasa ro"})
+    private String query;
+
+    private BenchmarkContext context;
+    private WordSearchIndex wordSearchIndex;
+    private WordService wordService;
+    private Long userId;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start();
+        wordSearchIndex = context.bean(WordSearchIndex.class);
+        wordService = context.bean(WordService.class);
+        userId = context.createUserWithWords(wordsPerUser).getId();
+        // İndeks ilk aramada kurulur; ölçüme dahil edilmez
+        wordSearchIndex.search(userId, query, MAX_RESULTS);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Long> searchIndex() {
+        return wordSearchIndex.search(userId, query, MAX_RESULTS);
+    }
+
+    @Benchmark
+    public List<Word> searchWords() {
+        return wordService.searchWordsForUser(query, userId);
+    }
+}
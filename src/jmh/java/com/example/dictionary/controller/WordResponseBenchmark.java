@@ -0,0 +1,97 @@
+package com.example.dictionary.controller;
+
+import java.util.List;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.example.dictionary.benchmarks.BenchmarkData;
+import com.example.dictionary.model.Word;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+// Liste uç noktalarının cevap hazırlama maliyeti: Word -> WordResponse dönüşümü ve Jackson serileştirmesi
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WordResponseBenchmark {
+
+    @Param({"100", "10000"})
+    private int listSize;
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter streamWriter;
+    private List<Word> words;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        streamWriter = objectMapper.writerFor(WordResponse.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        words = BenchmarkData.words(listSize, null, 42);
+        for (int i = 0; i < words.size(); i++) {
+            words.get(i).setId((long) i + 1);
+        }
+    }
+
+    @Benchmark
+    public List<WordResponse> convertWords() {
+        return words.stream().map(WordResponse::of).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public byte[] convertAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(convertWords());
+    }
+
+    // GET /api/words/stream yolu: listeyi toplamadan satır satır NDJSON
+    @Benchmark
+    public void streamNdjson(Blackhole blackhole) throws IOException {
+        try (JsonGenerator generator = objectMapper.createGenerator(new Blackholed(blackhole))) {
+            generator.setRootValueSeparator(null);
+            for (Word word : words) {
+                streamWriter.writeValue(generator, WordResponse.of(word));
+                generator.writeRaw('\n');
+            }
+        }
+    }
+
+    private static final class Blackholed extends OutputStream {
+
+        private final Blackhole blackhole;
+
+        Blackholed(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void write(int b) {
+            blackhole.consume(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            blackhole.consume(b);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.dictionary.service;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.example.dictionary.benchmarks.StubUpstream;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Gerçekçi bir dictionaryapi.dev cevabının (src/jmh/resources) okunması ve anlam/örnek çıkarımı
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DictionaryResponseParsingBenchmark {
+
+    private ObjectMapper objectMapper;
+    private byte[] payload;
+    private DictionaryResponse[] parsed;
+
+    @Setup
+    public void setUp() throws IOException {
+        // Uygulamadaki RestTemplate ile aynı Jackson ayarları (bilinmeyen alanlar yok sayılır)
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        payload = StubUpstream.fixture("dictionary-response.json");
+        parsed = objectMapper.readValue(payload, DictionaryResponse[].class);
+    }
+
+    @Benchmark
+    public DictionaryResponse[] parse() throws IOException {
+        return objectMapper.readValue(payload, DictionaryResponse[].class);
+    }
+
+    @Benchmark
+    public void extract(Blackhole blackhole) {
+        blackhole.consume(WordEnrichmentService.extractMeaningFromResponse(parsed));
+        blackhole.consume(WordEnrichmentService.extractExampleSentenceFromResponse(parsed));
+    }
+
+    @Benchmark
+    public void parseAndExtract(Blackhole blackhole) throws IOException {
+        DictionaryResponse[] response = objectMapper.readValue(payload, DictionaryResponse[].class);
+        blackhole.consume(WordEnrichmentService.extractMeaningFromResponse(response));
+        blackhole.consume(WordEnrichmentService.extractExampleSentenceFromResponse(response));
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.dictionary.auth;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+
+// HS256 imzalı JWT: sub = kullanıcı id, email ve name claim'leri, exp ile süre.
+// İmza doğrulanınca kullanıcı bilgisi token'dan okunur; session'a veya veritabanına gidilmez.
+@Component
+public class AuthTokenService {
+
+    private static final String HEADER = base64(("{\"alg\":\"HS256\",\"typ\":\"JWT\"}").getBytes(StandardCharsets.UTF_8));
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_SECRET_BYTES = 32;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${dictionary.auth.mode:session}")
+    private String mode;
+
+    // token ve both modlarında zorunlu (en az 32 bayt); birden fazla sunucuda hepsine aynı değer verilmeli
+    @Value("${dictionary.auth.token.secret:}")
+    private String secret;
+
+    @Value("${dictionary.auth.token.ttl:7d}")
+    private Duration ttl;
+
+    private SecretKeySpec key;
+
+    // Her sunucuda ayrı rastgele anahtar, bir sunucunun verdiği token'ı diğerlerinin reddetmesi demektir;
+    // bu yüzden token kullanılıyorsa secret yoksa veya kısaysa uygulama açılmaz
+    @PostConstruct
+    void init() {
+        byte[] keyBytes = secret != null ? secret.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        if (keyBytes.length < MIN_SECRET_BYTES) {
+            if ("token".equals(mode) || "both".equals(mode)) {
+                throw new IllegalStateException("dictionary.auth.token.secret must be at least " + MIN_SECRET_BYTES
+                        + " bytes when dictionary.auth.mode is " + mode);
+            }
+            // Session modunda token verilmez; anahtar sadece kullanılmayan bean'i tamamlar
+            keyBytes = new byte[MIN_SECRET_BYTES];
+            new SecureRandom().nextBytes(keyBytes);
+        }
+        key = new SecretKeySpec(keyBytes, ALGORITHM);
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public String issue(AuthenticatedUser user) {
+        long now = Instant.now().getEpochSecond();
+        Map<String, Object> claims = new LinkedHashMap<>();
+        claims.put("sub", String.valueOf(user.id()));
+        claims.put("email", user.email());
+        claims.put("name", user.name());
+        claims.put("iat", now);
+        claims.put("exp", now + ttl.toSeconds());
+        try {
+            String unsigned = HEADER + "." + base64(objectMapper.writeValueAsBytes(claims));
+            return unsigned + "." + base64(sign(unsigned));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Token could not be created", e);
+        }
+    }
+
+    // İmza geçersizse, süresi dolmuşsa veya biçim bozuksa null
+    public AuthenticatedUser parse(String token) {
+        if (token == null) {
+            return null;
+        }
+        int firstDot = token.indexOf('.');
+        int lastDot = token.lastIndexOf('.');
+        if (firstDot <= 0 || lastDot == firstDot) {
+            return null;
+        }
+        String unsigned = token.substring(0, lastDot);
+        try {
+            // Sabit süreli karşılaştırma
+            if (!unsigned.startsWith(HEADER + ".")
+                    || !MessageDigest.isEqual(sign(unsigned), Base64.getUrlDecoder().decode(token.substring(lastDot + 1)))) {
+                return null;
+            }
+            JsonNode claims = objectMapper.readTree(Base64.getUrlDecoder().decode(token.substring(firstDot + 1, lastDot)));
+            if (claims.path("exp").asLong(0) <= Instant.now().getEpochSecond()) {
+                return null;
+            }
+            return new AuthenticatedUser(Long.valueOf(claims.path("sub").asText()),
+                    claims.path("email").asText(null),
+                    claims.path("name").asText(null));
+        } catch (IllegalArgumentException | IOException e) {
+            return null;
+        }
+    }
+
+    private byte[] sign(String data) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String base64(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.dictionary.auth;
+
+import java.io.Serializable;
+
+import com.example.dictionary.model.User;
+
+import jakarta.servlet.http.HttpSession;
+
+// Girişte session'a veya imzalı token'a bir kez yazılan kullanıcı bilgisi; istek başına users
+// tablosuna gidilmez. Profil güncellenince yeniden yazılır.
+public record AuthenticatedUser(Long id, String email, String name) implements Serializable {
+
+    static final String SESSION_ATTRIBUTE = "authenticatedUser";
+
+    public static AuthenticatedUser of(User user) {
+        return new AuthenticatedUser(user.getId(), user.getEmail(), user.getName());
+    }
+
+    public static AuthenticatedUser from(HttpSession session) {
+        return session != null ? (AuthenticatedUser) session.getAttribute(SESSION_ATTRIBUTE) : null;
+    }
+
+    public void store(HttpSession session) {
+        session.setAttribute(SESSION_ATTRIBUTE, this);
+    }
+
+    // Giriş yapılmamışsa null
+    public static Long idOf(AuthenticatedUser user) {
+        return user != null ? user.id() : null;
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.dictionary.auth;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+
+// Giriş bilgisinin nerede tutulacağı dictionary.auth.mode ile seçilir:
+//   session - sunucudaki HttpSession (eski davranış)
+//   token   - imzalı token; HttpOnly cookie veya "Authorization: Bearer" ile gelir, session açılmaz
+//   both    - ikisi birden; geçiş sırasında eski session'lar çalışmaya devam eder
+@Component
+public class AuthenticationService {
+
+    public static final String TOKEN_COOKIE = "AUTH_TOKEN";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    @Autowired
+    private AuthTokenService authTokenService;
+
+    @Value("${dictionary.auth.mode:session}")
+    private String mode;
+
+    @Value("${dictionary.auth.token.cookie-secure:false}")
+    private boolean cookieSecure;
+
+    public boolean usesSession() {
+        return "session".equals(mode) || "both".equals(mode);
+    }
+
+    public boolean usesToken() {
+        return "token".equals(mode) || "both".equals(mode);
+    }
+
+    // Önce token (header, sonra cookie), sonra session; giriş yoksa null
+    public AuthenticatedUser resolve(HttpServletRequest request) {
+        if (usesToken()) {
+            AuthenticatedUser user = authTokenService.parse(tokenFrom(request));
+            if (user != null) {
+                return user;
+            }
+        }
+        return usesSession() ? AuthenticatedUser.from(request.getSession(false)) : null;
+    }
+
+    // Giriş ve profil güncellemesinde çağrılır; token modunda üretilen token'ı döner (yoksa null)
+    public String signIn(AuthenticatedUser user, HttpServletRequest request, HttpServletResponse response) {
+        if (usesSession()) {
+            user.store(request.getSession());
+        }
+        if (!usesToken()) {
+            return null;
+        }
+        String token = authTokenService.issue(user);
+        response.addHeader(HttpHeaders.SET_COOKIE, tokenCookie(token, authTokenService.getTtl().toSeconds()).toString());
+        return token;
+    }
+
+    // Token sunucuda tutulmadığı için iptal edilemez; cookie silinir, token süresi dolana kadar geçerlidir
+    public void signOut(HttpServletRequest request, HttpServletResponse response) {
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            session.invalidate();
+        }
+        if (usesToken()) {
+            response.addHeader(HttpHeaders.SET_COOKIE, tokenCookie("", 0).toString());
+        }
+    }
+
+    private ResponseCookie tokenCookie(String value, long maxAgeSeconds) {
+        return ResponseCookie.from(TOKEN_COOKIE, value)
+                .httpOnly(true)
+                .secure(cookieSecure)
+                .sameSite("Lax")
+                .path("/")
+                .maxAge(maxAgeSeconds)
+                .build();
+    }
+
+    private static String tokenFrom(HttpServletRequest request) {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization != null && authorization.startsWith(BEARER_PREFIX)) {
+            return authorization.substring(BEARER_PREFIX.length()).trim();
+        }
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if (TOKEN_COOKIE.equals(cookie.getName()) && !cookie.getValue().isEmpty()) {
+                    return cookie.getValue();
+                }
+            }
+        }
+        return null;
+    }
+}
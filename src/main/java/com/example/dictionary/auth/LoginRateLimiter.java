@@ -0,0 +1,95 @@
+package com.example.dictionary.auth;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.dictionary.cache.BoundedCache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+
+// Bellekte, sabit pencereli giriş sınırı: IP başına tüm denemeler, email başına başarısız denemeler.
+// Sınır aşılınca veritabanına ve hash havuzuna hiç gidilmez. Sayaçlar BoundedCache'in TTL'i
+// dolunca (pencere sonunda) sıfırlanır; tutulan anahtar sayısı max-keys ile sınırlıdır.
+@Component
+public class LoginRateLimiter {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${dictionary.auth.rate-limit.ip.max-attempts:30}")
+    private int maxAttemptsPerIp;
+
+    @Value("${dictionary.auth.rate-limit.ip.window:1m}")
+    private Duration ipWindow;
+
+    @Value("${dictionary.auth.rate-limit.email.max-failures:5}")
+    private int maxFailuresPerEmail;
+
+    @Value("${dictionary.auth.rate-limit.email.window:15m}")
+    private Duration emailWindow;
+
+    @Value("${dictionary.auth.rate-limit.max-keys:100000}")
+    private int maxKeys;
+
+    private BoundedCache<String, AtomicInteger> attemptsByIp;
+    private BoundedCache<String, AtomicInteger> failuresByEmail;
+
+    @PostConstruct
+    void init() {
+        attemptsByIp = new BoundedCache<>(maxKeys, ipWindow);
+        failuresByEmail = new BoundedCache<>(maxKeys, emailWindow);
+    }
+
+    // Deneme sayılır; izin varsa null, yoksa en geç ne kadar sonra tekrar denenebileceği (pencere süresi)
+    public synchronized Duration tryAcquire(String email, String ip) {
+        if (count(failuresByEmail, key(email)) >= maxFailuresPerEmail) {
+            throttled("email");
+            return emailWindow;
+        }
+        if (increment(attemptsByIp, ip) > maxAttemptsPerIp) {
+            throttled("ip");
+            return ipWindow;
+        }
+        return null;
+    }
+
+    public synchronized void recordFailure(String email) {
+        increment(failuresByEmail, key(email));
+    }
+
+    public synchronized void recordSuccess(String email) {
+        failuresByEmail.invalidate(key(email));
+    }
+
+    private void throttled(String reason) {
+        Counter.builder("dictionary.auth.login.throttled")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static int count(BoundedCache<String, AtomicInteger> counters, String key) {
+        AtomicInteger counter = counters.get(key);
+        return counter != null ? counter.get() : 0;
+    }
+
+    private static int increment(BoundedCache<String, AtomicInteger> counters, String key) {
+        AtomicInteger counter = counters.get(key);
+        if (counter == null) {
+            counter = new AtomicInteger();
+            counters.put(key, counter);
+        }
+        return counter.incrementAndGet();
+    }
+
+    private static String key(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
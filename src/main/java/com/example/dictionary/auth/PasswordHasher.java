@@ -0,0 +1,105 @@
+package com.example.dictionary.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+
+// BCrypt hash ve doğrulama, sınırlı passwordHashExecutor havuzunda. Eski düz metin şifreler
+// de doğrulanır; needsRehash bunları (ve maliyeti düşük kalmış hash'leri) girişte yenilemek içindir.
+// Havuz ve kuyruğu doluysa PasswordHashingBusyException fırlatılır.
+@Component
+public class PasswordHasher {
+
+    @Autowired
+    private BCryptPasswordEncoder passwordEncoder;
+
+    @Autowired
+    @Qualifier("passwordHashExecutor")
+    private Executor passwordHashExecutor;
+
+    @Value("${dictionary.auth.password.timeout:5s}")
+    private Duration timeout;
+
+    // Olmayan kullanıcıda da aynı süre harcansın diye karşılaştırılan sahte hash
+    private String dummyHash;
+
+    @PostConstruct
+    void init() {
+        dummyHash = passwordEncoder.encode("dummy-password");
+    }
+
+    public String hash(String rawPassword) {
+        return compute(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String storedPassword) {
+        if (rawPassword == null || storedPassword == null) {
+            return false;
+        }
+        if (!isBcrypt(storedPassword)) {
+            // Hashlenmemiş eski kayıt; sabit süreli karşılaştırma
+            return MessageDigest.isEqual(rawPassword.getBytes(StandardCharsets.UTF_8),
+                    storedPassword.getBytes(StandardCharsets.UTF_8));
+        }
+        return compute(() -> passwordEncoder.matches(rawPassword, storedPassword));
+    }
+
+    // Kullanıcı bulunamadığında çağrılır; sonuç her zaman false
+    public boolean matchesNothing(String rawPassword) {
+        matches(rawPassword != null ? rawPassword : "", dummyHash);
+        return false;
+    }
+
+    public boolean needsRehash(String storedPassword) {
+        return !isBcrypt(storedPassword) || passwordEncoder.upgradeEncoding(storedPassword);
+    }
+
+    private <T> T compute(Supplier<T> work) {
+        CompletableFuture<T> result;
+        try {
+            result = CompletableFuture.supplyAsync(work, passwordHashExecutor);
+        } catch (RejectedExecutionException e) {
+            throw new PasswordHashingBusyException();
+        }
+        try {
+            return result.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            result.cancel(false);
+            throw new PasswordHashingBusyException();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static boolean isBcrypt(String storedPassword) {
+        return storedPassword != null && storedPassword.length() == 60
+                && (storedPassword.startsWith("$2a$") || storedPassword.startsWith("$2b$") || storedPassword.startsWith("$2y$"));
+    }
+
+    public static class PasswordHashingBusyException extends RuntimeException {
+        public PasswordHashingBusyException() {
+            super("Too many login attempts are being processed, please try again");
+        }
+    }
+}
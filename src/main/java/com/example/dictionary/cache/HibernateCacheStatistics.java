@@ -0,0 +1,69 @@
+package com.example.dictionary.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import com.example.dictionary.model.User;
+import com.example.dictionary.model.Word;
+import com.example.dictionary.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// Hibernate ikinci seviye cache'inin bölge başına isabet/kaçırma/yazma sayıları (Hibernate istatistikleri)
+// ile bölgedeki kayıt ve boyut sınırı yüzünden atılan kayıt sayıları (Caffeine)
+@Component
+public class HibernateCacheStatistics {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    @Qualifier("hibernateCacheManager")
+    private CacheManager hibernateCacheManager;
+
+    public Map<String, Object> getStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Map<String, Object> regions = new LinkedHashMap<>();
+        regions.put(User.CACHE_REGION, region(User.CACHE_REGION, statistics.getDomainDataRegionStatistics(User.CACHE_REGION)));
+        regions.put(Word.CACHE_REGION, region(Word.CACHE_REGION, statistics.getDomainDataRegionStatistics(Word.CACHE_REGION)));
+        regions.put(UserRepository.BY_EMAIL_CACHE_REGION, region(UserRepository.BY_EMAIL_CACHE_REGION,
+                statistics.getQueryRegionStatistics(UserRepository.BY_EMAIL_CACHE_REGION)));
+        regions.put(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, region(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                statistics.getQueryRegionStatistics(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME)));
+        return regions;
+    }
+
+    // Sorgu bölgesi henüz hiç kullanılmadıysa Hibernate istatistiği null döner
+    private Map<String, Object> region(String name, CacheRegionStatistics regionStatistics) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        long hits = regionStatistics != null ? regionStatistics.getHitCount() : 0;
+        long misses = regionStatistics != null ? regionStatistics.getMissCount() : 0;
+        stats.put("hits", hits);
+        stats.put("misses", misses);
+        stats.put("puts", regionStatistics != null ? regionStatistics.getPutCount() : 0);
+        stats.put("hitRate", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+
+        Cache<Object, Object> cache = hibernateCacheManager.getCache(name);
+        if (cache != null) {
+            @SuppressWarnings("unchecked")
+            com.github.benmanes.caffeine.cache.Cache<Object, Object> caffeine = cache.unwrap(com.github.benmanes.caffeine.cache.Cache.class);
+            CacheStats cacheStats = caffeine.stats();
+            stats.put("size", caffeine.estimatedSize());
+            stats.put("evictions", cacheStats.evictionCount());
+            caffeine.policy().eviction().ifPresent(eviction -> stats.put("maxSize", eviction.getMaximum()));
+        }
+        return stats;
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.dictionary.cache;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.WebRequest;
+
+import com.example.dictionary.event.UserDeletedEvent;
+import com.example.dictionary.event.WordChangedEvent;
+import com.example.dictionary.metrics.CacheMetrics;
+import com.example.dictionary.shard.ShardRouter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+
+// Kullanıcı başına veri sürümü ve o sürümle üretilmiş JSON cevaplar (liste, istatistik).
+// Sürüm kullanıcının shard'ındaki user_data_version tablosundadır ve kelimeyi değiştiren transaction'da
+// (WordChangedEvent) artar; bu yüzden tüm sunucular aynı sürümü, dolayısıyla aynı ETag'i görür.
+// Her istekte sadece sürüm okunur (birincil anahtarla tek satır); If-None-Match tutuyorsa 304 döner,
+// tutmuyorsa bu sürümle serileştirilmiş cevap bellekteyse liste/istatistik sorguları çalışmaz.
+@Component
+public class UserResponseCache {
+
+    private static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CacheMetrics cacheMetrics;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Value("${dictionary.response-cache.max-entries:2000}")
+    private int maxEntries;
+
+    private BoundedCache<String, CachedResponse> responses;
+    private Counter notModified;
+    private TransactionTemplate readOnly;
+
+    @PostConstruct
+    void init() {
+        responses = new BoundedCache<>(maxEntries);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        cacheMetrics.monitor("responses", responses);
+        notModified = Counter.builder("dictionary.response.not.modified").register(meterRegistry);
+    }
+
+    // key: uç nokta ve parametreler. Giriş yapmamış kullanıcıda cache kullanılmaz.
+    // 304'te null döner (cevap WebRequest üzerinden tamamlanmıştır).
+    public ResponseEntity<?> respond(Long userId, String key, WebRequest request, Supplier<? extends ResponseEntity<?>> loader) {
+        if (userId == null) {
+            return loader.get();
+        }
+
+        // Sürüm, cevabın verisiyle aynı yerden (replika veya primary) ve ondan önce okunur: cevap en az bu sürüm
+        // kadar yenidir. Günlük istatistikler veri değişmese de gün dönümünde değişir
+        long version = shardRouter.onUserShard(userId, () -> readOnly.execute(status -> readVersion(userId)));
+        String etag = "\"" + userId + "-" + version + "-" + LocalDate.now().toEpochDay() + "\"";
+        if (request.checkNotModified(etag)) {
+            notModified.increment();
+            return null;
+        }
+
+        String cacheKey = userId + " " + key + " " + etag;
+        CachedResponse cached = responses.get(cacheKey);
+        if (cached == null) {
+            ResponseEntity<?> response = loader.get();
+            if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+                return response;
+            }
+            cached = new CachedResponse(serialize(response.getBody()), HttpHeaders.readOnlyHttpHeaders(response.getHeaders()));
+            responses.put(cacheKey, cached);
+        }
+
+        return ResponseEntity.ok()
+                .headers(cached.headers())
+                .eTag(etag)
+                .cacheControl(CACHE_CONTROL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(cached.body());
+    }
+
+    // Kelimeyi yazan transaction'da, kelimenin shard'ında (word_daily_count gibi); geri alınan yazma sürümü artırmaz
+    @EventListener
+    public void onWordChanged(WordChangedEvent event) {
+        if (event.userId() != null) {
+            bump(event.userId());
+        }
+    }
+
+    // Token modunda silinen kullanıcının token'ı süresi dolana kadar geçerlidir; eski cevapları almasın
+    @EventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        shardRouter.runOnUserShardAfterCommit(event.userId(), () -> bump(event.userId()));
+    }
+
+    // Bulunulan shard'da, transaction dışındaysa primary'den
+    public long readVersion(Long userId) {
+        return jdbcTemplate.query("select version from user_data_version where user_id = ?",
+                rs -> rs.next() ? rs.getLong(1) : 0L, userId);
+    }
+
+    // Bulunulan shard'da; shard taşımada hedefteki sürüm kaynaktakinden büyük yapılır ki ETag'ler geri gitmesin
+    public void advanceVersion(Long userId, long atLeast) {
+        long version = Math.max(readVersion(userId), atLeast) + 1;
+        if (jdbcTemplate.update("update user_data_version set version = ? where user_id = ?", version, userId) == 0) {
+            jdbcTemplate.update("insert into user_data_version (user_id, version) values (?, ?)", userId, version);
+        }
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = responses.getStatistics();
+        stats.put("notModified", (long) notModified.count());
+        return stats;
+    }
+
+    private void bump(Long userId) {
+        jdbcTemplate.update("insert into user_data_version (user_id, version) values (?, 1)"
+                + " on duplicate key update version = version + 1", userId);
+    }
+
+    private byte[] serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Response could not be serialized", e);
+        }
+    }
+
+    private record CachedResponse(byte[] body, HttpHeaders headers) {
+    }
+}
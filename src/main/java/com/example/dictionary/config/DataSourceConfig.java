@@ -0,0 +1,156 @@
+package com.example.dictionary.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.example.dictionary.datasource.ReadYourWrites;
+import com.example.dictionary.datasource.ReplicaRoutingDataSource;
+import com.example.dictionary.shard.ShardRoutingDataSource;
+import com.example.dictionary.shard.ShardSchema;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// dictionary.datasource.replica.urls veya dictionary.shard.urls verilirse: spring.datasource.* primary olur,
+// readOnly transaction'lar replikalara, kelime verisi kullanıcının shard'ına gider. İkisi de boşsa
+// Spring Boot'un tek DataSource'u olduğu gibi kullanılır.
+@Configuration
+@ConditionalOnExpression(DataSourceConfig.ROUTING_CONFIGURED)
+public class DataSourceConfig {
+
+    public static final String REPLICAS_CONFIGURED = "!'${dictionary.datasource.replica.urls:}'.isBlank()";
+    public static final String SHARDS_CONFIGURED = "!'${dictionary.shard.urls:}'.isBlank()";
+    public static final String ROUTING_CONFIGURED = REPLICAS_CONFIGURED + " or " + SHARDS_CONFIGURED;
+
+    // Flyway migration'ları doğrudan primary'de çalışır
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConditionalOnExpression(REPLICAS_CONFIGURED)
+    public ReplicaRoutingDataSource replicaRoutingDataSource(@Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+                                                             DataSourceProperties properties,
+                                                             ReadYourWrites readYourWrites,
+                                                             MeterRegistry meterRegistry,
+                                                             @Value("${dictionary.datasource.replica.urls}") String urls,
+                                                             @Value("${dictionary.datasource.replica.username:}") String username,
+                                                             @Value("${dictionary.datasource.replica.password:}") String password,
+                                                             @Value("${dictionary.datasource.replica.pool-size:10}") int poolSize,
+                                                             @Value("${dictionary.datasource.replica.health-check-interval:5s}") Duration healthCheckInterval,
+                                                             @Value("${dictionary.datasource.replica.max-lag:5s}") Duration maxLag) {
+        List<HikariDataSource> replicas = new ArrayList<>();
+        // URL'ler boşlukla ayrılır: H2 ve MySQL URL'lerinde virgül ve noktalı virgül bulunabilir
+        for (String url : urls.trim().split("\\s+")) {
+            HikariDataSource replica = pool("replica-" + (replicas.size() + 1), url, properties, username, password, poolSize, meterRegistry);
+            replica.setReadOnly(true);
+            // Replika açılışta kapalı olabilir; sağlık kontrolü gelene kadar okumalar primary'ye gider
+            replica.setInitializationFailTimeout(-1);
+            replicas.add(replica);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, readYourWrites, healthCheckInterval, maxLag, meterRegistry);
+    }
+
+    // 0. shard primary'dir (replikalarıyla birlikte). Ek shard'ların şeması açılışta Flyway ile güncellenir.
+    @Bean
+    @ConditionalOnExpression(SHARDS_CONFIGURED)
+    public ShardRoutingDataSource shardRoutingDataSource(@Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+                                                         ObjectProvider<ReplicaRoutingDataSource> replicaRoutingDataSource,
+                                                         DataSourceProperties properties,
+                                                         MeterRegistry meterRegistry,
+                                                         @Value("${dictionary.shard.urls}") String urls,
+                                                         @Value("${dictionary.shard.username:}") String username,
+                                                         @Value("${dictionary.shard.password:}") String password,
+                                                         @Value("${dictionary.shard.pool-size:10}") int poolSize,
+                                                         @Value("${spring.flyway.locations:classpath:db/migration}") String[] flywayLocations,
+                                                         @Value("${spring.flyway.baseline-on-migrate:false}") boolean baselineOnMigrate,
+                                                         @Value("${spring.flyway.baseline-version:1}") String baselineVersion) {
+        List<DataSource> shards = new ArrayList<>();
+        DataSource replicas = replicaRoutingDataSource.getIfAvailable();
+        shards.add(replicas != null ? replicas : primaryDataSource);
+        for (String url : urls.trim().split("\\s+")) {
+            int shard = shards.size();
+            HikariDataSource pool = pool("shard-" + shard, url, properties, username, password, poolSize, meterRegistry);
+            String vendor = DatabaseDriver.fromJdbcUrl(url).getId();
+            String[] locations = new String[flywayLocations.length];
+            for (int i = 0; i < locations.length; i++) {
+                locations[i] = flywayLocations[i].replace("{vendor}", vendor);
+            }
+            Flyway.configure()
+                    .dataSource(pool)
+                    .locations(locations)
+                    .baselineOnMigrate(baselineOnMigrate)
+                    .baselineVersion(baselineVersion)
+                    .load()
+                    .migrate();
+            ShardSchema.prepare(pool, shard);
+            shards.add(pool);
+        }
+        return new ShardRoutingDataSource(shards);
+    }
+
+    // Kullanıcısız sorgular (toplam istatistikler, son eklenenler) tüm shard'larda paralel çalışır
+    @Bean(name = "shardQueryExecutor")
+    @ConditionalOnExpression(SHARDS_CONFIGURED)
+    public ThreadPoolTaskExecutor shardQueryExecutor(@Value("${dictionary.shard.query-threads:8}") int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setThreadNamePrefix("shard-query-");
+        return executor;
+    }
+
+    // Hibernate ve JdbcTemplate bunu kullanır: fiziksel bağlantı ilk sorguda, transaction'ın
+    // readOnly bilgisi ve shard belli olduktan sonra seçilir
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+                                 ObjectProvider<ReplicaRoutingDataSource> replicaRoutingDataSource,
+                                 ObjectProvider<ShardRoutingDataSource> shardRoutingDataSource) {
+        DataSource target = shardRoutingDataSource.getIfAvailable();
+        if (target == null) {
+            target = replicaRoutingDataSource.getIfAvailable();
+        }
+        if (target == null) {
+            target = primaryDataSource;
+        }
+        return new LazyConnectionDataSourceProxy(target);
+    }
+
+    // Kullanıcı adı verilmezse primary'ninki kullanılır
+    private static HikariDataSource pool(String name, String url, DataSourceProperties properties,
+                                         String username, String password, int poolSize, MeterRegistry meterRegistry) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName(name);
+        pool.setJdbcUrl(url);
+        pool.setDriverClassName(properties.determineDriverClassName());
+        pool.setUsername(username.isEmpty() ? properties.determineUsername() : username);
+        pool.setPassword(username.isEmpty() ? properties.determinePassword() : password);
+        pool.setMaximumPoolSize(poolSize);
+        pool.setMetricRegistry(meterRegistry);
+        return pool;
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.dictionary.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class EnrichmentConfig {
+
+    // Sözlük ve çeviri çağrıları Tomcat thread'lerini değil bu havuzu meşgul eder. Kuyruk küçük tutulur:
+    // thread'ler ancak kuyruk dolunca max-size'a kadar artar; o da doluysa yeni zenginleştirme reddedilir
+    // (kelime PENDING kalır, WordEnrichmentService.resumePending sonra işler)
+    @Bean(name = "enrichmentExecutor")
+    public ThreadPoolTaskExecutor enrichmentExecutor(@Value("${dictionary.enrichment.pool.core-size:4}") int coreSize,
+                                                     @Value("${dictionary.enrichment.pool.max-size:16}") int maxSize,
+                                                     @Value("${dictionary.enrichment.pool.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("enrichment-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    // Çeviri batch'lerini gönderir; aynı anda en fazla max-in-flight batch olduğundan kuyruk hiç dolmaz
+    @Bean(name = "translationBatchExecutor")
+    public ThreadPoolTaskExecutor translationBatchExecutor(@Value("${dictionary.translation.batch.max-in-flight:2}") int maxInFlight) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxInFlight);
+        executor.setMaxPoolSize(maxInFlight);
+        executor.setQueueCapacity(maxInFlight);
+        executor.setThreadNamePrefix("translation-batch-");
+        return executor;
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.dictionary.config;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.dictionary.model.User;
+import com.example.dictionary.model.Word;
+import com.example.dictionary.repository.UserRepository;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+// Hibernate ikinci seviye cache bölgeleri (JCache üzerinden Caffeine). Her bölgenin kendi boyut sınırı ve
+// yaşam süresi vardır; burada tanımlanmamış bir bölge kullanılırsa uygulama açılmaz (missing_cache_strategy=fail).
+@Configuration
+public class HibernateCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(@Value("${dictionary.hibernate-cache.user.max-size:10000}") long userMaxSize,
+                                              @Value("${dictionary.hibernate-cache.user.ttl:30m}") Duration userTtl,
+                                              @Value("${dictionary.hibernate-cache.word.max-size:50000}") long wordMaxSize,
+                                              @Value("${dictionary.hibernate-cache.word.ttl:10m}") Duration wordTtl,
+                                              @Value("${dictionary.hibernate-cache.user-by-email.max-size:10000}") long userByEmailMaxSize,
+                                              @Value("${dictionary.hibernate-cache.user-by-email.ttl:10m}") Duration userByEmailTtl,
+                                              @Value("${dictionary.hibernate-cache.query-results.max-size:1000}") long queryResultsMaxSize,
+                                              @Value("${dictionary.hibernate-cache.query-results.ttl:5m}") Duration queryResultsTtl) {
+        // CacheManager'lar URI başına JVM'de tekildir: her application context kendi URI'siyle açar, böylece
+        // başka bir JCache kullanıcısıyla veya aynı JVM'deki ikinci bir context'le (testler) paylaşılmaz
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("dictionary-hibernate-" + UUID.randomUUID()), getClass().getClassLoader());
+        cacheManager.createCache(User.CACHE_REGION, region(userMaxSize, userTtl));
+        cacheManager.createCache(Word.CACHE_REGION, region(wordMaxSize, wordTtl));
+        cacheManager.createCache(UserRepository.BY_EMAIL_CACHE_REGION, region(userByEmailMaxSize, userByEmailTtl));
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, region(queryResultsMaxSize, queryResultsTtl));
+        // Tablo başına son değişiklik zamanı: sorgu cache'inin doğruluğu buna bağlı olduğu için
+        // boyut sınırı ve süre yok (tablo sayısı kadar kayıt)
+        CaffeineConfiguration<Object, Object> timestamps = new CaffeineConfiguration<>();
+        timestamps.setStatisticsEnabled(true);
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, timestamps);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private static CaffeineConfiguration<Object, Object> region(long maxSize, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        configuration.setStatisticsEnabled(true);
+        configuration.setNativeStatisticsEnabled(true);
+        return configuration;
+    }
+}
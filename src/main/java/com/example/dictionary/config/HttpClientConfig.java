@@ -0,0 +1,101 @@
+package com.example.dictionary.config;
+
+import java.time.Duration;
+
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import com.example.dictionary.metrics.UpstreamMetrics;
+import com.example.dictionary.upstream.UpstreamGuard;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class HttpClientConfig {
+
+    // dictionaryapi.dev ve LibreTranslate için ortak, keep-alive'lı bağlantı havuzu
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient upstreamHttpClient(@Value("${dictionary.http.pool.max-total:50}") int maxTotal,
+                                                  @Value("${dictionary.http.pool.max-per-route:20}") int maxPerRoute,
+                                                  @Value("${dictionary.http.pool.idle-timeout:30s}") Duration idleTimeout) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .build();
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(idleTimeout))
+                .build();
+    }
+
+    @Bean
+    public RestTemplate dictionaryRestTemplate(RestTemplateBuilder builder, CloseableHttpClient upstreamHttpClient,
+                                               @Value("${dictionary.lookup.http.connect-timeout:2s}") Duration connectTimeout,
+                                               @Value("${dictionary.lookup.http.read-timeout:5s}") Duration readTimeout) {
+        return restTemplate(builder, upstreamHttpClient, connectTimeout, readTimeout);
+    }
+
+    @Bean
+    public RestTemplate translationRestTemplate(RestTemplateBuilder builder, CloseableHttpClient upstreamHttpClient,
+                                                @Value("${dictionary.translation.http.connect-timeout:2s}") Duration connectTimeout,
+                                                @Value("${dictionary.translation.http.read-timeout:10s}") Duration readTimeout) {
+        return restTemplate(builder, upstreamHttpClient, connectTimeout, readTimeout);
+    }
+
+    @Bean
+    public UpstreamGuard dictionaryUpstream(UpstreamMetrics upstreamMetrics, MeterRegistry meterRegistry,
+                                            @Value("${dictionary.lookup.bulkhead.max-concurrent-calls:20}") int maxConcurrentCalls,
+                                            @Value("${dictionary.lookup.bulkhead.max-wait:500ms}") Duration maxWait,
+                                            @Value("${dictionary.lookup.retry.max-attempts:3}") int retryAttempts,
+                                            @Value("${dictionary.lookup.retry.backoff:200ms}") Duration retryBackoff,
+                                            @Value("${dictionary.lookup.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+                                            @Value("${dictionary.lookup.circuit-breaker.sliding-window-size:20}") int slidingWindowSize,
+                                            @Value("${dictionary.lookup.circuit-breaker.minimum-calls:10}") int minimumCalls,
+                                            @Value("${dictionary.lookup.circuit-breaker.open-duration:30s}") Duration openDuration,
+                                            @Value("${dictionary.lookup.circuit-breaker.half-open-calls:3}") int halfOpenCalls) {
+        return new UpstreamGuard(UpstreamGuard.DICTIONARY_API,
+                new UpstreamGuard.Policy(maxConcurrentCalls, maxWait, retryAttempts, retryBackoff,
+                        failureRateThreshold, slidingWindowSize, minimumCalls, openDuration, halfOpenCalls),
+                upstreamMetrics, meterRegistry);
+    }
+
+    // Çeviri POST'tur, tekrar denenmez (max-attempts kullanılmaz)
+    @Bean
+    public UpstreamGuard translationUpstream(UpstreamMetrics upstreamMetrics, MeterRegistry meterRegistry,
+                                             @Value("${dictionary.translation.bulkhead.max-concurrent-calls:8}") int maxConcurrentCalls,
+                                             @Value("${dictionary.translation.bulkhead.max-wait:500ms}") Duration maxWait,
+                                             @Value("${dictionary.translation.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+                                             @Value("${dictionary.translation.circuit-breaker.sliding-window-size:20}") int slidingWindowSize,
+                                             @Value("${dictionary.translation.circuit-breaker.minimum-calls:10}") int minimumCalls,
+                                             @Value("${dictionary.translation.circuit-breaker.open-duration:30s}") Duration openDuration,
+                                             @Value("${dictionary.translation.circuit-breaker.half-open-calls:3}") int halfOpenCalls) {
+        return new UpstreamGuard(UpstreamGuard.LIBRE_TRANSLATE,
+                new UpstreamGuard.Policy(maxConcurrentCalls, maxWait, 1, Duration.ZERO,
+                        failureRateThreshold, slidingWindowSize, minimumCalls, openDuration, halfOpenCalls),
+                upstreamMetrics, meterRegistry);
+    }
+
+    // connectionRequestTimeout: havuzda boş bağlantı beklerken de connect süresi kadar beklenir
+    private static RestTemplate restTemplate(RestTemplateBuilder builder, CloseableHttpClient httpClient,
+                                             Duration connectTimeout, Duration readTimeout) {
+        return builder
+                .requestFactory(() -> {
+                    HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(httpClient);
+                    factory.setConnectTimeout(connectTimeout);
+                    factory.setConnectionRequestTimeout(connectTimeout);
+                    factory.setReadTimeout(readTimeout);
+                    return factory;
+                })
+                .build();
+    }
+}
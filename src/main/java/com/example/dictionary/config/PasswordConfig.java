@@ -0,0 +1,31 @@
+package com.example.dictionary.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+@Configuration
+public class PasswordConfig {
+
+    // Maliyet 1 artınca hash süresi iki katına çıkar (10 ≈ birkaç on ms)
+    @Bean
+    public BCryptPasswordEncoder passwordEncoder(@Value("${dictionary.auth.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
+    }
+
+    // Hash hesapları sadece bu havuzda yapılır; kuyruk küçük tutulur ki giriş fırtınasında
+    // istekler Tomcat thread'lerini bekletmek yerine hemen reddedilsin
+    @Bean(name = "passwordHashExecutor")
+    public ThreadPoolTaskExecutor passwordHashExecutor(@Value("${dictionary.auth.password.pool-size:0}") int poolSize,
+                                                       @Value("${dictionary.auth.password.queue-capacity:16}") int queueCapacity) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        return executor;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.dictionary.config;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.example.dictionary.auth.AuthenticatedUserArgumentResolver;
+import com.example.dictionary.datasource.ReadYourWrites;
+import com.example.dictionary.metrics.RequestQueryMetricsInterceptor;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private AuthenticatedUserArgumentResolver authenticatedUserArgumentResolver;
+
+    @Autowired
+    private RequestQueryMetricsInterceptor requestQueryMetricsInterceptor;
+
+    // Sadece replika tanımlıysa vardır
+    @Autowired(required = false)
+    private ReadYourWrites readYourWrites;
+
+    @Value("${dictionary.web.streaming.pool-size:16}")
+    private int streamingPoolSize;
+
+    // StreamingResponseBody cevapları (toplu ekleme, /stream, dışa aktarma) Tomcat thread'lerinde değil
+    // bu havuzda yazılır. Kuyruk sınırsız: görev reddedilmez, böylece dışa aktarma yeri her zaman bırakılır.
+    // Aynı anda çalışan dışa aktarmalar (dictionary.export.max-concurrent) havuzdan küçük tutulur.
+    @Bean(name = "streamingResponseExecutor")
+    public ThreadPoolTaskExecutor streamingResponseExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(streamingPoolSize);
+        executor.setMaxPoolSize(streamingPoolSize);
+        executor.setThreadNamePrefix("streaming-");
+        return executor;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(streamingResponseExecutor());
+    }
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(authenticatedUserArgumentResolver);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(requestQueryMetricsInterceptor).addPathPatterns("/api/**");
+        if (readYourWrites != null) {
+            registry.addInterceptor(readYourWrites).addPathPatterns("/api/**");
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.dictionary.controller;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.dictionary.cache.HibernateCacheStatistics;
+import com.example.dictionary.cache.UserResponseCache;
+import com.example.dictionary.search.WordSearchIndex;
+import com.example.dictionary.service.DictionaryLookupService;
+import com.example.dictionary.service.LexiconImportService;
+import com.example.dictionary.service.TranslationService;
+
+@RestController
+@RequestMapping("/api/cache")
+public class CacheController {
+
+    @Autowired
+    private DictionaryLookupService dictionaryLookupService;
+
+    @Autowired
+    private TranslationService translationService;
+
+    @Autowired
+    private WordSearchIndex wordSearchIndex;
+
+    @Autowired
+    private LexiconImportService lexiconImportService;
+
+    @Autowired
+    private UserResponseCache userResponseCache;
+
+    @Autowired
+    private HibernateCacheStatistics hibernateCacheStatistics;
+
+    @GetMapping("/statistics")
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("dictionaryLookup", dictionaryLookupService.getStatistics());
+        stats.put("translationMemory", translationService.getStatistics());
+        stats.put("searchIndex", wordSearchIndex.getStatistics());
+        stats.put("lexiconImport", lexiconImportService.getStatus());
+        stats.put("responseCache", userResponseCache.getStatistics());
+        stats.put("hibernate", hibernateCacheStatistics.getStatistics());
+        return stats;
+    }
+}
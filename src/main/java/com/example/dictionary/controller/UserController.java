@@ -1,10 +1,12 @@
 package com.example.dictionary.controller;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -15,10 +17,15 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.dictionary.auth.AuthenticatedUser;
+import com.example.dictionary.auth.AuthenticationService;
+import com.example.dictionary.auth.LoginRateLimiter;
+import com.example.dictionary.auth.PasswordHasher;
 import com.example.dictionary.model.User;
 import com.example.dictionary.service.UserService;
 
-import jakarta.servlet.http.HttpSession;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 
 @RestController
 @RequestMapping("/api/users")
@@ -27,6 +34,12 @@ public class UserController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private AuthenticationService authenticationService;
+
+    @Autowired
+    private LoginRateLimiter loginRateLimiter;
+
     @PostMapping("/register")
     public ResponseEntity<?> registerUser(@RequestBody Map<String, String> request) {
         try {
@@ -46,13 +59,16 @@ public class UserController {
             response.put("name", user.getName());
 
             return ResponseEntity.ok(response);
+        } catch (PasswordHasher.PasswordHashingBusyException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
         }
     }
 
     @PostMapping("/login")
-    public ResponseEntity<?> loginUser(@RequestBody Map<String, String> request, HttpSession session) {
+    public ResponseEntity<?> loginUser(@RequestBody Map<String, String> request,
+                                       HttpServletRequest httpRequest, HttpServletResponse httpResponse) {
         String email = request.get("email");
         String password = request.get("password");
 
@@ -60,50 +76,57 @@ public class UserController {
             return ResponseEntity.badRequest().body("Email and password are required");
         }
 
-        boolean isValid = userService.validateUser(email, password);
-        if (isValid) {
-            Optional<User> userOpt = userService.findByEmail(email);
-            if (userOpt.isPresent()) {
-                User user = userOpt.get();
+        // Sınır aşıldıysa veritabanına ve şifre hash havuzuna gidilmez
+        Duration retryAfter = loginRateLimiter.tryAcquire(email, httpRequest.getRemoteAddr());
+        if (retryAfter != null) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter.toSeconds()))
+                    .body("Too many login attempts, please try again later");
+        }
 
-                // Kullanıcı bilgilerini session'a kaydet
-                session.setAttribute("userId", user.getId());
-                session.setAttribute("userEmail", user.getEmail());
+        Optional<User> userOpt;
+        try {
+            userOpt = userService.authenticate(email, password);
+        } catch (PasswordHasher.PasswordHashingBusyException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
+        }
+        if (userOpt.isEmpty()) {
+            loginRateLimiter.recordFailure(email);
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Invalid email or password");
+        }
 
-                Map<String, Object> response = new HashMap<>();
-                response.put("id", user.getId());
-                response.put("email", user.getEmail());
-                response.put("name", user.getName());
+        User user = userOpt.get();
+        loginRateLimiter.recordSuccess(email);
 
-                return ResponseEntity.ok(response);
-            }
+        // Kullanıcı bilgilerini session'a ve/veya token'a kaydet
+        String token = authenticationService.signIn(AuthenticatedUser.of(user), httpRequest, httpResponse);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("id", user.getId());
+        response.put("email", user.getEmail());
+        response.put("name", user.getName());
+        if (token != null) {
+            // Cookie kullanmayan istemciler için (Authorization: Bearer)
+            response.put("token", token);
         }
 
-        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Invalid email or password");
+        return ResponseEntity.ok(response);
     }
 
     @PostMapping("/logout")
-    public ResponseEntity<?> logoutUser(HttpSession session) {
-        session.invalidate();
+    public ResponseEntity<?> logoutUser(HttpServletRequest httpRequest, HttpServletResponse httpResponse) {
+        authenticationService.signOut(httpRequest, httpResponse);
         return ResponseEntity.ok("Çıkış yapıldı");
     }
 
     @GetMapping("/login")
-    public ResponseEntity<?> checkLoginStatus(HttpSession session) {
-        Long userId = (Long) session.getAttribute("userId");
-        String userEmail = (String) session.getAttribute("userEmail");
-
-        if (userId != null && userEmail != null) {
+    public ResponseEntity<?> checkLoginStatus(AuthenticatedUser currentUser) {
+        // Ad da session'da/token'da tutulduğu için veritabanına gidilmez
+        if (currentUser != null) {
             Map<String, Object> response = new HashMap<>();
-            response.put("id", userId);
-            response.put("email", userEmail);
-
-            // Kullanıcı adını da ekle
-            Optional<User> userOpt = userService.findByEmail(userEmail);
-            if (userOpt.isPresent()) {
-                User user = userOpt.get();
-                response.put("name", user.getName());
-            }
+            response.put("id", currentUser.id());
+            response.put("email", currentUser.email());
+            response.put("name", currentUser.name());
 
             return ResponseEntity.ok(response);
         }
@@ -112,8 +135,9 @@ public class UserController {
     }
 
     @PutMapping("/update")
-    public ResponseEntity<?> updateUser(@RequestBody Map<String, String> request, HttpSession session) {
-        Long userId = (Long) session.getAttribute("userId");
+    public ResponseEntity<?> updateUser(@RequestBody Map<String, String> request, AuthenticatedUser currentUser,
+                                        HttpServletRequest httpRequest, HttpServletResponse httpResponse) {
+        Long userId = AuthenticatedUser.idOf(currentUser);
         if (userId == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Session expired");
         }
@@ -135,16 +159,14 @@ public class UserController {
             }
 
             User user = userOpt.get();
-            if (!user.getPassword().equals(currentPassword)) {
+            if (!userService.checkPassword(user, currentPassword)) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Current password is incorrect");
             }
 
             User updatedUser = userService.updateUser(userId, name, email, password);
 
-            // Eğer email değiştiyse session'ı güncelle
-            if (!updatedUser.getEmail().equals(session.getAttribute("userEmail"))) {
-                session.setAttribute("userEmail", updatedUser.getEmail());
-            }
+            // Session'daki/token'daki ad ve email'i güncelle
+            authenticationService.signIn(AuthenticatedUser.of(updatedUser), httpRequest, httpResponse);
 
             Map<String, Object> response = new HashMap<>();
             response.put("id", updatedUser.getId());
@@ -152,14 +174,17 @@ public class UserController {
             response.put("name", updatedUser.getName());
 
             return ResponseEntity.ok(response);
+        } catch (PasswordHasher.PasswordHashingBusyException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
         }
     }
 
     @DeleteMapping("/delete")
-    public ResponseEntity<?> deleteUser(@RequestBody Map<String, String> request, HttpSession session) {
-        Long userId = (Long) session.getAttribute("userId");
+    public ResponseEntity<?> deleteUser(@RequestBody Map<String, String> request, AuthenticatedUser currentUser,
+                                        HttpServletRequest httpRequest, HttpServletResponse httpResponse) {
+        Long userId = AuthenticatedUser.idOf(currentUser);
         if (userId == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Session expired");
         }
@@ -178,13 +203,15 @@ public class UserController {
             }
 
             User user = userOpt.get();
-            if (!user.getPassword().equals(currentPassword)) {
+            if (!userService.checkPassword(user, currentPassword)) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Current password is incorrect");
             }
 
             userService.deleteUser(userId);
-            session.invalidate(); // Oturumu sonlandır
+            authenticationService.signOut(httpRequest, httpResponse); // Oturumu sonlandır
             return ResponseEntity.ok("Account deleted successfully");
+        } catch (PasswordHasher.PasswordHashingBusyException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
         }
@@ -1,52 +1,83 @@
 package com.example.dictionary.controller;
 
+import com.example.dictionary.auth.AuthenticatedUser;
+import com.example.dictionary.cache.UserResponseCache;
 import com.example.dictionary.model.Word;
 import com.example.dictionary.repository.WordRepository;
-import com.example.dictionary.service.Definition;
-import com.example.dictionary.service.DictionaryResponse;
-import com.example.dictionary.service.Meaning;
+import com.example.dictionary.model.WordSense;
+import com.example.dictionary.service.WordExportService;
+import com.example.dictionary.service.WordImportService;
+import com.example.dictionary.service.WordPage;
+import com.example.dictionary.service.WordSenseService;
 import com.example.dictionary.service.WordService;
+import com.example.dictionary.service.WordStatistics;
+import com.example.dictionary.service.WordStatisticsService;
+import com.example.dictionary.shard.ShardRouter;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import jakarta.servlet.http.HttpSession;
+import jakarta.servlet.http.HttpServletRequest;
 
-import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
 @RestController
 @RequestMapping("/api/words")
 public class WordController {
 
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final Set<Integer> CHART_WINDOWS = Set.of(7, 30, 365);
+
     @Autowired
     private WordService wordService;
 
     @Autowired
     private WordRepository wordRepository;
 
-    // Yardımcı metod: Word nesnesini Map'e dönüştürür
-    private Map<String, Object> convertWordToMap(Word word) {
-        Map<String, Object> wordMap = new HashMap<>();
-        wordMap.put("id", word.getId());
-        wordMap.put("english", word.getEnglish());
-        wordMap.put("meaning", word.getMeaning());
-        wordMap.put("turkishMeaning", word.getTurkishMeaning());
-        wordMap.put("exampleUsage", word.getExampleUsage());
-        wordMap.put("difficultyLevel", word.getDifficultyLevel());
-        wordMap.put("addedDate", word.getAddedDate());
-        return wordMap;
-    }
+    @Autowired
+    private WordSenseService wordSenseService;
+
+    @Autowired
+    private WordImportService wordImportService;
+
+    @Autowired
+    private WordExportService wordExportService;
+
+    @Autowired
+    private WordStatisticsService wordStatisticsService;
+
+    @Autowired
+    private UserResponseCache userResponseCache;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private ObjectMapper objectMapper;
 
     @PostMapping
-    public ResponseEntity<?> addWord(@RequestBody Word word, HttpSession session) {
-        Long userId = (Long) session.getAttribute("userId");
+    public ResponseEntity<?> addWord(@RequestBody Word word, AuthenticatedUser currentUser) {
+        Long userId = AuthenticatedUser.idOf(currentUser);
 
         if (userId == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("You need to be logged in to add words");
@@ -68,8 +99,8 @@ public class WordController {
     }
 
     @PostMapping("/force")
-    public ResponseEntity<?> forceAddWord(@RequestBody Word word, HttpSession session) {
-        Long userId = (Long) session.getAttribute("userId");
+    public ResponseEntity<?> forceAddWord(@RequestBody Word word, AuthenticatedUser currentUser) {
+        Long userId = AuthenticatedUser.idOf(currentUser);
 
         if (userId == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("You need to be logged in to add words");
@@ -80,25 +111,143 @@ public class WordController {
         return ResponseEntity.ok(addedWord);
     }
 
-    @GetMapping
-    public List<Map<String, Object>> getAllWords(HttpSession session) {
-        Long userId = (Long) session.getAttribute("userId");
-        List<Word> words;
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> bulkAddWords(HttpServletRequest request, AuthenticatedUser currentUser) throws IOException {
+        return bulkImport(wordImportService.jsonArraySource(request.getInputStream()), currentUser);
+    }
 
-        if (userId != null) {
-            words = wordService.getAllWordsForUser(userId);
-        } else {
-            words = wordService.getAllWords();
+    @PostMapping(value = "/bulk", consumes = {"text/csv", MediaType.TEXT_PLAIN_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<StreamingResponseBody> bulkAddWordsFromText(HttpServletRequest request, AuthenticatedUser currentUser) throws IOException {
+        boolean ndjson = MediaType.APPLICATION_NDJSON.isCompatibleWith(MediaType.parseMediaType(request.getContentType()));
+        return bulkImport(wordImportService.textSource(request.getReader(), ndjson), currentUser);
+    }
+
+    // İstek gövdesi cevap yazılırken okunur; her kelimenin sonucu hazır oldukça NDJSON satırı olarak gönderilir
+    private ResponseEntity<StreamingResponseBody> bulkImport(WordImportService.WordSource words, AuthenticatedUser currentUser) {
+        Long userId = AuthenticatedUser.idOf(currentUser);
+
+        if (userId == null) {
+            return unauthorizedStream("You need to be logged in to add words");
         }
 
-        return words.stream().map(this::convertWordToMap).collect(Collectors.toList());
+        StreamingResponseBody body = outputStream -> wordImportService.importWords(words, userId, result -> {
+            writeNdjsonLine(outputStream, result);
+            try {
+                outputStream.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    // Sayfalamadan tüm liste; kelimeler veritabanı imlecinden okundukça NDJSON satırı olarak yazılır
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamWords(@RequestParam(required = false) String difficulty,
+                                                             AuthenticatedUser currentUser) {
+        Long userId = AuthenticatedUser.idOf(currentUser);
+
+        if (userId == null) {
+            return unauthorizedStream("You need to be logged in to list words");
+        }
+
+        // Tek generator: kelime başına byte[] üretilmez ve her satırda flush edilmez
+        ObjectWriter writer = objectMapper.writerFor(WordResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                generator.setRootValueSeparator(null);
+                wordService.streamWordsForUser(userId, difficulty, word -> {
+                    try {
+                        writer.writeValue(generator, WordResponse.of(word));
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    // Tüm kelimeler dosya olarak: csv, ndjson veya apkg (Anki). İstemci Accept-Encoding: gzip gönderirse
+    // csv ve ndjson sıkıştırılarak yazılır. Başka bir dışa aktarması süren kullanıcı 429, sunucudaki
+    // dışa aktarma sınırı doluysa 503 alır
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportWords(@RequestParam(defaultValue = "csv") String format,
+                                                             @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                                             AuthenticatedUser currentUser) {
+        Long userId = AuthenticatedUser.idOf(currentUser);
+
+        if (userId == null) {
+            return unauthorizedStream("You need to be logged in to export words");
+        }
+
+        WordExportService.Format exportFormat = WordExportService.Format.of(format);
+        if (exportFormat == null) {
+            return ResponseEntity.badRequest()
+                    .contentType(MediaType.TEXT_PLAIN)
+                    .body(outputStream -> outputStream.write("Format must be csv, ndjson or apkg".getBytes(StandardCharsets.UTF_8)));
+        }
+
+        boolean gzip = exportFormat.isCompressible() && acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+        WordExportService.Export export = wordExportService.start(userId, exportFormat);
+        StreamingResponseBody body = outputStream -> {
+            if (gzip) {
+                try (GZIPOutputStream compressed = new GZIPOutputStream(outputStream, 8192)) {
+                    export.writeTo(compressed);
+                }
+            } else {
+                export.writeTo(outputStream);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("words." + exportFormat.getExtension())
+                        .build()
+                        .toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    private void writeNdjsonLine(OutputStream outputStream, Object value) {
+        try {
+            outputStream.write(objectMapper.writeValueAsBytes(value));
+            outputStream.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ResponseEntity<StreamingResponseBody> unauthorizedStream(String message) {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .contentType(MediaType.TEXT_PLAIN)
+                .body(outputStream -> outputStream.write(message.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @GetMapping
+    public ResponseEntity<?> getAllWords(@RequestParam(required = false) String cursor,
+                                         @RequestParam(required = false) Integer size,
+                                         AuthenticatedUser currentUser, WebRequest webRequest) {
+        return cachedListWords(AuthenticatedUser.idOf(currentUser), null, cursor, size, webRequest);
     }
 
     @GetMapping("/search")
-    public List<Map<String, Object>> searchWords(@RequestParam String query, @RequestParam(required = false) Long userId, HttpSession session) {
+    public List<WordResponse> searchWords(@RequestParam String query, @RequestParam(required = false) Long userId, AuthenticatedUser currentUser) {
         // Eğer userId parametresi verilmemişse, session'dan al
         if (userId == null) {
-            userId = (Long) session.getAttribute("userId");
+            userId = AuthenticatedUser.idOf(currentUser);
         }
 
         List<Word> words;
@@ -110,188 +259,142 @@ public class WordController {
             return new ArrayList<>();
         }
 
-        return words.stream().map(this::convertWordToMap).collect(Collectors.toList());
+        return words.stream().map(WordResponse::of).collect(Collectors.toList());
     }
 
     @GetMapping("/sorted")
-    public List<Map<String, Object>> getWordsSortedByDate(HttpSession session) {
-        Long userId = (Long) session.getAttribute("userId");
-        List<Word> words;
+    public ResponseEntity<?> getWordsSortedByDate(@RequestParam(required = false) String cursor,
+                                                  @RequestParam(required = false) Integer size,
+                                                  AuthenticatedUser currentUser, WebRequest webRequest) {
+        return cachedListWords(AuthenticatedUser.idOf(currentUser), null, cursor, size, webRequest);
+    }
 
-        if (userId != null) {
-            words = wordService.getAllWordsSortedByDateDescForUser(userId);
-        } else {
-            words = wordService.getAllWordsSortedByDateDesc();
-        }
+    @GetMapping("/filter")
+    public ResponseEntity<?> filterWordsByDifficulty(@RequestParam String difficulty,
+                                                     @RequestParam(required = false) String cursor,
+                                                     @RequestParam(required = false) Integer size,
+                                                     AuthenticatedUser currentUser, WebRequest webRequest) {
+        return cachedListWords(AuthenticatedUser.idOf(currentUser), difficulty, cursor, size, webRequest);
+    }
 
-        return words.stream().map(this::convertWordToMap).collect(Collectors.toList());
+    // Kullanıcının verisi değişmediyse 304 veya önceden serileştirilmiş sayfa; veritabanına gidilmez
+    private ResponseEntity<?> cachedListWords(Long userId, String difficulty, String cursor, Integer size, WebRequest webRequest) {
+        String key = "words?difficulty=" + difficulty + "&cursor=" + cursor + "&size=" + size;
+        return userResponseCache.respond(userId, key, webRequest, () -> listWords(userId, difficulty, cursor, size));
     }
 
-    @GetMapping("/filter")
-    public List<Map<String, Object>> filterWordsByDifficulty(@RequestParam String difficulty, HttpSession session) {
-        Long userId = (Long) session.getAttribute("userId");
-        List<Word> words;
+    // Liste uç noktaları sayfalıdır; sonraki sayfa varsa imleci X-Next-Cursor başlığında döner.
+    // Giriş yapmamış kullanıcılar sadece en son eklenen kelimelerin sınırlı bir listesini görür.
+    private ResponseEntity<List<WordResponse>> listWords(Long userId, String difficulty, String cursor, Integer size) {
+        if (userId == null) {
+            List<Word> words = wordService.getRecentWords(difficulty);
+            return ResponseEntity.ok(words.stream().map(WordResponse::of).collect(Collectors.toList()));
+        }
 
-        if (userId != null) {
-            words = wordService.getWordsByDifficultyLevelForUser(difficulty, userId);
-        } else {
-            words = wordService.getWordsByDifficultyLevel(difficulty);
+        WordPage page;
+        try {
+            page = wordService.getWordPageForUser(userId, difficulty, cursor, size);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
         }
 
-        return words.stream().map(this::convertWordToMap).collect(Collectors.toList());
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(page.words().stream().map(WordResponse::of).collect(Collectors.toList()));
     }
 
+    // word_daily_count özet tablosundan tek sorgu; giriş yapmış kullanıcıda cevap veri sürümüyle cache'lenir
     @GetMapping("/statistics")
-    public Map<String, Object> getStatistics(HttpSession session) {
-        Map<String, Object> stats = new HashMap<>();
-        Long userId = (Long) session.getAttribute("userId");
+    public ResponseEntity<?> getStatistics(AuthenticatedUser currentUser, WebRequest webRequest) {
+        Long userId = AuthenticatedUser.idOf(currentUser);
+        return userResponseCache.respond(userId, "statistics", webRequest, () -> ResponseEntity.ok(statistics(userId)));
+    }
 
-        if (userId != null) {
-            stats.put("totalWords", wordService.getTotalWordCountForUser(userId));
-            stats.put("todayWords", wordService.getTodayWordCountForUser(userId));
-            stats.put("last7Days", wordService.getLast7DaysWordCountForUser(userId));
-            stats.put("lastMonth", wordService.getLastMonthWordCountForUser(userId));
-            stats.put("lastYear", wordService.getLastYearWordCountForUser(userId));
-        } else {
-            stats.put("totalWords", wordService.getTotalWordCount());
-            stats.put("todayWords", wordService.getTodayWordCount());
-            stats.put("last7Days", wordService.getLast7DaysWordCount());
-            stats.put("lastMonth", wordService.getLastMonthWordCount());
-            stats.put("lastYear", wordService.getLastYearWordCount());
-        }
+    private Map<String, Object> statistics(Long userId) {
+        WordStatistics statistics = wordStatisticsService.getStatistics(userId);
+
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("totalWords", statistics.totalWords());
+        stats.put("todayWords", statistics.todayWords());
+        stats.put("last7Days", statistics.last7Days());
+        stats.put("lastMonth", statistics.lastMonth());
+        stats.put("lastYear", statistics.lastYear());
         return stats;
     }
 
+    // Gün ve zorluk kovaları veritabanında gruplanır; days 7, 30 veya 365 olabilir
     @GetMapping("/chart-data")
-    public Map<String, Object> getChartData(HttpSession session) {
-        Map<String, Object> chartData = new HashMap<>();
-        Long userId = (Long) session.getAttribute("userId");
-
-        // Get words for the user
-        List<Word> words;
-        if (userId != null) {
-            words = wordService.getAllWordsForUser(userId);
-        } else {
-            words = wordService.getAllWords();
+    public ResponseEntity<?> getChartData(@RequestParam(defaultValue = "7") int days, AuthenticatedUser currentUser,
+                                          WebRequest webRequest) {
+        if (!CHART_WINDOWS.contains(days)) {
+            return ResponseEntity.badRequest().build();
         }
+        Long userId = AuthenticatedUser.idOf(currentUser);
+        return userResponseCache.respond(userId, "chart-data?days=" + days, webRequest,
+                () -> ResponseEntity.ok(chartData(userId, days)));
+    }
 
-        // Calculate time data (last 7 days)
-        int[] timeData = new int[7];
-        LocalDateTime today = LocalDateTime.now().toLocalDate().atStartOfDay();
-
-        for (Word word : words) {
-            LocalDateTime wordDate = word.getAddedDate().toLocalDate().atStartOfDay();
-            long daysDiff = ChronoUnit.DAYS.between(wordDate, today);
-
-            if (daysDiff >= 0 && daysDiff < 7) {
-                timeData[6 - (int)daysDiff]++;
-            }
-        }
-
-        // Calculate difficulty data
-        int easyCount = 0, mediumCount = 0, hardCount = 0, noDifficultyCount = 0;
-
-        for (Word word : words) {
-            String difficulty = word.getDifficultyLevel();
-            if (difficulty == null || difficulty.isEmpty()) {
-                noDifficultyCount++;
-            } else {
-                switch (difficulty.toLowerCase()) {
-                    case "easy":
-                        easyCount++;
-                        break;
-                    case "medium":
-                        mediumCount++;
-                        break;
-                    case "hard":
-                        hardCount++;
-                        break;
-                    default:
-                        noDifficultyCount++;
-                        break;
-                }
-            }
-        }
-
-        chartData.put("timeData", timeData);
-        chartData.put("difficultyData", new int[]{easyCount, mediumCount, hardCount, noDifficultyCount});
-
+    private Map<String, Object> chartData(Long userId, int days) {
+        Map<String, Object> chartData = new HashMap<>();
+        chartData.put("timeData", wordStatisticsService.getDailyCounts(userId, days));
+        chartData.put("difficultyData", wordStatisticsService.getDifficultyCounts(userId));
         return chartData;
     }
 
+    // Tüm anlamlar zenginleştirmede kaydedildi: dış servis çağrısı yok, iki indeksli okuma
     @GetMapping("/{id}")
-    public ResponseEntity<Map<String, Object>> getWordById(@PathVariable Long id) {
-        return wordRepository.findById(id)
+    public ResponseEntity<WordDetailResponse> getWordById(@PathVariable Long id) {
+        Integer shard = shardRouter.locateWord(id);
+        if (shard == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return shardRouter.onShard(shard, () -> wordRepository.findById(id)
                 .map(word -> {
-                    Map<String, Object> wordMap = convertWordToMap(word);
-
-                    // API'den tam anlamı almak için
-                    try {
-                        String apiUrl = "https://api.dictionaryapi.dev/api/v2/entries/en/" + word.getEnglish();
-                        RestTemplate restTemplate = new RestTemplate();
-                        DictionaryResponse[] response = restTemplate.getForObject(apiUrl, DictionaryResponse[].class);
-
-                        if (response != null && response.length > 0) {
-                            StringBuilder fullMeaning = new StringBuilder();
-                            DictionaryResponse dictionaryResponse = response[0];
-                            List<Meaning> meanings = dictionaryResponse.getMeanings();
-
-                            if (meanings != null && !meanings.isEmpty()) {
-                                for (int i = 0; i < meanings.size(); i++) {
-                                    Meaning meaning = meanings.get(i);
-                                    List<Definition> definitions = meaning.getDefinitions();
-
-                                    if (definitions != null && !definitions.isEmpty()) {
-                                        for (int j = 0; j < definitions.size(); j++) {
-                                            fullMeaning.append((j+1) + ". " + definitions.get(j).getDefinition());
-                                            fullMeaning.append(". ");
-                                        }
-                                    }
-
-                                    if (i < meanings.size() - 1) {
-                                        fullMeaning.append(" ");
-                                    }
-                                }
-                            }
-
-                            if (fullMeaning.length() > 0) {
-                                wordMap.put("fullMeaning", fullMeaning.toString());
-                            }
-                        }
-                    } catch (Exception e) {
-                        // API hatası durumunda mevcut anlamı kullan
-                        wordMap.put("fullMeaning", word.getMeaning());
-                    }
-
-                    return ResponseEntity.ok(wordMap);
+                    List<WordSense> senses = wordSenseService.getSenses(id);
+                    // Anlamları henüz kaydedilmemiş (eski veya zenginleşmemiş) kelimede mevcut anlam
+                    String fullMeaning = senses.isEmpty() ? word.getMeaning() : WordSenseService.fullMeaning(senses);
+                    return ResponseEntity.ok(new WordDetailResponse(WordResponse.of(word), fullMeaning,
+                            senses.stream().map(WordSenseResponse::of).toList()));
                 })
-                .orElse(ResponseEntity.notFound().build());
+                .orElse(ResponseEntity.notFound().build()));
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<Map<String, Object>> updateWord(@PathVariable Long id, @RequestBody Word updatedWord) {
-        return wordRepository.findById(id)
-                .map(existingWord -> {
-                    existingWord.setEnglish(updatedWord.getEnglish());
-                    existingWord.setMeaning(updatedWord.getMeaning());
-                    existingWord.setTurkishMeaning(updatedWord.getTurkishMeaning());
-                    existingWord.setExampleUsage(updatedWord.getExampleUsage());
-                    existingWord.setDifficultyLevel(updatedWord.getDifficultyLevel());
-                    existingWord.setAddedDate(updatedWord.getAddedDate());
-                    Word saved = wordRepository.save(existingWord);
-
-                    return ResponseEntity.ok(convertWordToMap(saved));
-                })
+    public ResponseEntity<WordResponse> updateWord(@PathVariable Long id, @RequestBody Word updatedWord) {
+        return wordService.updateWord(id, updatedWord)
+                .map(saved -> ResponseEntity.ok(WordResponse.of(saved)))
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteWord(@PathVariable Long id) {
-        if (wordRepository.existsById(id)) {
-            wordRepository.deleteById(id);
+        if (wordService.deleteWord(id)) {
             return ResponseEntity.noContent().build();
         } else {
             return ResponseEntity.notFound().build();
         }
     }
-}
\ No newline at end of file
+
+    // Kullanıcının kendi dışa aktarması sürüyorsa 429, sunucudaki sınır doluysa 503 ile tekrar denenir
+    @ExceptionHandler(WordExportService.ExportInProgressException.class)
+    public ResponseEntity<String> exportInProgress(WordExportService.ExportInProgressException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(e.getMessage());
+    }
+
+    @ExceptionHandler(WordExportService.ExportBusyException.class)
+    public ResponseEntity<String> exportBusy(WordExportService.ExportBusyException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "30")
+                .body(e.getMessage());
+    }
+
+    // Kullanıcının kelimeleri başka shard'a taşınırken yazmalar kısa süre reddedilir
+    @ExceptionHandler(ShardRouter.ShardMoveInProgressException.class)
+    public ResponseEntity<String> shardMoveInProgress(ShardRouter.ShardMoveInProgressException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(e.getMessage());
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.dictionary.controller;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+// GET /api/words/{id}: liste alanlarına ek olarak tüm tanımları birleştiren fullMeaning
+// ve kayıtlı anlamların (tür, tanımlar, örnekler, eş anlamlılar) kendisi
+public record WordDetailResponse(@JsonUnwrapped WordResponse word, String fullMeaning, List<WordSenseResponse> senses) {
+}
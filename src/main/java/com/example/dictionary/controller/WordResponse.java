@@ -0,0 +1,29 @@
+package com.example.dictionary.controller;
+
+import java.time.LocalDateTime;
+
+import com.example.dictionary.model.EnrichmentStatus;
+import com.example.dictionary.model.Word;
+
+// Kelime listelerinin JSON biçimi; her kelime için HashMap oluşturmak yerine
+public record WordResponse(Long id,
+                           String english,
+                           String meaning,
+                           String turkishMeaning,
+                           String exampleUsage,
+                           String difficultyLevel,
+                           LocalDateTime addedDate,
+                           EnrichmentStatus enrichmentStatus) {
+
+    public static WordResponse of(Word word) {
+        return new WordResponse(
+                word.getId(),
+                word.getEnglish(),
+                word.getMeaning(),
+                word.getTurkishMeaning(),
+                word.getExampleUsage(),
+                word.getDifficultyLevel(),
+                word.getAddedDate(),
+                word.getEnrichmentStatus());
+    }
+}
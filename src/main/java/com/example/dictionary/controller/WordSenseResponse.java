@@ -0,0 +1,27 @@
+package com.example.dictionary.controller;
+
+import java.util.List;
+
+import com.example.dictionary.model.WordDefinition;
+import com.example.dictionary.model.WordSense;
+import com.example.dictionary.service.WordSenseService;
+
+public record WordSenseResponse(String partOfSpeech, List<String> synonyms, List<DefinitionResponse> definitions) {
+
+    public static WordSenseResponse of(WordSense sense) {
+        return new WordSenseResponse(
+                sense.getPartOfSpeech(),
+                WordSenseService.splitSynonyms(sense.getSynonyms()),
+                sense.getDefinitions().stream().map(DefinitionResponse::of).toList());
+    }
+
+    public record DefinitionResponse(String definition, String example, List<String> synonyms) {
+
+        static DefinitionResponse of(WordDefinition definition) {
+            return new DefinitionResponse(
+                    definition.getDefinition(),
+                    definition.getExample(),
+                    WordSenseService.splitSynonyms(definition.getSynonyms()));
+        }
+    }
+}
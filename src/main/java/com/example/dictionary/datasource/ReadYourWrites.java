@@ -0,0 +1,119 @@
+package com.example.dictionary.datasource;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import com.example.dictionary.config.DataSourceConfig;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Bir istemci yazdıktan sonra window süresince onun okumaları da primary'ye gider; replika
+// gecikmesi yüzünden az önce eklediği kelimeyi görmemesi önlenir. Son yazma zamanı sunucuda değil
+// istemcide, LAST_WRITE cookie'sinde tutulur: sonraki istek hangi sunucuya giderse gitsin primary'den okur.
+// Cookie sadece yönlendirmeyi etkiler (en kötü ihtimalle okumalar primary'ye gider); window'dan eski veya
+// ileri tarihli değerler yok sayılır. İstek dışındaki yazmalar (zenginleştirme, toplu ekleme) işaretlenmez.
+@Component
+@ConditionalOnExpression(DataSourceConfig.REPLICAS_CONFIGURED)
+public class ReadYourWrites implements AsyncHandlerInterceptor {
+
+    public static final String LAST_WRITE_COOKIE = "LAST_WRITE";
+
+    private static final ThreadLocal<RequestState> CURRENT_REQUEST = new ThreadLocal<>();
+
+    @Value("${dictionary.datasource.read-your-writes.window:5s}")
+    private Duration window;
+
+    @Value("${dictionary.auth.token.cookie-secure:false}")
+    private boolean cookieSecure;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            CURRENT_REQUEST.set(new RequestState(response, isRecent(lastWriteOf(request))));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        CURRENT_REQUEST.remove();
+    }
+
+    // Streaming cevaplar başka thread'de biter; o thread'e istek taşınmaz
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        CURRENT_REQUEST.remove();
+    }
+
+    // Yazma transaction'ı bağlantı aldığında; cevaba (henüz gönderilmediyse) bir kez cookie eklenir
+    public void recordWrite() {
+        RequestState state = CURRENT_REQUEST.get();
+        if (state == null) {
+            return;
+        }
+        state.sticky = true;
+        if (!state.marked && !state.response.isCommitted()) {
+            state.response.addHeader(HttpHeaders.SET_COOKIE, lastWriteCookie(System.currentTimeMillis()).toString());
+            state.marked = true;
+        }
+    }
+
+    public boolean isSticky() {
+        RequestState state = CURRENT_REQUEST.get();
+        return state != null && state.sticky;
+    }
+
+    private boolean isRecent(Long lastWrite) {
+        if (lastWrite == null) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        return lastWrite > now - window.toMillis() && lastWrite <= now + window.toMillis();
+    }
+
+    private ResponseCookie lastWriteCookie(long lastWrite) {
+        return ResponseCookie.from(LAST_WRITE_COOKIE, Long.toString(lastWrite))
+                .httpOnly(true)
+                .secure(cookieSecure)
+                .sameSite("Lax")
+                .path("/")
+                .maxAge(Math.max(1, (window.toMillis() + 999) / 1000))
+                .build();
+    }
+
+    private static Long lastWriteOf(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if (LAST_WRITE_COOKIE.equals(cookie.getName())) {
+                    try {
+                        return Long.valueOf(cookie.getValue());
+                    } catch (NumberFormatException e) {
+                        return null;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private static final class RequestState {
+        private final HttpServletResponse response;
+        private boolean sticky;
+        private boolean marked;
+
+        private RequestState(HttpServletResponse response, boolean sticky) {
+            this.response = response;
+            this.sticky = sticky;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.dictionary.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// readOnly transaction'lardaki bağlantıları sağlıklı replikalara (sırayla), diğer her şeyi primary'ye verir.
+// Transaction'ın readOnly olduğu ilk sorguda bilinir; bu yüzden LazyConnectionDataSourceProxy arkasında
+// kullanılmalı. Replikalar arka planda kontrol edilir: bağlantı geçersizse veya (MySQL) gecikmesi
+// max-lag'i aşmışsa devre dışı kalır. Sağlıklı replika yoksa okumalar da primary'ye gider.
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final ReadYourWrites readYourWrites;
+    private final Duration maxLag;
+    private final AtomicInteger next = new AtomicInteger();
+    private final ScheduledExecutorService healthChecker;
+
+    private final Counter writes;
+    private final Counter stickyReads;
+    private final Counter fallbackReads;
+    private final Counter replicaReads;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<HikariDataSource> replicaPools, ReadYourWrites readYourWrites,
+                                    Duration healthCheckInterval, Duration maxLag, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.readYourWrites = readYourWrites;
+        this.maxLag = maxLag;
+        for (HikariDataSource pool : replicaPools) {
+            Replica replica = new Replica(pool);
+            replicas.add(replica);
+            Gauge.builder("dictionary.datasource.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                    .tag("replica", pool.getPoolName())
+                    .register(meterRegistry);
+        }
+
+        this.writes = connections(meterRegistry, "primary", "write");
+        this.stickyReads = connections(meterRegistry, "primary", "read-your-writes");
+        this.fallbackReads = connections(meterRegistry, "primary", "no-healthy-replica");
+        this.replicaReads = connections(meterRegistry, "replica", "read");
+
+        // İlk kontrol bitene kadar okumalar primary'den yapılır
+        this.healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        healthChecker.scheduleWithFixedDelay(this::checkReplicas, 0, healthCheckInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route().getConnection(username, password);
+    }
+
+    private DataSource route() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            // Yazma transaction'ı: istemcinin sonraki okumaları da bir süre primary'den
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                readYourWrites.recordWrite();
+            }
+            writes.increment();
+            return primary;
+        }
+        if (readYourWrites.isSticky()) {
+            stickyReads.increment();
+            return primary;
+        }
+        Replica replica = nextHealthyReplica();
+        if (replica == null) {
+            fallbackReads.increment();
+            return primary;
+        }
+        replicaReads.increment();
+        return replica.pool;
+    }
+
+    private Replica nextHealthyReplica() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private void checkReplicas() {
+        for (Replica replica : replicas) {
+            replica.healthy = isHealthy(replica.pool);
+        }
+    }
+
+    private boolean isHealthy(HikariDataSource pool) {
+        try (Connection connection = pool.getConnection()) {
+            if (!connection.isValid(2)) {
+                return false;
+            }
+            if (!"MySQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName())) {
+                return true;
+            }
+            return withinMaxLag(connection);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    // Seconds_Behind_Source boşsa replikasyon durmuştur. Sorgu çalışmazsa (yetki, eski sürüm)
+    // veya sunucu replika değilse gecikme bilinmez, bağlantı sağlıklıysa kullanılır.
+    private boolean withinMaxLag(Connection connection) {
+        try (Statement statement = connection.createStatement();
+             ResultSet status = statement.executeQuery("SHOW REPLICA STATUS")) {
+            if (!status.next()) {
+                return true;
+            }
+            long lagSeconds = status.getLong("Seconds_Behind_Source");
+            return !status.wasNull() && lagSeconds <= maxLag.toSeconds();
+        } catch (SQLException e) {
+            return true;
+        }
+    }
+
+    @Override
+    public void close() {
+        healthChecker.shutdownNow();
+        for (Replica replica : replicas) {
+            replica.pool.close();
+        }
+    }
+
+    private static Counter connections(MeterRegistry meterRegistry, String target, String reason) {
+        return Counter.builder("dictionary.datasource.connections")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private static final class Replica {
+        private final HikariDataSource pool;
+        private volatile boolean healthy;
+
+        private Replica(HikariDataSource pool) {
+            this.pool = pool;
+        }
+    }
+}
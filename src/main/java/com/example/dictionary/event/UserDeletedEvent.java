@@ -0,0 +1,5 @@
+package com.example.dictionary.event;
+
+// Kullanıcı (ve cascade ile tüm kelimeleri) silindiğinde yayınlanır
+public record UserDeletedEvent(Long userId) {
+}
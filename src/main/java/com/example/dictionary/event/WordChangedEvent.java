@@ -0,0 +1,32 @@
+package com.example.dictionary.event;
+
+import java.time.LocalDateTime;
+
+import com.example.dictionary.model.Word;
+
+// Bir kelime kaydedildiğinde, güncellendiğinde veya silindiğinde yayınlanır.
+// Arama indeksi gibi türetilmiş veriler bu olayla güncel tutulur.
+public record WordChangedEvent(Type type, Word word, Long userId, LocalDateTime previousAddedDate) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public static WordChangedEvent created(Word word) {
+        return new WordChangedEvent(Type.CREATED, word, userIdOf(word), null);
+    }
+
+    public static WordChangedEvent updated(Word word, LocalDateTime previousAddedDate) {
+        return new WordChangedEvent(Type.UPDATED, word, userIdOf(word), previousAddedDate);
+    }
+
+    public static WordChangedEvent deleted(Word word) {
+        return new WordChangedEvent(Type.DELETED, word, userIdOf(word), word.getAddedDate());
+    }
+
+    private static Long userIdOf(Word word) {
+        return word.getUser() != null ? word.getUser().getId() : null;
+    }
+}
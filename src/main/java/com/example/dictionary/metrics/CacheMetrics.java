@@ -0,0 +1,53 @@
+package com.example.dictionary.metrics;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.example.dictionary.cache.BoundedCache;
+import com.example.dictionary.cache.SingleFlight;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// BoundedCache sayaçlarını Micrometer'ın standart cache metrikleri olarak yayınlar
+// (cache.gets{result=hit|miss}, cache.evictions, cache.size); isabet oranı bunlardan hesaplanır.
+@Component
+public class CacheMetrics {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    public void monitor(String name, BoundedCache<?, ?> cache) {
+        FunctionCounter.builder("cache.gets", cache, BoundedCache::getHits)
+                .tag("cache", name)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.gets", cache, BoundedCache::getMisses)
+                .tag("cache", name)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.evictions", cache, BoundedCache::getEvictions)
+                .tag("cache", name)
+                .register(meterRegistry);
+        Gauge.builder("cache.size", cache, BoundedCache::size)
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    // dictionary.singleflight.calls{result=leader|coalesced}: coalesced, dış servise gitmeden
+    // başka bir çağrının sonucunu paylaşan çağrılardır
+    public void monitor(String name, SingleFlight<?, ?> singleFlight) {
+        FunctionCounter.builder("dictionary.singleflight.calls", singleFlight, SingleFlight::getLeaders)
+                .tag("name", name)
+                .tag("result", "leader")
+                .register(meterRegistry);
+        FunctionCounter.builder("dictionary.singleflight.calls", singleFlight, SingleFlight::getCoalesced)
+                .tag("name", name)
+                .tag("result", "coalesced")
+                .register(meterRegistry);
+        Gauge.builder("dictionary.singleflight.in.flight", singleFlight, SingleFlight::inFlight)
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+}
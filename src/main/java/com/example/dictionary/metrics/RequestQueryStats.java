@@ -0,0 +1,43 @@
+package com.example.dictionary.metrics;
+
+// Bir HTTP isteği boyunca çalışan JDBC ifadelerinin sayısı ve toplam süresi.
+// İstek thread'ine bağlıdır; arka plan thread'lerinde current() null döner.
+public final class RequestQueryStats {
+
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long totalNanos;
+    private long startedAt;
+
+    static void begin() {
+        CURRENT.set(new RequestQueryStats());
+    }
+
+    static RequestQueryStats current() {
+        return CURRENT.get();
+    }
+
+    static RequestQueryStats end() {
+        RequestQueryStats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+
+    void statementStarted() {
+        startedAt = System.nanoTime();
+    }
+
+    void statementFinished() {
+        statements++;
+        totalNanos += System.nanoTime() - startedAt;
+    }
+
+    int getStatements() {
+        return statements;
+    }
+
+    long getTotalNanos() {
+        return totalNanos;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.dictionary.metrics;
+
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// Dış servis çağrılarının süresi ve hataları, upstream etiketiyle
+// (dictionary.upstream.requests, dictionary.upstream.errors)
+@Component
+public class UpstreamMetrics {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    public <T> T record(String upstream, Supplier<T> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return call.get();
+        } catch (RuntimeException e) {
+            outcome = "error";
+            Counter.builder("dictionary.upstream.errors")
+                    .tag("upstream", upstream)
+                    .tag("exception", e.getClass().getSimpleName())
+                    .register(meterRegistry)
+                    .increment();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("dictionary.upstream.requests")
+                    .tag("upstream", upstream)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.dictionary.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "dictionary_cache")
+public class DictionaryCacheEntry {
+
+    // Küçük harfe çevrilmiş kelime
+    @Id
+    @Column(length = 191)
+    private String headword;
+
+    // dictionaryapi.dev cevabının JSON hali (DictionaryResponse[])
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+
+    @Column(name = "fetched_at", nullable = false)
+    private LocalDateTime fetchedAt;
+}
@@ -0,0 +1,8 @@
+package com.example.dictionary.model;
+
+// Kelimenin sözlük/çeviri bilgilerinin doldurulma durumu
+public enum EnrichmentStatus {
+    PENDING,
+    COMPLETED,
+    FAILED
+}
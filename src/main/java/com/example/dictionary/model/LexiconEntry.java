@@ -0,0 +1,30 @@
+package com.example.dictionary.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// Yerel sözlük dökümünden yüklenen kelime; dictionary_cache'in aksine süresi dolmaz
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "lexicon_entry")
+public class LexiconEntry {
+
+    // Küçük harfe çevrilmiş kelime
+    @Id
+    @Column(length = 191)
+    private String headword;
+
+    // Aynı kelimenin dökümdeki ardışık girişleri (DictionaryResponse[] JSON)
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+
+    @Column(name = "imported_at", nullable = false)
+    private LocalDateTime importedAt;
+}
@@ -0,0 +1,40 @@
+package com.example.dictionary.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// Döküm yüklemesinin kaldığı yer; her batch ile aynı transaction'da güncellenir,
+// böylece yarıda kalan yükleme son yazılan batch'ten devam eder
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "lexicon_import")
+public class LexiconImport {
+
+    // Dosyanın mutlak yolu
+    @Id
+    @Column(length = 191)
+    private String source;
+
+    // Dosya değiştiyse (boyut farklı) yükleme baştan başlar
+    @Column(name = "file_size", nullable = false)
+    private long fileSize;
+
+    // Yazılmış giriş sayısı; devam ederken bu kadar giriş okunmadan atlanır
+    @Column(nullable = false)
+    private long position;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+}
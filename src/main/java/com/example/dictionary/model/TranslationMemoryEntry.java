@@ -0,0 +1,38 @@
+package com.example.dictionary.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "translation_memory")
+public class TranslationMemoryEntry {
+
+    // SHA-256(kaynak dil | hedef dil | metin), metin TEXT olduğu için doğrudan anahtar yapılamıyor
+    @Id
+    @Column(name = "memory_key", length = 64)
+    private String key;
+
+    @Column(name = "source_lang", nullable = false, length = 8)
+    private String sourceLang;
+
+    @Column(name = "target_lang", nullable = false, length = 8)
+    private String targetLang;
+
+    @Lob
+    @Column(name = "source_text", nullable = false)
+    private String sourceText;
+
+    @Lob
+    @Column(name = "translated_text", nullable = false)
+    private String translatedText;
+
+    @Column(name = "last_used_at", nullable = false)
+    private LocalDateTime lastUsedAt;
+}
@@ -1,6 +1,12 @@
 package com.example.dictionary.model;
 
 import java.time.LocalDateTime;
+import java.util.Locale;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
@@ -14,14 +20,36 @@ import lombok.*;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-
+// Şema Flyway ile yönetilir (db/migration); indeksler buraya sadece belge olarak yazıldı
+@Table(name = "word", indexes = {
+        @Index(name = "idx_word_user_added", columnList = "user_id, added_date, id"),
+        @Index(name = "idx_word_user_difficulty_added", columnList = "user_id, difficulty_level, added_date, id"),
+        @Index(name = "idx_word_user_english_lower", columnList = "user_id, english_lower"),
+        @Index(name = "idx_word_added", columnList = "added_date, id"),
+        @Index(name = "idx_word_difficulty_added", columnList = "difficulty_level, added_date, id"),
+        @Index(name = "idx_word_enrichment_added", columnList = "enrichment_status, added_date")
+})
+// İkinci seviye cache: id ile yüklemeler (detay, güncelleme, silme, arama sonuçları) veritabanına gitmez
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Word.CACHE_REGION)
 public class Word {
 
+    public static final int ID_ALLOCATION_SIZE = 50;
+    public static final String CACHE_REGION = "word";
+
+    // IDENTITY, Hibernate'in JDBC batch insert yapmasını engellediği için sequence kullanılıyor
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "word_seq")
+    @SequenceGenerator(name = "word_seq", sequenceName = "word_seq", allocationSize = Word.ID_ALLOCATION_SIZE)
     private Long id;
 
     private String english;
+
+    // english'in küçük harfli hali; büyük/küçük harf duyarsız tekrar kontrolü indeksten yapılır
+    @Column(name = "english_lower")
+    @JsonIgnore
+    private String englishLower;
+
     private String meaning;
     private String turkishMeaning;
     private String exampleUsage;
@@ -30,6 +58,12 @@ public class Word {
     @Column(name = "added_date")
     private LocalDateTime addedDate;
 
+    // Eski kayıtlarda null olabilir, null tamamlanmış kabul edilir
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(name = "enrichment_status", length = 16)
+    private EnrichmentStatus enrichmentStatus;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     @JsonIgnore
@@ -40,6 +74,16 @@ public class Word {
         if (addedDate == null) {
             addedDate = LocalDateTime.now();
         }
+        englishLower = lowerCase(english);
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        englishLower = lowerCase(english);
+    }
+
+    public static String lowerCase(String english) {
+        return english != null ? english.toLowerCase(Locale.ROOT) : null;
     }
 
 
@@ -0,0 +1,44 @@
+package com.example.dictionary.model;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// Kullanıcı başına günlük eklenen kelime sayısı (istatistikler word tablosunu taramadan buradan okunur)
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@IdClass(WordDailyCount.Key.class)
+@Table(name = "word_daily_count")
+public class WordDailyCount {
+
+    // Kullanıcısız eklenen kelimeler
+    public static final long NO_USER = 0L;
+    // Tüm kullanıcıların toplamı (giriş yapmamış kullanıcı istatistikleri)
+    public static final long ALL_USERS = -1L;
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "count_date")
+    private LocalDate countDate;
+
+    @Column(name = "word_count", nullable = false)
+    private long wordCount;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long userId;
+        private LocalDate countDate;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.dictionary.model;
+
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "word_definition", indexes = {
+        @Index(name = "idx_word_definition_sense", columnList = "sense_id, definition_order")
+})
+public class WordDefinition {
+
+    public static final int MAX_TEXT_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "sense_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private WordSense sense;
+
+    @Column(name = "definition_order", nullable = false)
+    private int definitionOrder;
+
+    @Column(length = MAX_TEXT_LENGTH)
+    private String definition;
+
+    @Column(length = MAX_TEXT_LENGTH)
+    private String example;
+
+    // Virgülle ayrılmış eş anlamlılar
+    @Column(length = MAX_TEXT_LENGTH)
+    private String synonyms;
+}
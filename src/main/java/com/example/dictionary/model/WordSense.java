@@ -0,0 +1,48 @@
+package com.example.dictionary.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// Kelimenin sözlükteki bir anlam grubu (isim, fiil...); zenginleştirmede bir kez yazılır
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "word_sense", indexes = {
+        @Index(name = "idx_word_sense_word", columnList = "word_id, sense_order")
+})
+public class WordSense {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Kelime silinince veritabanı anlamları da siler (kullanıcı silmede de)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "word_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Word word;
+
+    @Column(name = "sense_order", nullable = false)
+    private int senseOrder;
+
+    @Column(name = "part_of_speech", length = 64)
+    private String partOfSpeech;
+
+    // Virgülle ayrılmış eş anlamlılar
+    @Column(length = 1000)
+    private String synonyms;
+
+    @OneToMany(mappedBy = "sense", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("definitionOrder")
+    @Builder.Default
+    private List<WordDefinition> definitions = new ArrayList<>();
+}
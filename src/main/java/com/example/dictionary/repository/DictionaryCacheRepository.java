@@ -0,0 +1,25 @@
+package com.example.dictionary.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.dictionary.model.DictionaryCacheEntry;
+
+@Repository
+public interface DictionaryCacheRepository extends JpaRepository<DictionaryCacheEntry, String> {
+
+    @Modifying
+    @Transactional
+    @Query("delete from DictionaryCacheEntry e where e.fetchedAt < :cutoff")
+    int deleteFetchedBefore(LocalDateTime cutoff);
+
+    @Query("select e.headword from DictionaryCacheEntry e order by e.fetchedAt asc")
+    List<String> findOldestHeadwords(Pageable pageable);
+}
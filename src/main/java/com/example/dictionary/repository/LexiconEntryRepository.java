@@ -0,0 +1,10 @@
+package com.example.dictionary.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.example.dictionary.model.LexiconEntry;
+
+@Repository
+public interface LexiconEntryRepository extends JpaRepository<LexiconEntry, String> {
+}
@@ -0,0 +1,10 @@
+package com.example.dictionary.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.example.dictionary.model.LexiconImport;
+
+@Repository
+public interface LexiconImportRepository extends JpaRepository<LexiconImport, String> {
+}
@@ -0,0 +1,26 @@
+package com.example.dictionary.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.dictionary.model.TranslationMemoryEntry;
+
+@Repository
+public interface TranslationMemoryRepository extends JpaRepository<TranslationMemoryEntry, String> {
+
+    @Query("select e.key from TranslationMemoryEntry e order by e.lastUsedAt asc")
+    List<String> findLeastRecentlyUsedKeys(Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("update TranslationMemoryEntry e set e.lastUsedAt = :usedAt where e.key in :keys")
+    int touchAll(Collection<String> keys, LocalDateTime usedAt);
+}
@@ -2,13 +2,32 @@ package com.example.dictionary.repository;
 
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.dictionary.model.User;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+
+    String BY_EMAIL_CACHE_REGION = "user-by-email";
+
+    // Giriş ve kayıt kontrolü replikadan değil primary'den (readOnly olmayan transaction):
+    // yeni kayıt olmuş veya şifresini yeni değiştirmiş kullanıcı gecikmeden etkilenmez.
+    // Sorgu cache'inde email -> id tutulur, kullanıcı "user" bölgesinden gelir; users tablosuna
+    // yapılan her yazma bu bölgedeki sonuçları geçersiz kılar
+    @Transactional
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = BY_EMAIL_CACHE_REGION)
+    })
     Optional<User> findByEmail(String email);
+
+    @Transactional
     boolean existsByEmail(String email);
 }
@@ -0,0 +1,68 @@
+package com.example.dictionary.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.dictionary.model.WordDailyCount;
+import com.example.dictionary.service.WordStatistics;
+
+import jakarta.persistence.QueryHint;
+
+@Repository
+@Transactional(readOnly = true)
+public interface WordDailyCountRepository extends JpaRepository<WordDailyCount, WordDailyCount.Key> {
+
+    // Native yazmalarda etkilenen tablo belirtilmezse Hibernate ikinci seviye cache'in tamamını boşaltır
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "word_daily_count"))
+    @Query(value = "insert into word_daily_count (user_id, count_date, word_count) values (:userId, :countDate, :delta)"
+            + " on duplicate key update word_count = word_count + :delta", nativeQuery = true)
+    void increment(Long userId, LocalDate countDate, long delta);
+
+    // Toplam, bugün, son 7 gün, son ay ve son yıl tek sorguda
+    @Query("select new com.example.dictionary.service.WordStatistics("
+            + " coalesce(sum(c.wordCount), 0L),"
+            + " coalesce(sum(case when c.countDate >= :today then c.wordCount else 0L end), 0L),"
+            + " coalesce(sum(case when c.countDate >= :weekStart then c.wordCount else 0L end), 0L),"
+            + " coalesce(sum(case when c.countDate > :monthAgo then c.wordCount else 0L end), 0L),"
+            + " coalesce(sum(case when c.countDate > :yearAgo then c.wordCount else 0L end), 0L))"
+            + " from WordDailyCount c where c.userId = :userId")
+    WordStatistics summarize(Long userId, LocalDate today, LocalDate weekStart, LocalDate monthAgo, LocalDate yearAgo);
+
+    List<WordDailyCount> findByUserId(Long userId);
+
+    // Grafik için gün kovaları; satırlar zaten (kullanıcı, gün) başına tekil
+    @Query("select c.countDate, c.wordCount from WordDailyCount c"
+            + " where c.userId = :userId and c.countDate >= :from and c.wordCount <> 0")
+    List<Object[]> findDailyCounts(Long userId, LocalDate from);
+
+    @Modifying
+    @Transactional
+    @Query("delete from WordDailyCount c where c.userId = :userId")
+    void deleteByUserId(Long userId);
+
+    // Tablo boşken word tablosundan bir kerelik doldurma (kullanıcı satırları + ALL_USERS toplamı)
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "word_daily_count"))
+    @Query(value = "insert into word_daily_count (user_id, count_date, word_count)"
+            + " select coalesce(user_id, 0), cast(added_date as date), count(*) from word"
+            + " where added_date is not null group by coalesce(user_id, 0), cast(added_date as date)", nativeQuery = true)
+    int rebuildUserRows();
+
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "word_daily_count"))
+    @Query(value = "insert into word_daily_count (user_id, count_date, word_count)"
+            + " select -1, count_date, sum(word_count) from word_daily_count where user_id >= 0 group by count_date", nativeQuery = true)
+    int rebuildTotalRows();
+}
@@ -1,40 +1,148 @@
 package com.example.dictionary.repository;
 
-import com.example.dictionary.model.User;
 import com.example.dictionary.model.Word;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.QueryHint;
 
+// Tanımlanan sorgular Spring Data'nın CRUD okumaları gibi readOnly transaction'da çalışır (replika
+// varsa oradan okunur); yazmalar ve primary'den yapılması gereken okumalar kendi @Transactional'ını taşır
 @Repository
+@Transactional(readOnly = true)
 public interface WordRepository extends JpaRepository<Word, Long> {
 	Optional<Word> findByEnglishIgnoreCase(String english);
-	Optional<Word> findByEnglishIgnoreCaseAndUser(String english, User user);
+
+	// Kullanıcıya ait sorgular user.id üzerinden çalışır, User entity'sini yüklemeye gerek kalmaz.
+	// Türetilmiş (findByUserId...) sorgular users tablosuna join ekler; kullanıcıların bulunmadığı
+	// shard'larda sonuç boş döneceği için user_id'ye doğrudan bakan JPQL yazılır.
+	// Tekrar kontrolleri english_lower üzerinden: (user_id, english_lower) indeksi kullanılır.
+	// Eklemeden hemen önce yapıldıkları için replikadan değil primary'den okunur
+	@Transactional
+	@Query("select count(w) > 0 from Word w where w.user.id = :userId and w.englishLower = :englishLower")
+	boolean existsByUserIdAndEnglishLower(Long userId, String englishLower);
+
+	// Toplu eklemede kullanıcının zaten sahip olduğu kelimeleri tek sorguda bulur
+	@Transactional
+	@Query("select w.englishLower from Word w where w.user.id = :userId and w.englishLower in :englishLowerWords")
+	Set<String> findExistingEnglishLowerCase(Long userId, Collection<String> englishLowerWords);
 
 	List<Word> findByEnglishContainingIgnoreCaseOrMeaningContainingIgnoreCase(String english, String meaning);
-	List<Word> findByUserAndEnglishContainingIgnoreCaseOrUserAndMeaningContainingIgnoreCase(User user, String english, User user2, String meaning);
 
 	List<Word> findAllByOrderByAddedDateDesc();
-	List<Word> findByUserOrderByAddedDateDesc(User user);
+	List<Word> findAllByOrderByAddedDateDescIdDesc(Limit limit);
+
+	// Keyset (seek) sayfalama: (added_date, id) üzerinden azalan sırada bir sonraki sayfa
+	@Query("select w from Word w where w.user.id = :userId order by w.addedDate desc, w.id desc")
+	List<Word> findPageByUserId(Long userId, Limit limit);
+
+	@Query("select w from Word w where w.user.id = :userId"
+			+ " and (w.addedDate < :addedDate or (w.addedDate = :addedDate and w.id < :id))"
+			+ " order by w.addedDate desc, w.id desc")
+	List<Word> findPageByUserIdAfter(Long userId, LocalDateTime addedDate, Long id, Limit limit);
+
+	@Query("select w from Word w where w.user.id = :userId and w.difficultyLevel = :difficultyLevel"
+			+ " order by w.addedDate desc, w.id desc")
+	List<Word> findPageByUserIdAndDifficultyLevel(Long userId, String difficultyLevel, Limit limit);
+
+	@Query("select w from Word w where w.user.id = :userId and w.difficultyLevel = :difficultyLevel"
+			+ " and (w.addedDate < :addedDate or (w.addedDate = :addedDate and w.id < :id))"
+			+ " order by w.addedDate desc, w.id desc")
+	List<Word> findPageByUserIdAndDifficultyLevelAfter(Long userId, String difficultyLevel, LocalDateTime addedDate, Long id, Limit limit);
+
+	// added_date'i null eski kayıtlar azalan sıralamada en sondadır (MySQL ve H2'de null en küçüktür);
+	// tarihli kelimeler bitince bu kısım sadece id ile sayfalanır
+	@Query("select w from Word w where w.user.id = :userId and w.addedDate is null and w.id < :id order by w.id desc")
+	List<Word> findUndatedPageByUserIdBefore(Long userId, Long id, Limit limit);
+
+	@Query("select w from Word w where w.user.id = :userId and w.difficultyLevel = :difficultyLevel"
+			+ " and w.addedDate is null and w.id < :id order by w.id desc")
+	List<Word> findUndatedPageByUserIdAndDifficultyLevelBefore(Long userId, String difficultyLevel, Long id, Limit limit);
+	// Tam listeler (arama indeksi yükleme, sayfasız liste) ikinci seviye cache'e yazılmaz:
+	// binlerce kelime, id ile yüklenen kelimeleri cache'ten atardı
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE"))
+	@Query("select w from Word w where w.user.id = :userId order by w.addedDate desc")
+	List<Word> findByUserIdOrderByAddedDateDesc(Long userId);
+
+	// Sayfasız tam liste: satırlar imleçle okunur (MySQL'de useCursorFetch=true), entity'ler salt okunur
+	@QueryHints({
+			@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+			@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+			@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+	})
+	@Query("select w from Word w where w.user.id = :userId order by w.addedDate desc, w.id desc")
+	Stream<Word> streamByUserId(Long userId);
+
+	@QueryHints({
+			@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+			@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+			@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+	})
+	@Query("select w from Word w where w.user.id = :userId and w.difficultyLevel = :difficultyLevel"
+			+ " order by w.addedDate desc, w.id desc")
+	Stream<Word> streamByUserIdAndDifficultyLevel(Long userId, String difficultyLevel);
 
 	List<Word> findByDifficultyLevel(String difficultyLevel);
-	List<Word> findByDifficultyLevelAndUser(String difficultyLevel, User user);
 
 	List<Word> findByDifficultyLevelOrderByAddedDateDesc(String difficultyLevel);
-	List<Word> findByDifficultyLevelAndUserOrderByAddedDateDesc(String difficultyLevel, User user);
+	List<Word> findByDifficultyLevelOrderByAddedDateDescIdDesc(String difficultyLevel, Limit limit);
+	@Query("select w from Word w where w.difficultyLevel = :difficultyLevel and w.user.id = :userId order by w.addedDate desc")
+	List<Word> findByDifficultyLevelAndUserIdOrderByAddedDateDesc(String difficultyLevel, Long userId);
 
     long countByAddedDateAfter(LocalDateTime date);
-    long countByAddedDateAfterAndUser(LocalDateTime date, User user);
+    @Query("select count(w) from Word w where w.addedDate > :date and w.user.id = :userId")
+    long countByAddedDateAfterAndUserId(LocalDateTime date, Long userId);
 
     long countByAddedDateBefore(LocalDateTime date);
-    long countByAddedDateBeforeAndUser(LocalDateTime date, User user);
+    @Query("select count(w) from Word w where w.addedDate < :date and w.user.id = :userId")
+    long countByAddedDateBeforeAndUserId(LocalDateTime date, Long userId);
 
     long countByAddedDateGreaterThanEqual(LocalDateTime date);
-    long countByAddedDateGreaterThanEqualAndUser(LocalDateTime date, User user);
+    @Query("select count(w) from Word w where w.addedDate >= :date and w.user.id = :userId")
+    long countByAddedDateGreaterThanEqualAndUserId(LocalDateTime date, Long userId);
+
+    @Query("select count(w) from Word w where w.user.id = :userId")
+    long countByUserId(Long userId);
+
+    // Zenginleştirmesi yarıda kalmış kelimeler (yeniden başlatma, dolu havuz), en eskisi önce. Replika
+    // gecikmesiyle biten kelimeler tekrar zenginleştirilmesin diye primary'den okunur
+    @Transactional
+    @Query("select w from Word w where w.enrichmentStatus = com.example.dictionary.model.EnrichmentStatus.PENDING"
+            + " and w.addedDate < :addedBefore order by w.addedDate")
+    List<Word> findPendingAddedBefore(LocalDateTime addedBefore, Limit limit);
+
+    // Kelimenin sahibi (kullanıcısız kelimede 0); kelime shard'lar arasında aranırken
+    @Query("select coalesce(w.user.id, 0L) from Word w where w.id = :id")
+    Optional<Long> findOwnerIdById(Long id);
+
+    @Query("select count(distinct w.user.id) from Word w")
+    long countUsers();
+
+    // word_sense ve word_definition satırlarını veritabanındaki on delete cascade siler
+    @Modifying
+    @Transactional
+    @Query("delete from Word w where w.user.id = :userId")
+    int deleteByUserId(Long userId);
+
+    // Zorluk seviyesine göre kelime sayıları, entity yüklemeden
+    @Query("select lower(w.difficultyLevel), count(w) from Word w where w.user.id = :userId group by lower(w.difficultyLevel)")
+    List<Object[]> countByDifficultyLevelForUser(Long userId);
 
-    long countByUser(User user);
+    @Query("select lower(w.difficultyLevel), count(w) from Word w group by lower(w.difficultyLevel)")
+    List<Object[]> countByDifficultyLevel();
 }
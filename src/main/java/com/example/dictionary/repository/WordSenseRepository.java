@@ -0,0 +1,32 @@
+package com.example.dictionary.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.dictionary.model.WordSense;
+
+@Repository
+@Transactional(readOnly = true)
+public interface WordSenseRepository extends JpaRepository<WordSense, Long> {
+
+    // Tanımlarla birlikte tek sorgu (idx_word_sense_word + idx_word_definition_sense)
+    @Query("select distinct s from WordSense s left join fetch s.definitions "
+            + "where s.word.id = :wordId order by s.senseOrder")
+    List<WordSense> findWithDefinitionsByWordId(Long wordId);
+
+    // Shard taşımada bir grup kelimenin anlamları tek sorguda
+    @Query("select distinct s from WordSense s left join fetch s.definitions where s.word.id in :wordIds")
+    List<WordSense> findWithDefinitionsByWordIdIn(Collection<Long> wordIds);
+
+    // word_definition satırlarını veritabanındaki on delete cascade siler
+    @Modifying
+    @Transactional
+    @Query("delete from WordSense s where s.word.id = :wordId")
+    int deleteByWordId(Long wordId);
+}
@@ -0,0 +1,197 @@
+package com.example.dictionary.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+// Tek kullanıcının ters indeksi. Terimler sıralı tutulur, böylece ön ek araması
+// terim sözlüğünde bir aralık taramasıdır (n-gram tablosu kadar bellek harcamaz).
+// Eşleşme alt dize değil terim ön ekidir: "ple" "apple"ı bulmaz, "app" bulur.
+class UserIndex {
+
+    static final int FIELD_ENGLISH = 0;
+    static final int FIELD_TURKISH = 1;
+    static final int FIELD_MEANING = 2;
+    static final int FIELD_EXAMPLE = 3;
+    static final int FIELD_COUNT = 4;
+
+    // Alan ağırlıkları: kelimenin kendisinde eşleşme açıklamadaki eşleşmeden değerlidir
+    private static final int[] FIELD_WEIGHTS = {16, 8, 4, 2};
+
+    private static final long LOAD_WAIT_SECONDS = 30;
+
+    // terim -> (kelime id -> terimin geçtiği alanların bit maskesi)
+    private final TreeMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+    // english alanında geçen terimler -> kaç kelimenin english alanında geçtiği
+    private final TreeMap<String, Integer> headwordTerms = new TreeMap<>();
+    // kelime id -> terimleri (silme/güncellemede postings'ten çıkarmak için)
+    private final Map<Long, Set<String>> documentTerms = new HashMap<>();
+    // yükleme sürerken olayla silinen kelimeler; yükleme bunları geri eklememeli
+    private final Set<Long> removedWhileLoading = new HashSet<>();
+
+    private final CountDownLatch loaded = new CountDownLatch(1);
+    private boolean loading = true;
+
+    synchronized void put(Long wordId, String[] fields) {
+        removeTerms(wordId);
+        removedWhileLoading.remove(wordId);
+
+        Map<String, Integer> termFields = new HashMap<>();
+        for (int field = 0; field < FIELD_COUNT; field++) {
+            for (String term : WordSearchIndex.tokenize(fields[field])) {
+                termFields.merge(term, 1 << field, (a, b) -> a | b);
+            }
+        }
+        for (Map.Entry<String, Integer> entry : termFields.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), t -> new HashMap<>()).put(wordId, entry.getValue());
+            if (isHeadword(entry.getValue())) {
+                headwordTerms.merge(entry.getKey(), 1, Integer::sum);
+            }
+        }
+        documentTerms.put(wordId, termFields.keySet());
+    }
+
+    // Sadece ilk yükleme kullanır: olayla gelmiş daha yeni veriyi ezmez
+    synchronized void putIfAbsent(Long wordId, String[] fields) {
+        if (!documentTerms.containsKey(wordId) && !removedWhileLoading.contains(wordId)) {
+            put(wordId, fields);
+        }
+    }
+
+    synchronized void remove(Long wordId) {
+        removeTerms(wordId);
+        if (loading) {
+            removedWhileLoading.add(wordId);
+        }
+    }
+
+    synchronized void finishLoading() {
+        loading = false;
+        removedWhileLoading.clear();
+        loaded.countDown();
+    }
+
+    List<Long> search(List<String> tokens, int limit, int maxPrefixExpansions) {
+        awaitLoaded();
+        synchronized (this) {
+            Map<Long, Integer> scores = null;
+            for (String token : tokens) {
+                Map<Long, Integer> tokenScores = scoreToken(token, maxPrefixExpansions);
+                if (scores == null) {
+                    scores = tokenScores;
+                } else {
+                    // Tüm sorgu kelimeleri eşleşmeli (AND)
+                    scores.keySet().retainAll(tokenScores.keySet());
+                    scores.replaceAll((id, score) -> score + tokenScores.get(id));
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+            return topK(scores, limit);
+        }
+    }
+
+    // Kelimenin kendisindeki (english) terimler sınırsız genişletilir; bunlar kullanıcının kelime sayısıyla
+    // sınırlıdır. Sadece açıklamalarda geçen terimlerden alfabetik sırayla en fazla maxPrefixExpansions tanesi
+    // taranır: kısa ön ekler ("a") tüm anlam ve örnek cümle terimlerini gezmesin.
+    private Map<Long, Integer> scoreToken(String token, int maxPrefixExpansions) {
+        Map<Long, Integer> tokenScores = new HashMap<>();
+        String end = token + Character.MAX_VALUE;
+        for (String term : headwordTerms.subMap(token, end).keySet()) {
+            scoreTerm(token, term, postings.get(term), tokenScores);
+        }
+        int expansions = 0;
+        for (Map.Entry<String, Map<Long, Integer>> match : postings.subMap(token, end).entrySet()) {
+            if (headwordTerms.containsKey(match.getKey())) {
+                continue;
+            }
+            if (expansions++ >= maxPrefixExpansions) {
+                break;
+            }
+            scoreTerm(token, match.getKey(), match.getValue(), tokenScores);
+        }
+        return tokenScores;
+    }
+
+    private static void scoreTerm(String token, String term, Map<Long, Integer> posting, Map<Long, Integer> tokenScores) {
+        boolean exact = term.length() == token.length();
+        for (Map.Entry<Long, Integer> entry : posting.entrySet()) {
+            int score = fieldScore(entry.getValue()) * (exact ? 2 : 1);
+            tokenScores.merge(entry.getKey(), score, Math::max);
+        }
+    }
+
+    private static boolean isHeadword(int fieldMask) {
+        return (fieldMask & (1 << FIELD_ENGLISH)) != 0;
+    }
+
+    private static int fieldScore(int fieldMask) {
+        int score = 0;
+        for (int field = 0; field < FIELD_COUNT; field++) {
+            if ((fieldMask & (1 << field)) != 0) {
+                score += FIELD_WEIGHTS[field];
+            }
+        }
+        return score;
+    }
+
+    // Skora göre en iyi limit kadar sonuç; eşitlikte yeni eklenen (büyük id) önce
+    private static List<Long> topK(Map<Long, Integer> scores, int limit) {
+        Comparator<Map.Entry<Long, Integer>> order = Map.Entry.<Long, Integer>comparingByValue()
+                .thenComparing(Map.Entry.comparingByKey());
+        PriorityQueue<Map.Entry<Long, Integer>> heap = new PriorityQueue<>(order);
+        for (Map.Entry<Long, Integer> entry : scores.entrySet()) {
+            heap.offer(entry);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+        List<Long> result = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            result.add(heap.poll().getKey());
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    private void removeTerms(Long wordId) {
+        Set<String> terms = documentTerms.remove(wordId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting != null) {
+                Integer fieldMask = posting.remove(wordId);
+                if (fieldMask != null && isHeadword(fieldMask)) {
+                    headwordTerms.computeIfPresent(term, (t, count) -> count > 1 ? count - 1 : null);
+                }
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private void awaitLoaded() {
+        try {
+            if (!loaded.await(LOAD_WAIT_SECONDS, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Search index is still loading");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for search index", e);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.dictionary.search;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.example.dictionary.cache.BoundedCache;
+import com.example.dictionary.event.UserDeletedEvent;
+import com.example.dictionary.event.WordChangedEvent;
+import com.example.dictionary.metrics.CacheMetrics;
+import com.example.dictionary.model.Word;
+import com.example.dictionary.repository.WordRepository;
+import com.example.dictionary.shard.ShardRouter;
+
+import jakarta.annotation.PostConstruct;
+
+// Kullanıcı başına bellekte tutulan ters indeks (english, meaning, turkishMeaning, exampleUsage).
+// İndeks ilk aramada veritabanından kurulur, sonra WordChangedEvent ile güncel tutulur.
+// Bellekte en fazla max-users kullanıcının indeksi durur, en az kullanılan atılır.
+// Olaylar sadece bu örnekte yayınlanır: birden fazla örnekte başka örneğe yazılan kelimeler, indeks
+// index-ttl dolup yeniden kurulunca görülür.
+@Component
+public class WordSearchIndex {
+
+    @Autowired
+    private WordRepository wordRepository;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private CacheMetrics cacheMetrics;
+
+    @Value("${dictionary.search.max-users:1000}")
+    private int maxUsers;
+
+    @Value("${dictionary.search.max-prefix-expansions:64}")
+    private int maxPrefixExpansions;
+
+    @Value("${dictionary.search.index-ttl:5m}")
+    private Duration indexTtl;
+
+    private BoundedCache<Long, UserIndex> indexes;
+
+    @PostConstruct
+    void init() {
+        indexes = new BoundedCache<>(maxUsers, indexTtl);
+        cacheMetrics.monitor("searchIndex", indexes);
+    }
+
+    // Sorgudaki her kelime bir terimin ön eki olarak eşleşmeli (tam eşleşme daha yüksek puan alır);
+    // sonuç skora göre sıralı kelime id listesidir
+    public List<Long> search(Long userId, String query, int limit) {
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+        return indexFor(userId).search(tokens, limit, maxPrefixExpansions);
+    }
+
+    @EventListener
+    public void onWordChanged(WordChangedEvent event) {
+        if (event.userId() == null) {
+            return;
+        }
+        // Henüz yüklenmemiş kullanıcı için bir şey yapmaya gerek yok, ilk aramada kurulur
+        UserIndex index = indexes.get(event.userId());
+        if (index == null) {
+            return;
+        }
+        if (event.type() == WordChangedEvent.Type.DELETED) {
+            index.remove(event.word().getId());
+        } else {
+            index.put(event.word().getId(), documentOf(event.word()));
+        }
+    }
+
+    @EventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        indexes.invalidate(event.userId());
+    }
+
+    public Map<String, Object> getStatistics() {
+        return indexes.getStatistics();
+    }
+
+    private UserIndex indexFor(Long userId) {
+        UserIndex index = indexes.get(userId);
+        if (index != null) {
+            return index;
+        }
+
+        // Önce boş indeks yayınlanır ki yükleme sırasında gelen olaylar kaybolmasın;
+        // yükleme, olayla gelmiş daha yeni kayıtların üzerine yazmaz.
+        index = new UserIndex();
+        indexes.put(userId, index);
+        try {
+            for (Word word : shardRouter.onUserShard(userId, () -> wordRepository.findByUserIdOrderByAddedDateDesc(userId))) {
+                index.putIfAbsent(word.getId(), documentOf(word));
+            }
+        } catch (RuntimeException e) {
+            indexes.invalidate(userId);
+            throw e;
+        } finally {
+            index.finishLoading();
+        }
+        return index;
+    }
+
+    private static String[] documentOf(Word word) {
+        String[] fields = new String[UserIndex.FIELD_COUNT];
+        fields[UserIndex.FIELD_ENGLISH] = word.getEnglish();
+        fields[UserIndex.FIELD_TURKISH] = word.getTurkishMeaning();
+        fields[UserIndex.FIELD_MEANING] = word.getMeaning();
+        fields[UserIndex.FIELD_EXAMPLE] = word.getExampleUsage();
+        return fields;
+    }
+
+    static List<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null) {
+            return new ArrayList<>(tokens);
+        }
+        StringBuilder current = new StringBuilder();
+        String lower = text.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                current.append(c);
+            } else if (current.length() > 0) {
+                tokens.add(current.toString());
+                current.setLength(0);
+            }
+        }
+        if (current.length() > 0) {
+            tokens.add(current.toString());
+        }
+        return new ArrayList<>(tokens);
+    }
+}
@@ -0,0 +1,320 @@
+package com.example.dictionary.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.springframework.web.util.HtmlUtils;
+
+import com.example.dictionary.model.Word;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Anki paketi (.apkg): collection.anki2 adlı SQLite veritabanı ve boş medya listesi içeren zip.
+// Veritabanı geçici dosyaya yazılır (bellekte büyümez), sonra zip'e kopyalanır.
+// Not tipi ve deste id'leri sabit, notların guid'i kelime id'sinden türetilir: paket tekrar içe
+// aktarıldığında Anki aynı notları günceller, çift kart oluşmaz.
+final class AnkiPackageWriter implements AutoCloseable {
+
+    private static final long MODEL_ID = 1_718_000_000_001L;
+    private static final long DECK_ID = 1_718_000_000_002L;
+    private static final char FIELD_SEPARATOR = '\u001f';
+    private static final int BATCH_SIZE = 500;
+
+    private static final String[] SCHEMA = {
+            "create table col (id integer primary key, crt integer not null, mod integer not null, scm integer not null,"
+                    + " ver integer not null, dty integer not null, usn integer not null, ls integer not null, conf text not null,"
+                    + " models text not null, decks text not null, dconf text not null, tags text not null)",
+            "create table notes (id integer primary key, guid text not null, mid integer not null, mod integer not null,"
+                    + " usn integer not null, tags text not null, flds text not null, sfld integer not null, csum integer not null,"
+                    + " flags integer not null, data text not null)",
+            "create table cards (id integer primary key, nid integer not null, did integer not null, ord integer not null,"
+                    + " mod integer not null, usn integer not null, type integer not null, queue integer not null, due integer not null,"
+                    + " ivl integer not null, factor integer not null, reps integer not null, lapses integer not null, left integer not null,"
+                    + " odue integer not null, odid integer not null, flags integer not null, data text not null)",
+            "create table revlog (id integer primary key, cid integer not null, usn integer not null, ease integer not null,"
+                    + " ivl integer not null, lastIvl integer not null, factor integer not null, time integer not null, type integer not null)",
+            "create table graves (usn integer not null, oid integer not null, type integer not null)",
+            "create index ix_notes_usn on notes (usn)",
+            "create index ix_cards_usn on cards (usn)",
+            "create index ix_revlog_usn on revlog (usn)",
+            "create index ix_cards_nid on cards (nid)",
+            "create index ix_cards_sched on cards (did, queue, due)",
+            "create index ix_revlog_cid on revlog (cid)",
+            "create index ix_notes_csum on notes (csum)"
+    };
+
+    private static final String INSERT_NOTE = "insert into notes (id, guid, mid, mod, usn, tags, flds, sfld, csum, flags, data)"
+            + " values (?, ?, ?, ?, -1, '', ?, ?, ?, 0, '')";
+
+    private static final String INSERT_CARD = "insert into cards (id, nid, did, ord, mod, usn, type, queue, due, ivl, factor, reps,"
+            + " lapses, left, odue, odid, flags, data) values (?, ?, ?, 0, ?, -1, 0, 0, ?, 0, 0, 0, 0, 0, 0, 0, 0, '')";
+
+    private static final String QUESTION = "<div class=\"english\">{{English}}</div>";
+
+    private static final String ANSWER = "{{FrontSide}}<hr id=\"answer\">"
+            + "{{#Turkish}}<div class=\"turkish\">{{Turkish}}</div>{{/Turkish}}"
+            + "{{#Meaning}}<div class=\"meaning\">{{Meaning}}</div>{{/Meaning}}"
+            + "{{#Example}}<div class=\"example\">{{Example}}</div>{{/Example}}"
+            + "{{#Level}}<div class=\"level\">{{Level}}</div>{{/Level}}";
+
+    private static final String CSS = ".card { font-family: arial; font-size: 20px; text-align: center; color: black; background-color: white; }"
+            + " .english { font-size: 28px; } .turkish { font-weight: bold; } .example { font-style: italic; } .level { font-size: 14px; color: gray; }";
+
+    private final Path file;
+    private final Connection connection;
+    private final PreparedStatement insertNote;
+    private final PreparedStatement insertCard;
+    private final MessageDigest sha1;
+    private final long baseId = System.currentTimeMillis();
+    private final long modified = baseId / 1000;
+    private int count;
+
+    AnkiPackageWriter(String deckName, ObjectMapper objectMapper) throws IOException, SQLException {
+        try {
+            sha1 = MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        file = Files.createTempFile("words-", ".anki2");
+        try {
+            connection = DriverManager.getConnection("jdbc:sqlite:" + file);
+            try (Statement statement = connection.createStatement()) {
+                // Geçici dosya: çökme durumunda korunacak bir şey yok
+                statement.execute("pragma journal_mode = off");
+                statement.execute("pragma synchronous = off");
+                for (String sql : SCHEMA) {
+                    statement.execute(sql);
+                }
+            }
+            connection.setAutoCommit(false);
+            try (PreparedStatement insertCollection = connection.prepareStatement(
+                    "insert into col values (1, ?, ?, ?, 11, 0, 0, 0, ?, ?, ?, ?, '{}')")) {
+                insertCollection.setLong(1, modified);
+                insertCollection.setLong(2, baseId);
+                insertCollection.setLong(3, baseId);
+                insertCollection.setString(4, objectMapper.writeValueAsString(configuration()));
+                insertCollection.setString(5, objectMapper.writeValueAsString(Map.of(String.valueOf(MODEL_ID), model())));
+                insertCollection.setString(6, objectMapper.writeValueAsString(Map.of(
+                        "1", deck(1, "Default"),
+                        String.valueOf(DECK_ID), deck(DECK_ID, deckName))));
+                insertCollection.setString(7, objectMapper.writeValueAsString(Map.of("1", deckOptions())));
+                insertCollection.executeUpdate();
+            }
+            insertNote = connection.prepareStatement(INSERT_NOTE);
+            insertCard = connection.prepareStatement(INSERT_CARD);
+        } catch (IOException | SQLException | RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    // Her kelime bir not ve tek kart olur; yeni kartlar eklenme sırasıyla sunulur
+    void add(Word word) throws SQLException {
+        long id = baseId + count;
+        String english = word.getEnglish() != null ? word.getEnglish() : "";
+        String fields = String.join(String.valueOf(FIELD_SEPARATOR),
+                html(english), html(word.getTurkishMeaning()), html(word.getMeaning()),
+                html(word.getExampleUsage()), html(word.getDifficultyLevel()));
+
+        insertNote.setLong(1, id);
+        insertNote.setString(2, "parrot-" + word.getId());
+        insertNote.setLong(3, MODEL_ID);
+        insertNote.setLong(4, modified);
+        insertNote.setString(5, fields);
+        insertNote.setString(6, english);
+        insertNote.setLong(7, checksum(english));
+        insertNote.addBatch();
+
+        insertCard.setLong(1, id);
+        insertCard.setLong(2, id);
+        insertCard.setLong(3, DECK_ID);
+        insertCard.setLong(4, modified);
+        insertCard.setLong(5, count + 1);
+        insertCard.addBatch();
+
+        count++;
+        if (count % BATCH_SIZE == 0) {
+            insertNote.executeBatch();
+            insertCard.executeBatch();
+        }
+    }
+
+    void writeTo(OutputStream outputStream) throws IOException, SQLException {
+        insertNote.executeBatch();
+        insertCard.executeBatch();
+        connection.commit();
+        connection.close();
+
+        ZipOutputStream zip = new ZipOutputStream(outputStream);
+        zip.putNextEntry(new ZipEntry("collection.anki2"));
+        Files.copy(file, zip);
+        zip.closeEntry();
+        zip.putNextEntry(new ZipEntry("media"));
+        zip.write("{}".getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+        zip.finish();
+    }
+
+    @Override
+    public void close() {
+        try {
+            if (connection != null) {
+                connection.close();
+            }
+        } catch (SQLException ignored) {
+            // Dosya yine de silinir
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // Geçici dizinde kalır
+        }
+    }
+
+    private static String html(String value) {
+        return value != null ? HtmlUtils.htmlEscape(value, "UTF-8") : "";
+    }
+
+    // Anki'nin tekrar kontrolü: ilk alanın SHA-1'inin ilk 8 hex hanesi
+    private long checksum(String english) {
+        byte[] digest = sha1.digest(english.getBytes(StandardCharsets.UTF_8));
+        return Long.parseLong(HexFormat.of().formatHex(digest, 0, 4), 16);
+    }
+
+    private Map<String, Object> configuration() {
+        Map<String, Object> conf = new LinkedHashMap<>();
+        conf.put("activeDecks", List.of(1));
+        conf.put("curDeck", 1);
+        conf.put("newSpread", 0);
+        conf.put("collapseTime", 1200);
+        conf.put("timeLim", 0);
+        conf.put("estTimes", true);
+        conf.put("dueCounts", true);
+        conf.put("curModel", null);
+        conf.put("nextPos", 1);
+        conf.put("sortType", "noteFld");
+        conf.put("sortBackwards", false);
+        conf.put("addToCur", true);
+        return conf;
+    }
+
+    private Map<String, Object> model() {
+        List<String> names = List.of("English", "Turkish", "Meaning", "Example", "Level");
+        List<Map<String, Object>> fields = new ArrayList<>();
+        for (int i = 0; i < names.size(); i++) {
+            Map<String, Object> field = new LinkedHashMap<>();
+            field.put("name", names.get(i));
+            field.put("ord", i);
+            field.put("sticky", false);
+            field.put("rtl", false);
+            field.put("font", "Arial");
+            field.put("size", 20);
+            field.put("media", List.of());
+            fields.add(field);
+        }
+        Map<String, Object> template = new LinkedHashMap<>();
+        template.put("name", "English -> Türkçe");
+        template.put("ord", 0);
+        template.put("qfmt", QUESTION);
+        template.put("afmt", ANSWER);
+        template.put("did", null);
+        template.put("bqfmt", "");
+        template.put("bafmt", "");
+
+        Map<String, Object> model = new LinkedHashMap<>();
+        model.put("id", MODEL_ID);
+        model.put("name", "Parrot Language Word");
+        model.put("type", 0);
+        model.put("mod", modified);
+        model.put("usn", -1);
+        model.put("sortf", 0);
+        model.put("did", DECK_ID);
+        model.put("tmpls", List.of(template));
+        model.put("flds", fields);
+        model.put("css", CSS);
+        model.put("latexPre", "\\documentclass[12pt]{article}\n\\special{papersize=3in,5in}\n\\usepackage[utf8]{inputenc}\n"
+                + "\\usepackage{amssymb,amsmath}\n\\pagestyle{empty}\n\\setlength{\\parindent}{0in}\n\\begin{document}\n");
+        model.put("latexPost", "\\end{document}");
+        model.put("tags", List.of());
+        model.put("vers", List.of());
+        // 0. kart, 0. alan (English) doluysa oluşur
+        model.put("req", List.of(List.of(0, "any", List.of(0))));
+        return model;
+    }
+
+    private Map<String, Object> deck(long id, String name) {
+        Map<String, Object> deck = new LinkedHashMap<>();
+        deck.put("id", id);
+        deck.put("name", name);
+        deck.put("desc", "");
+        deck.put("mod", modified);
+        deck.put("usn", -1);
+        deck.put("conf", 1);
+        deck.put("dyn", 0);
+        deck.put("collapsed", false);
+        deck.put("extendNew", 10);
+        deck.put("extendRev", 50);
+        deck.put("newToday", List.of(0, 0));
+        deck.put("revToday", List.of(0, 0));
+        deck.put("lrnToday", List.of(0, 0));
+        deck.put("timeToday", List.of(0, 0));
+        return deck;
+    }
+
+    private Map<String, Object> deckOptions() {
+        Map<String, Object> newCards = new LinkedHashMap<>();
+        newCards.put("delays", List.of(1, 10));
+        newCards.put("ints", List.of(1, 4, 7));
+        newCards.put("initialFactor", 2500);
+        newCards.put("order", 1);
+        newCards.put("perDay", 20);
+        newCards.put("bury", true);
+        newCards.put("separate", true);
+
+        Map<String, Object> reviews = new LinkedHashMap<>();
+        reviews.put("perDay", 100);
+        reviews.put("ease4", 1.3);
+        reviews.put("fuzz", 0.05);
+        reviews.put("ivlFct", 1);
+        reviews.put("maxIvl", 36500);
+        reviews.put("minSpace", 1);
+        reviews.put("bury", true);
+
+        Map<String, Object> lapses = new LinkedHashMap<>();
+        lapses.put("delays", List.of(10));
+        lapses.put("mult", 0);
+        lapses.put("minInt", 1);
+        lapses.put("leechFails", 8);
+        lapses.put("leechAction", 0);
+
+        Map<String, Object> options = new LinkedHashMap<>();
+        options.put("id", 1);
+        options.put("name", "Default");
+        options.put("mod", 0);
+        options.put("usn", 0);
+        options.put("maxTaken", 60);
+        options.put("autoplay", true);
+        options.put("timer", 0);
+        options.put("replayq", true);
+        options.put("new", newCards);
+        options.put("rev", reviews);
+        options.put("lapse", lapses);
+        return options;
+    }
+}
@@ -1,8 +1,15 @@
 package com.example.dictionary.service;
 
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+
 public class Definition {
     private String definition;
+    // dictionaryapi.dev alanı "example"; cache tablosundaki eski kayıtlar "exampleSentence" ile yazıldı
+    @JsonAlias("example")
     private String exampleSentence; 
+    private List<String> synonyms;
 
     public String getDefinition() {
         return definition;
@@ -19,4 +26,12 @@ public class Definition {
     public void setExampleSentence(String exampleSentence) {
         this.exampleSentence = exampleSentence; // Setter
     }
+
+    public List<String> getSynonyms() {
+        return synonyms;
+    }
+
+    public void setSynonyms(List<String> synonyms) {
+        this.synonyms = synonyms;
+    }
 }
@@ -0,0 +1,201 @@
+package com.example.dictionary.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import com.example.dictionary.cache.BoundedCache;
+import com.example.dictionary.cache.SingleFlight;
+import com.example.dictionary.metrics.CacheMetrics;
+import com.example.dictionary.model.DictionaryCacheEntry;
+import com.example.dictionary.repository.DictionaryCacheRepository;
+import com.example.dictionary.repository.LexiconEntryRepository;
+import com.example.dictionary.upstream.UpstreamGuard;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+
+// dictionaryapi.dev çağrılarının önündeki cache: önce bellek (LRU + TTL), sonra yerel sözlük
+// (lexicon_entry), sonra dictionary_cache tablosu, en son uzak API. WordService ve WordController ortak kullanır.
+// API çökmüş veya devre açıksa tablodaki süresi geçmiş kayıt yine de kullanılır.
+@Service
+public class DictionaryLookupService {
+
+    @Autowired
+    private DictionaryCacheRepository cacheRepository;
+
+    @Autowired
+    private LexiconEntryRepository lexiconRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${dictionary.lookup.api-url:https://api.dictionaryapi.dev/api/v2/entries/en/}")
+    private String apiUrl;
+
+    @Value("${dictionary.lookup.cache.max-size:5000}")
+    private int maxSize;
+
+    @Value("${dictionary.lookup.cache.ttl:7d}")
+    private Duration ttl;
+
+    // API'ye ulaşılamadığında tablodaki kayıt bu yaşa kadar kullanılabilir
+    @Value("${dictionary.lookup.cache.stale-ttl:90d}")
+    private Duration staleTtl;
+
+    @Value("${dictionary.lookup.cache.max-rows:200000}")
+    private long maxRows;
+
+    @Autowired
+    @Qualifier("dictionaryRestTemplate")
+    private RestTemplate restTemplate;
+
+    @Autowired
+    @Qualifier("dictionaryUpstream")
+    private UpstreamGuard dictionaryUpstream;
+
+    @Autowired
+    private CacheMetrics cacheMetrics;
+
+    private BoundedCache<String, DictionaryResponse[]> memoryCache;
+
+    private final SingleFlight<String, DictionaryResponse[]> inFlightLookups = new SingleFlight<>();
+
+    private final AtomicLong lexiconHits = new AtomicLong();
+    private final AtomicLong persistentHits = new AtomicLong();
+    private final AtomicLong remoteCalls = new AtomicLong();
+    private final AtomicLong staleFallbacks = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        memoryCache = new BoundedCache<>(maxSize, ttl);
+        cacheMetrics.monitor("dictionaryLookup", memoryCache);
+        cacheMetrics.monitor("dictionaryLookup", inFlightLookups);
+    }
+
+    public DictionaryResponse[] lookup(String englishWord) {
+        String headword = normalize(englishWord);
+
+        DictionaryResponse[] cached = memoryCache.get(headword);
+        if (cached != null) {
+            return cached;
+        }
+
+        // Aynı kelimeyi aynı anda ekleyen kullanıcılar tek tablo okuması ve tek API çağrısını paylaşır
+        return inFlightLookups.execute(headword, () -> load(headword, englishWord));
+    }
+
+    private DictionaryResponse[] load(String headword, String englishWord) {
+        Optional<DictionaryResponse[]> local = lexiconRepository.findById(headword)
+                .map(entry -> parse(entry.getPayload()));
+        if (local.isPresent()) {
+            lexiconHits.incrementAndGet();
+            memoryCache.put(headword, local.get());
+            return local.get();
+        }
+
+        Optional<DictionaryResponse[]> stored = loadFromTable(headword, false);
+        if (stored.isPresent()) {
+            persistentHits.incrementAndGet();
+            memoryCache.put(headword, stored.get());
+            return stored.get();
+        }
+
+        remoteCalls.incrementAndGet();
+        // URI şablonu: http.client.requests metriği kelime başına ayrı etiket üretmesin
+        DictionaryResponse[] response;
+        try {
+            response = dictionaryUpstream.callIdempotent(
+                    () -> restTemplate.getForObject(apiUrl + "{word}", DictionaryResponse[].class, englishWord.trim()));
+        } catch (RuntimeException e) {
+            // 404 gibi cevaplar kelimenin kendisiyle ilgilidir, eski kayda düşülmez
+            boolean wordError = e instanceof HttpClientErrorException
+                    && !(e instanceof HttpClientErrorException.TooManyRequests);
+            Optional<DictionaryResponse[]> stale = wordError ? Optional.empty() : loadFromTable(headword, true);
+            if (stale.isEmpty()) {
+                throw e;
+            }
+            staleFallbacks.incrementAndGet();
+            return stale.get();
+        }
+        if (response != null && response.length > 0) {
+            memoryCache.put(headword, response);
+            saveToTable(headword, response);
+        }
+        return response;
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = memoryCache.getStatistics();
+        stats.put("lexiconHits", lexiconHits.get());
+        stats.put("persistentHits", persistentHits.get());
+        stats.put("remoteCalls", remoteCalls.get());
+        stats.put("staleFallbacks", staleFallbacks.get());
+        stats.put("coalesced", inFlightLookups.getCoalesced());
+        stats.put("circuitState", dictionaryUpstream.getState().name());
+        return stats;
+    }
+
+    public static String normalize(String englishWord) {
+        return englishWord.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // Açılışta ve sonra purge-interval'de bir: sadece yedek olarak bile işe yaramayacak kadar eski
+    // kayıtları sil, tablo max-rows'u aşıyorsa en eski alınanlardan başlayarak fazlasını sil
+    @Scheduled(fixedDelayString = "${dictionary.lookup.cache.purge-interval:1h}")
+    public void purgeExpiredEntries() {
+        cacheRepository.deleteFetchedBefore(LocalDateTime.now().minus(staleTtl));
+
+        long overflow = cacheRepository.count() - maxRows;
+        while (overflow > 0) {
+            List<String> headwords = cacheRepository.findOldestHeadwords(PageRequest.of(0, (int) Math.min(overflow, 1000)));
+            if (headwords.isEmpty()) {
+                break;
+            }
+            cacheRepository.deleteAllByIdInBatch(headwords);
+            overflow -= headwords.size();
+        }
+    }
+
+    private Optional<DictionaryResponse[]> loadFromTable(String headword, boolean allowExpired) {
+        LocalDateTime cutoff = LocalDateTime.now().minus(allowExpired ? staleTtl : ttl);
+        return cacheRepository.findById(headword)
+                .filter(entry -> entry.getFetchedAt().isAfter(cutoff))
+                .map(entry -> parse(entry.getPayload()));
+    }
+
+    // Bozuk kayıt: yok sayılır (null), API'den yeniden alınır
+    private DictionaryResponse[] parse(String payload) {
+        try {
+            return objectMapper.readValue(payload, DictionaryResponse[].class);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private void saveToTable(String headword, DictionaryResponse[] response) {
+        try {
+            cacheRepository.save(DictionaryCacheEntry.builder()
+                    .headword(headword)
+                    .payload(objectMapper.writeValueAsString(response))
+                    .fetchedAt(LocalDateTime.now())
+                    .build());
+        } catch (Exception e) {
+            // Cache'e yazılamaması kelime eklemeyi engellememeli
+        }
+    }
+}
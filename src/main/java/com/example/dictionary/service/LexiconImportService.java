@@ -0,0 +1,215 @@
+package com.example.dictionary.service;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.dictionary.model.LexiconImport;
+import com.example.dictionary.repository.LexiconImportRepository;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PreDestroy;
+
+// Yerel sözlük dökümünü (DictionaryResponse biçiminde JSONL veya JSON dizisi, .gz olabilir)
+// lexicon_entry tablosuna yükler. Dosya akış halinde okunur, bellekte en fazla bir batch durur.
+// Her batch kaldığı yerle (lexicon_import) aynı transaction'da yazılır; yeniden başlatılınca
+// yazılmış girişler bağlanmadan atlanır ve yükleme oradan devam eder.
+@Service
+public class LexiconImportService {
+
+    private static final String UPSERT_SQL = "insert into lexicon_entry (headword, payload, imported_at) values (?, ?, ?)"
+            + " on duplicate key update payload = values(payload), imported_at = values(imported_at)";
+
+    @Autowired
+    private LexiconImportRepository importRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${dictionary.lexicon.import-file:}")
+    private String importFile;
+
+    @Value("${dictionary.lexicon.batch-size:1000}")
+    private int batchSize;
+
+    private volatile boolean stopRequested;
+    private volatile String state = "IDLE";
+    private volatile String lastError;
+
+    // Uygulama açılışını bekletmemek için ayrı thread'de
+    @EventListener(ApplicationReadyEvent.class)
+    public void importConfiguredFile() {
+        if (importFile == null || importFile.isBlank()) {
+            return;
+        }
+        Thread thread = new Thread(() -> importFile(Path.of(importFile)), "lexicon-import");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // Kapanışta yarım batch yazılmaz; bir sonraki açılışta son checkpoint'ten devam edilir
+    @PreDestroy
+    void stop() {
+        stopRequested = true;
+    }
+
+    public void importFile(Path file) {
+        state = "RUNNING";
+        lastError = null;
+        try {
+            Path absolute = file.toAbsolutePath().normalize();
+            LexiconImport checkpoint = checkpointFor(absolute);
+            if (checkpoint.getCompletedAt() != null) {
+                state = "COMPLETED";
+                return;
+            }
+            try (InputStream in = open(absolute);
+                 JsonParser parser = objectMapper.getFactory().createParser(in)) {
+                run(parser, checkpoint);
+            }
+            state = stopRequested ? "STOPPED" : "COMPLETED";
+        } catch (IOException | RuntimeException e) {
+            state = "FAILED";
+            lastError = e.getMessage();
+        }
+    }
+
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new HashMap<>();
+        status.put("state", state);
+        status.put("lastError", lastError);
+        if (importFile != null && !importFile.isBlank()) {
+            importRepository.findById(Path.of(importFile).toAbsolutePath().normalize().toString())
+                    .ifPresent(checkpoint -> {
+                        status.put("position", checkpoint.getPosition());
+                        status.put("completedAt", checkpoint.getCompletedAt());
+                    });
+        }
+        return status;
+    }
+
+    private void run(JsonParser parser, LexiconImport checkpoint) throws IOException {
+        JsonToken token = parser.nextToken();
+        boolean array = token == JsonToken.START_ARRAY;
+        if (array) {
+            token = parser.nextToken();
+        }
+
+        long index = 0;
+        // Aynı kelimenin ardışık girişleri tek satırda birleşir; yarım grup checkpoint'e girmez
+        String groupHeadword = null;
+        long groupStart = 0;
+        List<DictionaryResponse> group = new ArrayList<>();
+        List<Object[]> batch = new ArrayList<>(batchSize);
+
+        while (token == JsonToken.START_OBJECT && !stopRequested) {
+            if (index < checkpoint.getPosition()) {
+                parser.skipChildren();
+            } else {
+                DictionaryResponse entry = objectMapper.readValue(parser, DictionaryResponse.class);
+                String headword = entry.getWord() == null || entry.getWord().isBlank()
+                        ? null : DictionaryLookupService.normalize(entry.getWord());
+                if (headword != null && headword.length() <= 191) {
+                    if (!headword.equals(groupHeadword)) {
+                        if (groupHeadword != null) {
+                            batch.add(row(groupHeadword, group));
+                            group.clear();
+                            if (batch.size() >= batchSize) {
+                                writeBatch(batch, checkpoint, index, false);
+                                batch.clear();
+                            }
+                        }
+                        groupHeadword = headword;
+                        groupStart = index;
+                    }
+                    group.add(entry);
+                }
+            }
+            index++;
+            token = parser.nextToken();
+        }
+
+        if (stopRequested) {
+            writeBatch(batch, checkpoint, groupHeadword != null ? groupStart : index, false);
+            return;
+        }
+        if (array ? token != JsonToken.END_ARRAY : token != null) {
+            throw new IllegalStateException("Unexpected token " + token + " after " + index + " entries");
+        }
+        if (groupHeadword != null) {
+            batch.add(row(groupHeadword, group));
+        }
+        writeBatch(batch, checkpoint, index, true);
+    }
+
+    private void writeBatch(List<Object[]> batch, LexiconImport checkpoint, long position, boolean completed) {
+        LocalDateTime now = LocalDateTime.now();
+        checkpoint.setPosition(Math.max(checkpoint.getPosition(), position));
+        checkpoint.setUpdatedAt(now);
+        checkpoint.setCompletedAt(completed ? now : null);
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!batch.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPSERT_SQL, batch);
+            }
+            importRepository.save(checkpoint);
+        });
+    }
+
+    private Object[] row(String headword, List<DictionaryResponse> entries) {
+        try {
+            String payload = objectMapper.writeValueAsString(entries.toArray(new DictionaryResponse[0]));
+            return new Object[] {headword, payload, Timestamp.valueOf(LocalDateTime.now())};
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Dosya değişmişse (boyut farklı) eski checkpoint geçersizdir, baştan başlanır
+    private LexiconImport checkpointFor(Path file) throws IOException {
+        long fileSize = Files.size(file);
+        LexiconImport checkpoint = importRepository.findById(file.toString()).orElse(null);
+        if (checkpoint == null || checkpoint.getFileSize() != fileSize) {
+            LocalDateTime now = LocalDateTime.now();
+            checkpoint = LexiconImport.builder()
+                    .source(file.toString())
+                    .fileSize(fileSize)
+                    .position(0)
+                    .startedAt(now)
+                    .updatedAt(now)
+                    .build();
+        }
+        return checkpoint;
+    }
+
+    private static InputStream open(Path file) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(file), 1 << 16);
+        return file.getFileName().toString().endsWith(".gz") ? new GZIPInputStream(in, 1 << 16) : in;
+    }
+}
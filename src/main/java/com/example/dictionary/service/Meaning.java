@@ -3,7 +3,17 @@ package com.example.dictionary.service;
 import java.util.List;
 
 public class Meaning {
+    private String partOfSpeech;
     private List<Definition> definitions;
+    private List<String> synonyms;
+
+    public String getPartOfSpeech() {
+        return partOfSpeech;
+    }
+
+    public void setPartOfSpeech(String partOfSpeech) {
+        this.partOfSpeech = partOfSpeech;
+    }
 
     public List<Definition> getDefinitions() {
         return definitions;
@@ -12,4 +22,12 @@ public class Meaning {
     public void setDefinitions(List<Definition> definitions) {
         this.definitions = definitions;
     }
+
+    public List<String> getSynonyms() {
+        return synonyms;
+    }
+
+    public void setSynonyms(List<String> synonyms) {
+        this.synonyms = synonyms;
+    }
 }
@@ -0,0 +1,329 @@
+package com.example.dictionary.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import com.example.dictionary.cache.BoundedCache;
+import com.example.dictionary.cache.SingleFlight;
+import com.example.dictionary.metrics.CacheMetrics;
+import com.example.dictionary.model.TranslationMemoryEntry;
+import com.example.dictionary.repository.TranslationMemoryRepository;
+import com.example.dictionary.upstream.MicroBatcher;
+import com.example.dictionary.upstream.UpstreamGuard;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+// LibreTranslate önündeki çeviri hafızası: önce bellek, sonra translation_memory tablosu.
+// Sadece başarılı çeviriler saklanır; tablo boyutu LRU mantığıyla sınırlanır.
+@Service
+public class TranslationService {
+
+    @Autowired
+    private TranslationMemoryRepository memoryRepository;
+
+    @Value("${dictionary.translation.api-url:http://localhost:5000/translate}")
+    private String apiUrl;
+
+    @Value("${dictionary.translation.memory.cache-size:5000}")
+    private int cacheSize;
+
+    @Value("${dictionary.translation.memory.max-entries:100000}")
+    private int maxEntries;
+
+    // Her kayıtta COUNT çalıştırmamak için budama bu kadar eklemede bir yapılır
+    @Value("${dictionary.translation.memory.prune-interval:100}")
+    private int pruneInterval;
+
+    // Bellekten dönen çevirilerin kullanım zamanı (last_used_at) tabloya toplu yazılır
+    @Value("${dictionary.translation.memory.touch-batch-size:500}")
+    private int touchBatchSize;
+
+    @Autowired
+    @Qualifier("translationRestTemplate")
+    private RestTemplate restTemplate;
+
+    @Autowired
+    @Qualifier("translationUpstream")
+    private UpstreamGuard translationUpstream;
+
+    @Autowired
+    private CacheMetrics cacheMetrics;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // Tek tek gelen çeviriler biriktirilip LibreTranslate'e tek istekte (q dizisi) gönderilir;
+    // max-size=1 ise her çeviri ayrı istektir
+    @Value("${dictionary.translation.batch.max-size:16}")
+    private int batchMaxSize;
+
+    @Value("${dictionary.translation.batch.linger:10ms}")
+    private Duration batchLinger;
+
+    @Value("${dictionary.translation.batch.queue-capacity:10000}")
+    private int batchQueueCapacity;
+
+    @Value("${dictionary.translation.batch.max-in-flight:2}")
+    private int batchMaxInFlight;
+
+    @Autowired
+    @Qualifier("translationBatchExecutor")
+    private Executor translationBatchExecutor;
+
+    // Dil çifti başına bir batcher ("en|tr")
+    private final Map<String, MicroBatcher<String, String>> batchers = new ConcurrentHashMap<>();
+
+    private BoundedCache<String, String> memoryCache;
+
+    private final SingleFlight<String, String> inFlightTranslations = new SingleFlight<>();
+
+    private final AtomicLong persistentHits = new AtomicLong();
+    private final AtomicLong remoteCalls = new AtomicLong();
+    private final AtomicLong insertsSincePrune = new AtomicLong();
+
+    // Son yazmadan beri kullanılan kayıtlar; budama last_used_at'e baktığı için ondan önce yazılır
+    private final Set<String> touchedKeys = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    void init() {
+        memoryCache = new BoundedCache<>(cacheSize);
+        cacheMetrics.monitor("translationMemory", memoryCache);
+        cacheMetrics.monitor("translationMemory", inFlightTranslations);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        batchers.values().forEach(MicroBatcher::shutdown);
+        flushTouches();
+    }
+
+    // Bloklamaz: sonuç LibreTranslate cevabı gelince tamamlanır, çağıran thread batch'i beklemez.
+    // LibreTranslate cevap vermezse veya çeviri boşsa future exception ile tamamlanır
+    public CompletableFuture<String> translateAsync(String text, String sourceLang, String targetLang) {
+        String key = memoryKey(text, sourceLang, targetLang);
+
+        String cached = memoryCache.get(key);
+        if (cached != null) {
+            touchedKeys.add(key);
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        // Aynı metnin eşzamanlı çevirileri tek LibreTranslate çağrısını paylaşır
+        return inFlightTranslations.executeAsync(key, () -> load(key, text, sourceLang, targetLang));
+    }
+
+    // Tablo çağıran thread'de okunur; batch kapalıysa (max-size=1) LibreTranslate çağrısı da orada yapılır
+    private CompletableFuture<String> load(String key, String text, String sourceLang, String targetLang) {
+        TranslationMemoryEntry stored = memoryRepository.findById(key).orElse(null);
+        if (stored != null) {
+            persistentHits.incrementAndGet();
+            memoryCache.put(key, stored.getTranslatedText());
+            touchedKeys.add(key);
+            return CompletableFuture.completedFuture(stored.getTranslatedText());
+        }
+
+        remoteCalls.incrementAndGet();
+        if (batchMaxSize <= 1) {
+            // POST olduğu için tekrar denenmez
+            String translated = translationUpstream.call(() -> callLibreTranslate(text, sourceLang, targetLang));
+            memoryCache.put(key, translated);
+            remember(List.of(text), List.of(translated), sourceLang, targetLang);
+            return CompletableFuture.completedFuture(translated);
+        }
+        return batcher(sourceLang, targetLang).submit(text)
+                .thenApply(translated -> {
+                    String result = requireTranslation(translated);
+                    memoryCache.put(key, result);
+                    return result;
+                });
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = memoryCache.getStatistics();
+        stats.put("persistentHits", persistentHits.get());
+        stats.put("remoteCalls", remoteCalls.get());
+        stats.put("coalesced", inFlightTranslations.getCoalesced());
+        stats.put("circuitState", translationUpstream.getState().name());
+        return stats;
+    }
+
+    private String callLibreTranslate(String text, String sourceLang, String targetLang) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        Map<String, String> requestBody = new HashMap<>();
+        requestBody.put("q", text);
+        requestBody.put("source", sourceLang);
+        requestBody.put("target", targetLang);
+        requestBody.put("format", "text");
+
+        ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
+                apiUrl,
+                HttpMethod.POST,
+                new HttpEntity<>(requestBody, headers),
+                new ParameterizedTypeReference<>() {}
+        );
+
+        Object translated = response.getBody() != null ? response.getBody().get("translatedText") : null;
+        return requireTranslation(translated != null ? translated.toString() : null);
+    }
+
+    // Batch'in çevirileri gönderen thread'de tek seferde hafızaya yazılır. Batch içerik yüzünden
+    // reddedilirse (4xx, 429 hariç) metinler tek tek gönderilir; sadece hatalı metnin çağıranı hata alır
+    private MicroBatcher<String, String> batcher(String sourceLang, String targetLang) {
+        return batchers.computeIfAbsent(sourceLang + "|" + targetLang,
+                pair -> new MicroBatcher<>("translation-" + sourceLang + "-" + targetLang,
+                        batchMaxSize, batchLinger, batchQueueCapacity, batchMaxInFlight, translationBatchExecutor,
+                        texts -> {
+                            List<String> translations = translationUpstream.call(() -> callLibreTranslate(texts, sourceLang, targetLang));
+                            remember(texts, translations, sourceLang, targetLang);
+                            return translations;
+                        },
+                        e -> e instanceof HttpClientErrorException && !(e instanceof HttpClientErrorException.TooManyRequests),
+                        meterRegistry));
+    }
+
+    // Batch isteği: q bir dizidir, translatedText aynı sırada bir dizi döner
+    private List<String> callLibreTranslate(List<String> texts, String sourceLang, String targetLang) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("q", texts);
+        requestBody.put("source", sourceLang);
+        requestBody.put("target", targetLang);
+        requestBody.put("format", "text");
+
+        ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
+                apiUrl,
+                HttpMethod.POST,
+                new HttpEntity<>(requestBody, headers),
+                new ParameterizedTypeReference<>() {}
+        );
+
+        Object translated = response.getBody() != null ? response.getBody().get("translatedText") : null;
+        if (!(translated instanceof List<?> translations)) {
+            throw new IllegalStateException("Türkçe çeviri alınamadı");
+        }
+        List<String> results = new ArrayList<>(translations.size());
+        for (Object translation : translations) {
+            results.add(translation != null ? translation.toString() : null);
+        }
+        return results;
+    }
+
+    private static String requireTranslation(String translated) {
+        if (translated == null || translated.isBlank()) {
+            throw new IllegalStateException("Türkçe çeviri alınamadı");
+        }
+        return translated;
+    }
+
+    // Boş çeviriler saklanmaz
+    private void remember(List<String> texts, List<String> translations, String sourceLang, String targetLang) {
+        if (translations == null || translations.size() != texts.size()) {
+            return;
+        }
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            List<TranslationMemoryEntry> entries = new ArrayList<>(texts.size());
+            for (int i = 0; i < texts.size(); i++) {
+                String translated = translations.get(i);
+                if (translated == null || translated.isBlank()) {
+                    continue;
+                }
+                entries.add(TranslationMemoryEntry.builder()
+                        .key(memoryKey(texts.get(i), sourceLang, targetLang))
+                        .sourceLang(sourceLang)
+                        .targetLang(targetLang)
+                        .sourceText(texts.get(i))
+                        .translatedText(translated)
+                        .lastUsedAt(now)
+                        .build());
+            }
+            memoryRepository.saveAll(entries);
+
+            if (insertsSincePrune.addAndGet(entries.size()) >= pruneInterval) {
+                insertsSincePrune.set(0);
+                prune();
+            }
+        } catch (Exception e) {
+            // Hafızaya yazılamaması çeviriyi engellememeli
+        }
+    }
+
+    // Biriken kullanım zamanlarını tabloya yaz; açılışta değil, ilk touch-interval sonunda başlar
+    @Scheduled(fixedDelayString = "${dictionary.translation.memory.touch-interval:30s}",
+            initialDelayString = "${dictionary.translation.memory.touch-interval:30s}")
+    public void flushTouches() {
+        if (touchedKeys.isEmpty()) {
+            return;
+        }
+        LocalDateTime usedAt = LocalDateTime.now();
+        List<String> batch = new ArrayList<>(touchBatchSize);
+        for (Iterator<String> it = touchedKeys.iterator(); it.hasNext(); ) {
+            batch.add(it.next());
+            it.remove();
+            if (batch.size() == touchBatchSize || !it.hasNext()) {
+                try {
+                    memoryRepository.touchAll(batch, usedAt);
+                } catch (Exception e) {
+                    // Kullanım zamanının yazılamaması sadece budama sırasını etkiler
+                }
+                batch.clear();
+            }
+        }
+    }
+
+    // Tablo sınırı aşıldıysa en uzun süredir kullanılmayan kayıtları sil
+    private void prune() {
+        flushTouches();
+        long overflow = memoryRepository.count() - maxEntries;
+        if (overflow > 0) {
+            List<String> keys = memoryRepository.findLeastRecentlyUsedKeys(PageRequest.of(0, (int) Math.min(overflow, 1000)));
+            memoryRepository.deleteAllByIdInBatch(keys);
+        }
+    }
+
+    static String memoryKey(String text, String sourceLang, String targetLang) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest((sourceLang + "|" + targetLang + "|" + text).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
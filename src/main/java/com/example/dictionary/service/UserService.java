@@ -3,10 +3,15 @@ package com.example.dictionary.service;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.example.dictionary.auth.PasswordHasher;
+import com.example.dictionary.event.UserDeletedEvent;
 import com.example.dictionary.model.User;
 import com.example.dictionary.repository.UserRepository;
+import com.example.dictionary.shard.ShardRouter;
 
 @Service
 public class UserService {
@@ -14,6 +19,15 @@ public class UserService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PasswordHasher passwordHasher;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
     public User registerUser(String email, String password, String name) {
         if (userRepository.existsByEmail(email)) {
             throw new RuntimeException("This email is already in use");
@@ -21,11 +35,14 @@ public class UserService {
 
         User user = User.builder()
                 .email(email)
-                .password(password) // Gerçek uygulamada şifre hashlenmeli
+                .password(passwordHasher.hash(password))
                 .name(name)
                 .build();
 
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        // Yeni kullanıcının kelimelerinin shard'ı kayıtta belirlenir
+        shardRouter.assignShard(saved.getId());
+        return saved;
     }
 
     public Optional<User> findByEmail(String email) {
@@ -36,13 +53,27 @@ public class UserService {
         return userRepository.findById(id);
     }
 
-    public boolean validateUser(String email, String password) {
+    // Şifre doğruysa kullanıcıyı döner. Düz metin (eski) veya maliyeti düşük kalmış hash'ler
+    // burada, şifre elimizdeyken güncel maliyetle yeniden hashlenir.
+    public Optional<User> authenticate(String email, String password) {
         Optional<User> userOpt = userRepository.findByEmail(email);
-        if (userOpt.isPresent()) {
-            User user = userOpt.get();
-            return user.getPassword().equals(password); // Gerçek uygulamada hash karşılaştırması yapılmalı
+        if (userOpt.isEmpty()) {
+            passwordHasher.matchesNothing(password);
+            return Optional.empty();
         }
-        return false;
+        User user = userOpt.get();
+        if (!passwordHasher.matches(password, user.getPassword())) {
+            return Optional.empty();
+        }
+        if (passwordHasher.needsRehash(user.getPassword())) {
+            user.setPassword(passwordHasher.hash(password));
+            user = userRepository.save(user);
+        }
+        return Optional.of(user);
+    }
+
+    public boolean checkPassword(User user, String password) {
+        return passwordHasher.matches(password, user.getPassword());
     }
 
     public User getUserById(Long id) {
@@ -50,6 +81,12 @@ public class UserService {
                 .orElseThrow(() -> new RuntimeException("User not found"));
     }
 
+    // Sadece ilişki kurmak için (ör. Word.user): veritabanına gitmeyen bir proxy döner
+    public User getUserReference(Long id) {
+        return userRepository.getReferenceById(id);
+    }
+
+    @Transactional
     public User updateUser(Long id, String name, String email, String password) {
         User user = getUserById(id);
 
@@ -63,14 +100,16 @@ public class UserService {
 
         // Şifre değiştirilmek isteniyorsa güncelle
         if (password != null && !password.isEmpty()) {
-            user.setPassword(password); // Gerçek uygulamada şifre hashlenmeli
+            user.setPassword(passwordHasher.hash(password));
         }
 
         return userRepository.save(user);
     }
 
+    @Transactional
     public void deleteUser(Long id) {
         User user = getUserById(id);
         userRepository.delete(user);
+        eventPublisher.publishEvent(new UserDeletedEvent(id));
     }
 }
@@ -0,0 +1,32 @@
+package com.example.dictionary.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import com.example.dictionary.model.Word;
+
+// Keyset sayfalama imleci: listedeki son kelimenin (added_date, id) çifti. Eski kayıtlarda added_date
+// null olabilir; böyle bir imleç tarihsiz kısmı gösterir (boş tarih olarak kodlanır)
+public record WordCursor(LocalDateTime addedDate, Long id) {
+
+    public static WordCursor of(Word word) {
+        return new WordCursor(word.getAddedDate(), word.getId());
+    }
+
+    public String encode() {
+        String raw = (addedDate != null ? addedDate.toString() : "") + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static WordCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            String date = raw.substring(0, separator);
+            return new WordCursor(date.isEmpty() ? null : LocalDateTime.parse(date), Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.example.dictionary.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.dictionary.event.WordChangedEvent;
+import com.example.dictionary.model.EnrichmentStatus;
+import com.example.dictionary.model.Word;
+import com.example.dictionary.repository.WordRepository;
+import com.example.dictionary.shard.ShardRouter;
+
+// Kelime kaydedildikten sonra anlam, örnek cümle ve Türkçe çeviriyi arka planda doldurur
+@Service
+public class WordEnrichmentService {
+
+    @Autowired
+    private WordRepository wordRepository;
+
+    @Autowired
+    private DictionaryLookupService dictionaryLookupService;
+
+    @Autowired
+    private TranslationService translationService;
+
+    @Autowired
+    private WordSenseService wordSenseService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    @Qualifier("enrichmentExecutor")
+    private Executor enrichmentExecutor;
+
+    @Value("${dictionary.enrichment.lookup-timeout:8s}")
+    private Duration lookupTimeout;
+
+    @Value("${dictionary.enrichment.translation-timeout:8s}")
+    private Duration translationTimeout;
+
+    @Value("${dictionary.enrichment.shard-move-retries:10}")
+    private int shardMoveRetries;
+
+    @Value("${dictionary.enrichment.shard-move-retry-delay:30s}")
+    private Duration shardMoveRetryDelay;
+
+    @Value("${dictionary.enrichment.stale-after:5m}")
+    private Duration staleAfter;
+
+    @Value("${dictionary.enrichment.sweep-batch-size:200}")
+    private int sweepBatchSize;
+
+    // Başlamış zenginleştirmenin sonraki adımı (yazma) kuyruk doluysa reddedilmez, onu başlatan thread'de
+    // çalışır; yarıda kalıp kelimeyi PENDING bırakmaz
+    private final Executor continuationExecutor = task -> {
+        try {
+            enrichmentExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            task.run();
+        }
+    };
+
+    // Bu uygulamada zenginleştirmesi süren kelimeler; tarama bunları tekrar göndermez
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    // İlk adım (sözlük) havuz doluysa RejectedExecutionException fırlatır: kelime PENDING kalır ve
+    // resumePending tarafından sonra zenginleştirilir
+    public CompletableFuture<Word> enrichAsync(Word word) {
+        Long wordId = word.getId();
+        Long userId = word.getUser() != null ? word.getUser().getId() : null;
+        String englishWord = word.getEnglish();
+
+        CompletableFuture<DictionaryResponse[]> lookup = supplyWithTimeout(
+                () -> dictionaryLookupService.lookup(englishWord), lookupTimeout, enrichmentExecutor);
+        inFlight.add(wordId);
+        return lookup
+                .thenCompose(response -> {
+                    String meaning = extractMeaningFromResponse(response);
+                    String exampleUsage = extractExampleSentenceFromResponse(response);
+                    // Çeviri batch'e eklenir, bu thread cevabı beklemez; yazma cevap gelince havuza verilir
+                    return translationService.translateAsync(meaning, "en", "tr")
+                            .orTimeout(translationTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                            // Çeviri hatası kelimeyi başarısız saymaz, eskisi gibi mesaj olarak yazılır
+                            .exceptionally(e -> "Çeviri hatası: " + describe(rootCause(e)))
+                            .thenCompose(turkishMeaning -> writeAfterShardMove(
+                                    () -> complete(wordId, userId, response, meaning, exampleUsage, turkishMeaning), 0));
+                })
+                // Taşıma bitmediği için yazılamadıysa fail() de yazamaz; kelime PENDING kalır
+                .exceptionallyCompose(e -> rootCause(e) instanceof ShardRouter.ShardMoveInProgressException
+                        ? CompletableFuture.failedFuture(e)
+                        : writeAfterShardMove(() -> fail(wordId, userId), 0))
+                .whenComplete((saved, e) -> inFlight.remove(wordId));
+    }
+
+    // Yarıda kalmış kelimeler: uygulama kapanırken kuyrukta kalanlar veya havuz doluyken eklenenler.
+    // stale-after'dan eski PENDING kelimeler her shard'da sweep-batch-size'lık gruplar halinde yeniden
+    // zenginleştirilir; havuz dolarsa kalanlar sonraki tura kalır. Bu uygulamada hâlâ işlenenler atlanır
+    // (birden fazla sunucuda aynı kelime iki kez zenginleştirilebilir, sonuç aynıdır)
+    @Scheduled(fixedDelayString = "${dictionary.enrichment.sweep-interval:1m}")
+    public void resumePending() {
+        LocalDateTime addedBefore = LocalDateTime.now().minus(staleAfter);
+        Limit limit = Limit.of(sweepBatchSize);
+        for (List<Word> shard : shardRouter.scatter(() -> wordRepository.findPendingAddedBefore(addedBefore, limit))) {
+            for (Word word : shard) {
+                if (inFlight.contains(word.getId())) {
+                    continue;
+                }
+                try {
+                    enrichAsync(word);
+                } catch (RejectedExecutionException e) {
+                    return;
+                }
+            }
+        }
+    }
+
+    // Süre görev kuyrukta beklerken değil, çalışmaya başladığında başlar; dolu havuzda bekleyen
+    // kelimeler zaman aşımına uğramaz
+    private static <T> CompletableFuture<T> supplyWithTimeout(Supplier<T> work, Duration timeout, Executor executor) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        executor.execute(() -> {
+            result.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            try {
+                result.complete(work.get());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    // Kullanıcı başka shard'a taşınıyorsa yazma, shard-move-retry-delay aralıklarla shard-move-retries kez
+    // daha denenir (taşıma bitince kelime yeni shard'da güncellenir)
+    private CompletableFuture<Word> writeAfterShardMove(Supplier<Word> write, int attempt) {
+        Executor executor = attempt == 0
+                ? continuationExecutor
+                : CompletableFuture.delayedExecutor(shardMoveRetryDelay.toMillis(), TimeUnit.MILLISECONDS, continuationExecutor);
+        return CompletableFuture.supplyAsync(write, executor)
+                .exceptionallyCompose(e -> rootCause(e) instanceof ShardRouter.ShardMoveInProgressException && attempt < shardMoveRetries
+                        ? writeAfterShardMove(write, attempt + 1)
+                        : CompletableFuture.failedFuture(e));
+    }
+
+    // Kelime az önce eklendi: okuma ve yazma aynı transaction'da, kullanıcının shard'ının primary'sinde
+    // (replika henüz görmemiş olabilir)
+    private Word complete(Long wordId, Long userId, DictionaryResponse[] response, String meaning, String exampleUsage, String turkishMeaning) {
+        // Bu arada silinmiş olabilir
+        return shardRouter.writeOnUserShard(userId, () -> transactionTemplate.execute(status -> wordRepository.findById(wordId)
+                .map(word -> {
+                    word.setMeaning(meaning);
+                    word.setExampleUsage(exampleUsage);
+                    word.setTurkishMeaning(turkishMeaning);
+                    word.setEnrichmentStatus(EnrichmentStatus.COMPLETED);
+                    Word saved = wordRepository.save(word);
+                    // Detay sayfası tüm anlamları buradan okur, API'yi tekrar çağırmaz
+                    wordSenseService.replaceSenses(saved, response);
+                    eventPublisher.publishEvent(WordChangedEvent.updated(saved, saved.getAddedDate()));
+                    return saved;
+                })
+                .orElse(null)));
+    }
+
+    private Word fail(Long wordId, Long userId) {
+        return shardRouter.writeOnUserShard(userId, () -> transactionTemplate.execute(status -> wordRepository.findById(wordId)
+                .map(word -> {
+                    word.setEnrichmentStatus(EnrichmentStatus.FAILED);
+                    Word saved = wordRepository.save(word);
+                    eventPublisher.publishEvent(WordChangedEvent.updated(saved, saved.getAddedDate()));
+                    return saved;
+                })
+                .orElse(null)));
+    }
+
+    // orTimeout'un TimeoutException'ının mesajı yok
+    private String describe(Throwable e) {
+        if (e instanceof TimeoutException) {
+            return "zaman aşımı (" + translationTimeout.toMillis() + " ms içinde cevap gelmedi)";
+        }
+        return e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+    }
+
+    private static Throwable rootCause(Throwable e) {
+        while (e instanceof CompletionException && e.getCause() != null) {
+            e = e.getCause();
+        }
+        return e;
+    }
+
+    static String extractMeaningFromResponse(DictionaryResponse[] response) {
+        DictionaryResponse dictionaryResponse = response[0];
+        List<Meaning> meanings = dictionaryResponse.getMeanings();
+
+        if (meanings != null && !meanings.isEmpty()) {
+            Meaning firstMeaning = meanings.get(0);
+            List<Definition> definitions = firstMeaning.getDefinitions();
+
+            if (definitions != null && !definitions.isEmpty()) {
+                return definitions.get(0).getDefinition();
+            }
+        }
+        return "Anlam bulunamadı";
+    }
+
+    static String extractExampleSentenceFromResponse(DictionaryResponse[] response) {
+        DictionaryResponse dictionaryResponse = response[0];
+        List<Meaning> meanings = dictionaryResponse.getMeanings();
+        if (meanings != null && !meanings.isEmpty()) {
+            Meaning firstMeaning = meanings.get(0);
+            List<Definition> definitions = firstMeaning.getDefinitions();
+            if (definitions != null && !definitions.isEmpty()) {
+                return definitions.get(0).getExampleSentence(); // Örnek cümleyi al
+            }
+        }
+        return "Örnek cümle bulunamadı";
+    }
+}
@@ -0,0 +1,220 @@
+package com.example.dictionary.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.example.dictionary.controller.WordResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import jakarta.annotation.PostConstruct;
+
+// Kullanıcının tüm kelimelerini CSV, NDJSON veya Anki paketi olarak yazar. Kelimeler veritabanı
+// imlecinden okundukça yazıldığı için bellek kullanımı kelime sayısından bağımsızdır. Dışa aktarma
+// yazma boyunca bir veritabanı bağlantısı tuttuğundan aynı anda en fazla max-concurrent, kullanıcı
+// başına bir tane çalışır; fazlası beklemez, hemen reddedilir.
+@Service
+public class WordExportService {
+
+    private static final String[] CSV_HEADER = {"english", "meaning", "turkishMeaning", "exampleUsage",
+            "difficultyLevel", "addedDate", "enrichmentStatus"};
+
+    @Autowired
+    private WordService wordService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${dictionary.export.max-concurrent:4}")
+    private int maxConcurrent;
+
+    @Value("${dictionary.export.anki-deck-name:Parrot Language}")
+    private String ankiDeckName;
+
+    private Semaphore permits;
+    private final Set<Long> exportingUsers = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    void init() {
+        permits = new Semaphore(maxConcurrent);
+    }
+
+    public enum Format {
+        CSV("text/csv;charset=UTF-8", "csv", true),
+        NDJSON("application/x-ndjson", "ndjson", true),
+        // apkg zaten zip'tir, tekrar sıkıştırılmaz
+        APKG("application/apkg", "apkg", false);
+
+        private final String contentType;
+        private final String extension;
+        private final boolean compressible;
+
+        Format(String contentType, String extension, boolean compressible) {
+            this.contentType = contentType;
+            this.extension = extension;
+            this.compressible = compressible;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public boolean isCompressible() {
+            return compressible;
+        }
+
+        // Bilinmeyen biçimde null
+        public static Format of(String name) {
+            for (Format format : values()) {
+                if (format.extension.equalsIgnoreCase(name)) {
+                    return format;
+                }
+            }
+            return null;
+        }
+    }
+
+    // Yer hemen ayrılır (cevap başlıkları gönderilmeden önce reddedilebilsin); dönen Export
+    // yazıldığında, hata olsa bile, yer bırakılır
+    public Export start(Long userId, Format format) {
+        if (!exportingUsers.add(userId)) {
+            throw new ExportInProgressException();
+        }
+        if (!permits.tryAcquire()) {
+            exportingUsers.remove(userId);
+            throw new ExportBusyException();
+        }
+        return new Export(userId, format);
+    }
+
+    public class Export {
+
+        private final Long userId;
+        private final Format format;
+
+        private Export(Long userId, Format format) {
+            this.userId = userId;
+            this.format = format;
+        }
+
+        public void writeTo(OutputStream outputStream) throws IOException {
+            try {
+                switch (format) {
+                    case CSV -> writeCsv(userId, outputStream);
+                    case NDJSON -> writeNdjson(userId, outputStream);
+                    case APKG -> writeAnkiPackage(userId, outputStream);
+                }
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            } finally {
+                exportingUsers.remove(userId);
+                permits.release();
+            }
+        }
+    }
+
+    private void writeCsv(Long userId, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writeCsvRow(writer, CSV_HEADER);
+        String[] row = new String[CSV_HEADER.length];
+        wordService.streamWordsForUser(userId, null, word -> {
+            row[0] = word.getEnglish();
+            row[1] = word.getMeaning();
+            row[2] = word.getTurkishMeaning();
+            row[3] = word.getExampleUsage();
+            row[4] = word.getDifficultyLevel();
+            row[5] = word.getAddedDate() != null ? word.getAddedDate().toString() : null;
+            row[6] = word.getEnrichmentStatus() != null ? word.getEnrichmentStatus().name() : null;
+            try {
+                writeCsvRow(writer, row);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.flush();
+    }
+
+    // RFC 4180: virgül, tırnak veya satır sonu içeren alanlar tırnaklanır, tırnaklar ikilenir
+    private static void writeCsvRow(Writer writer, String[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            String value = values[i];
+            if (value == null) {
+                continue;
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                writer.write(value);
+            } else {
+                writer.write('"');
+                writer.write(value.replace("\"", "\"\""));
+                writer.write('"');
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    // GET /api/words/stream ile aynı biçim: satır başına bir kelime
+    private void writeNdjson(Long userId, OutputStream outputStream) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(WordResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+            generator.setRootValueSeparator(null);
+            wordService.streamWordsForUser(userId, null, word -> {
+                try {
+                    writer.writeValue(generator, WordResponse.of(word));
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    private void writeAnkiPackage(Long userId, OutputStream outputStream) throws IOException {
+        try (AnkiPackageWriter anki = new AnkiPackageWriter(ankiDeckName, objectMapper)) {
+            wordService.streamWordsForUser(userId, null, word -> {
+                try {
+                    anki.add(word);
+                } catch (SQLException e) {
+                    throw new IllegalStateException("Could not write Anki package", e);
+                }
+            });
+            anki.writeTo(outputStream);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not write Anki package", e);
+        }
+    }
+
+    public static class ExportBusyException extends RuntimeException {
+        public ExportBusyException() {
+            super("Too many exports are running, please try again");
+        }
+    }
+
+    public static class ExportInProgressException extends RuntimeException {
+        public ExportInProgressException() {
+            super("An export of your words is already running");
+        }
+    }
+}
@@ -0,0 +1,324 @@
+package com.example.dictionary.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.dictionary.event.WordChangedEvent;
+import com.example.dictionary.model.EnrichmentStatus;
+import com.example.dictionary.model.User;
+import com.example.dictionary.model.Word;
+import com.example.dictionary.repository.WordRepository;
+import com.example.dictionary.shard.ShardRouter;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+
+// Toplu kelime ekleme: tek sorguda tekrar kontrolü, JDBC batch ile kayıt,
+// zenginleştirme enrichmentExecutor havuzunda (sınırlı sayıda). Her kelimenin sonucu sink'e yazılır.
+@Service
+public class WordImportService {
+
+    private static final int MAX_WORD_LENGTH = 255;
+
+    @Autowired
+    private WordRepository wordRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private WordEnrichmentService wordEnrichmentService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Value("${dictionary.bulk.max-items:5000}")
+    private int maxItems;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    @Value("${dictionary.bulk.enrichment-in-flight:16}")
+    private int enrichmentInFlight;
+
+    private Semaphore enrichmentPermits;
+
+    @PostConstruct
+    void init() {
+        enrichmentPermits = new Semaphore(enrichmentInFlight);
+    }
+
+    // Taşınan kullanıcı için yazma beklemesi bir kez, tüm içe aktarma için yapılır
+    public void importWords(WordSource words, Long userId, Consumer<ImportResult> sink) {
+        shardRouter.writeOnUserShard(userId, () -> {
+            try {
+                importCandidates(words, userId, sink);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return null;
+        });
+    }
+
+    // Girdi okundukça batch-size'lık parçalar halinde kontrol edilip kaydedilir; bellekte sadece girdideki
+    // tekrarları ayıklamak için görülen kelimeler (en fazla max-items) tutulur
+    private void importCandidates(WordSource words, Long userId, Consumer<ImportResult> sink) throws IOException {
+        User user = userService.getUserReference(userId);
+        Set<String> seen = new HashSet<>();
+        Map<String, String> chunk = new LinkedHashMap<>();
+        String malformed = null;
+        try {
+            String raw;
+            while ((raw = words.next()) != null) {
+                String english = raw.trim();
+                if (english.isEmpty()) {
+                    continue;
+                }
+                String key = Word.lowerCase(english);
+                if (english.length() > MAX_WORD_LENGTH) {
+                    sink.accept(ImportResult.invalid(english, "Word is too long"));
+                } else if (seen.contains(key)) {
+                    sink.accept(ImportResult.duplicate(english, "Duplicate entry in import"));
+                } else if (seen.size() >= maxItems) {
+                    // Sınırdan sonrası okunmaz
+                    sink.accept(ImportResult.skipped(english, "Import limit of " + maxItems + " words reached"));
+                    break;
+                } else {
+                    seen.add(key);
+                    chunk.put(key, english);
+                    if (chunk.size() == batchSize) {
+                        saveChunk(chunk, user, userId, sink);
+                    }
+                }
+            }
+        } catch (JsonProcessingException e) {
+            // Cevap başlıkları gönderildiği için 400 dönülemez; o ana kadar okunanlar kaydedilir
+            malformed = e.getOriginalMessage();
+        }
+        if (!chunk.isEmpty()) {
+            saveChunk(chunk, user, userId, sink);
+        }
+        if (malformed != null) {
+            sink.accept(ImportResult.invalid(null, "Malformed input: " + malformed));
+        }
+    }
+
+    // Tekrar kontrolü parça başına tek sorgu
+    private void saveChunk(Map<String, String> chunk, User user, Long userId, Consumer<ImportResult> sink) {
+        Set<String> existing = wordRepository.findExistingEnglishLowerCase(userId, chunk.keySet());
+
+        List<Word> batch = new ArrayList<>(chunk.size());
+        for (Map.Entry<String, String> candidate : chunk.entrySet()) {
+            if (existing.contains(candidate.getKey())) {
+                sink.accept(ImportResult.duplicate(candidate.getValue(), "This word already exists in your dictionary"));
+                continue;
+            }
+            batch.add(Word.builder()
+                    .english(candidate.getValue())
+                    .addedDate(LocalDateTime.now())
+                    .enrichmentStatus(EnrichmentStatus.PENDING)
+                    .user(user)
+                    .build());
+        }
+        chunk.clear();
+        if (!batch.isEmpty()) {
+            saveBatch(batch, sink);
+        }
+    }
+
+    // Girdideki sıradaki kelime; girdi bitince null
+    @FunctionalInterface
+    public interface WordSource {
+        String next() throws IOException;
+    }
+
+    // JSON dizisi: elemanlar JsonParser ile teker teker okunur, dizinin tamamı belleğe alınmaz
+    public WordSource jsonArraySource(InputStream inputStream) throws IOException {
+        JsonParser parser = objectMapper.createParser(inputStream);
+        return new WordSource() {
+            private boolean started;
+
+            @Override
+            public String next() throws IOException {
+                if (!started) {
+                    started = true;
+                    if (parser.nextToken() != JsonToken.START_ARRAY) {
+                        throw new JsonParseException(parser, "Expected a JSON array");
+                    }
+                }
+                JsonToken token = parser.nextToken();
+                if (token == null || token == JsonToken.END_ARRAY) {
+                    return null;
+                }
+                JsonNode node = parser.readValueAsTree();
+                return englishOf(node);
+            }
+        };
+    }
+
+    // CSV'de ilk sütun, NDJSON'da her satır bir JSON string veya {"english": ...} nesnesidir
+    public WordSource textSource(BufferedReader reader, boolean ndjson) {
+        if (!ndjson) {
+            return csvSource(reader);
+        }
+        return () -> {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String trimmed = line.trim();
+                if (!trimmed.isEmpty()) {
+                    return englishOf(objectMapper.readTree(trimmed));
+                }
+            }
+            return null;
+        };
+    }
+
+    // Başlık satırı ("english" ile başlayan ilk kayıt) atlanır; dışa aktarılan CSV de içe aktarılabilir
+    private static WordSource csvSource(BufferedReader reader) {
+        return new WordSource() {
+            private boolean firstRecord = true;
+
+            @Override
+            public String next() throws IOException {
+                String english;
+                while ((english = firstCsvColumn(reader)) != null) {
+                    english = english.trim();
+                    if (english.isEmpty()) {
+                        continue;
+                    }
+                    boolean header = firstRecord;
+                    firstRecord = false;
+                    if (!(header && english.equalsIgnoreCase("english"))) {
+                        return english;
+                    }
+                }
+                return null;
+            }
+        };
+    }
+
+    private static String englishOf(JsonNode node) {
+        return node.isTextual() ? node.asText() : node.path("english").asText("");
+    }
+
+    // Sonraki kaydın ilk sütunu, girdi bitince null. RFC 4180: tırnaklı alanda virgül, satır sonu ve
+    // ikilenmiş tırnak ("") olabilir; kaydın geri kalanı okunup atlanır
+    static String firstCsvColumn(BufferedReader reader) throws IOException {
+        StringBuilder first = new StringBuilder();
+        boolean inFirst = true;
+        boolean quoted = false;
+        boolean read = false;
+        int c;
+        while ((c = reader.read()) != -1) {
+            read = true;
+            if (quoted) {
+                if (c != '"') {
+                    if (inFirst) {
+                        first.append((char) c);
+                    }
+                    continue;
+                }
+                reader.mark(1);
+                int next = reader.read();
+                if (next == '"') {
+                    if (inFirst) {
+                        first.append('"');
+                    }
+                } else {
+                    quoted = false;
+                    if (next == -1) {
+                        break;
+                    }
+                    reader.reset();
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                inFirst = false;
+            } else if (c == '\n') {
+                return first.toString();
+            } else if (c != '\r' && inFirst) {
+                first.append((char) c);
+            }
+        }
+        return read ? first.toString() : null;
+    }
+
+    private void saveBatch(List<Word> batch, Consumer<ImportResult> sink) {
+        List<Word> saved = transactionTemplate.execute(status -> wordRepository.saveAll(batch));
+        for (Word word : saved) {
+            eventPublisher.publishEvent(WordChangedEvent.created(word));
+            sink.accept(ImportResult.added(word));
+            enrich(word);
+        }
+    }
+
+    // Tüm içe aktarmalarda aynı anda en fazla enrichment-in-flight kelime zenginleştirilir; fazlası için
+    // içe aktarma bekler (zenginleştirme hızında ilerler), havuzu doldurup tekli eklemeleri reddettirmez
+    private void enrich(Word word) {
+        try {
+            enrichmentPermits.acquire();
+        } catch (InterruptedException e) {
+            // Kelime PENDING kalır, periyodik tarama zenginleştirir
+            Thread.currentThread().interrupt();
+            return;
+        }
+        try {
+            wordEnrichmentService.enrichAsync(word).whenComplete((result, e) -> enrichmentPermits.release());
+        } catch (RejectedExecutionException e) {
+            // Havuz başka eklemelerle dolu: kelime PENDING kalır, periyodik tarama zenginleştirir
+            enrichmentPermits.release();
+        }
+    }
+
+    public record ImportResult(String english, String status, Long id, String message) {
+
+        static ImportResult added(Word word) {
+            return new ImportResult(word.getEnglish(), "ADDED", word.getId(), null);
+        }
+
+        static ImportResult duplicate(String english, String message) {
+            return new ImportResult(english, "DUPLICATE", null, message);
+        }
+
+        static ImportResult invalid(String english, String message) {
+            return new ImportResult(english, "INVALID", null, message);
+        }
+
+        static ImportResult skipped(String english, String message) {
+            return new ImportResult(english, "SKIPPED", null, message);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.dictionary.service;
+
+import java.util.List;
+
+import com.example.dictionary.model.Word;
+
+// nextCursor null ise son sayfadır
+public record WordPage(List<Word> words, String nextCursor) {
+}
@@ -0,0 +1,122 @@
+package com.example.dictionary.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.dictionary.model.Word;
+import com.example.dictionary.model.WordDefinition;
+import com.example.dictionary.model.WordSense;
+import com.example.dictionary.repository.WordSenseRepository;
+
+// dictionaryapi.dev cevabındaki tüm anlamları (tür, tanımlar, örnekler, eş anlamlılar)
+// zenginleştirme sırasında bir kez word_sense/word_definition tablolarına yazar.
+@Service
+public class WordSenseService {
+
+    private static final String SYNONYM_SEPARATOR = ", ";
+
+    @Autowired
+    private WordSenseRepository wordSenseRepository;
+
+    @Transactional
+    public void replaceSenses(Word word, DictionaryResponse[] response) {
+        wordSenseRepository.deleteByWordId(word.getId());
+        wordSenseRepository.saveAll(toSenses(word, response));
+    }
+
+    // Kelimenin kendisi değişince eski anlamlar geçersizdir
+    @Transactional
+    public void deleteSenses(Long wordId) {
+        wordSenseRepository.deleteByWordId(wordId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<WordSense> getSenses(Long wordId) {
+        return wordSenseRepository.findWithDefinitionsByWordId(wordId);
+    }
+
+    // Eskiden detay sayfasının API cevabından ürettiği metin: "1. tanım. 2. tanım.  1. tanım. "
+    public static String fullMeaning(List<WordSense> senses) {
+        StringBuilder fullMeaning = new StringBuilder();
+        for (int i = 0; i < senses.size(); i++) {
+            List<WordDefinition> definitions = senses.get(i).getDefinitions();
+            for (int j = 0; j < definitions.size(); j++) {
+                fullMeaning.append((j + 1) + ". " + definitions.get(j).getDefinition());
+                fullMeaning.append(". ");
+            }
+            if (i < senses.size() - 1) {
+                fullMeaning.append(" ");
+            }
+        }
+        return fullMeaning.length() > 0 ? fullMeaning.toString() : null;
+    }
+
+    public static List<String> splitSynonyms(String synonyms) {
+        return synonyms == null || synonyms.isEmpty() ? List.of() : List.of(synonyms.split(SYNONYM_SEPARATOR));
+    }
+
+    // Cevaptaki tüm girişlerin anlamları sırayla; tanımı olmayan anlamlar atlanır
+    static List<WordSense> toSenses(Word word, DictionaryResponse[] response) {
+        List<WordSense> senses = new ArrayList<>();
+        if (response == null) {
+            return senses;
+        }
+        for (DictionaryResponse entry : response) {
+            if (entry == null || entry.getMeanings() == null) {
+                continue;
+            }
+            for (Meaning meaning : entry.getMeanings()) {
+                if (meaning.getDefinitions() == null || meaning.getDefinitions().isEmpty()) {
+                    continue;
+                }
+                WordSense sense = WordSense.builder()
+                        .word(word)
+                        .senseOrder(senses.size())
+                        .partOfSpeech(truncate(meaning.getPartOfSpeech(), 64))
+                        .synonyms(joinSynonyms(meaning.getSynonyms()))
+                        .build();
+                for (Definition definition : meaning.getDefinitions()) {
+                    sense.getDefinitions().add(WordDefinition.builder()
+                            .sense(sense)
+                            .definitionOrder(sense.getDefinitions().size())
+                            .definition(truncate(definition.getDefinition(), WordDefinition.MAX_TEXT_LENGTH))
+                            .example(truncate(definition.getExampleSentence(), WordDefinition.MAX_TEXT_LENGTH))
+                            .synonyms(joinSynonyms(definition.getSynonyms()))
+                            .build());
+                }
+                senses.add(sense);
+            }
+        }
+        return senses;
+    }
+
+    // Sütuna sığmayan eş anlamlılar kesilmez, atlanır
+    private static String joinSynonyms(List<String> synonyms) {
+        if (synonyms == null || synonyms.isEmpty()) {
+            return null;
+        }
+        StringBuilder joined = new StringBuilder();
+        for (String synonym : synonyms) {
+            if (synonym == null || synonym.isBlank()) {
+                continue;
+            }
+            int length = joined.length() + (joined.length() > 0 ? SYNONYM_SEPARATOR.length() : 0) + synonym.length();
+            if (length > WordDefinition.MAX_TEXT_LENGTH) {
+                break;
+            }
+            if (joined.length() > 0) {
+                joined.append(SYNONYM_SEPARATOR);
+            }
+            joined.append(synonym.trim());
+        }
+        return joined.length() > 0 ? joined.toString() : null;
+    }
+
+    private static String truncate(String text, int maxLength) {
+        return text != null && text.length() > maxLength ? text.substring(0, maxLength) : text;
+    }
+}
@@ -1,34 +1,90 @@
 package com.example.dictionary.service;
 
+import com.example.dictionary.event.UserDeletedEvent;
+import com.example.dictionary.event.WordChangedEvent;
+import com.example.dictionary.model.EnrichmentStatus;
 import com.example.dictionary.model.User;
 import com.example.dictionary.model.Word;
 import com.example.dictionary.repository.WordRepository;
+import com.example.dictionary.search.WordSearchIndex;
+import com.example.dictionary.shard.ShardRouter;
+import org.hibernate.Session;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.ResponseEntity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.Map;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 
-
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 @Service
 public class WordService {
 
+    private static final Comparator<Word> BY_DATE_DESC = Comparator.comparing(Word::getAddedDate, Comparator.nullsLast(Comparator.reverseOrder()));
+    private static final Comparator<Word> NEWEST_FIRST = BY_DATE_DESC.thenComparing(Word::getId, Comparator.reverseOrder());
+
     @Autowired
     private WordRepository wordRepository;
 
     @Autowired
     private UserService userService;
-    
-    //apilerle iletişim için
-    private final RestTemplate restTemplate = new RestTemplate();
+
+    @Autowired
+    private WordEnrichmentService wordEnrichmentService;
+
+    @Autowired
+    private WordSearchIndex wordSearchIndex;
+
+    @Autowired
+    private WordSenseService wordSenseService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${dictionary.search.max-results:50}")
+    private int maxSearchResults;
+
+    @Value("${dictionary.words.page-size:200}")
+    private int defaultPageSize;
+
+    @Value("${dictionary.words.max-page-size:1000}")
+    private int maxPageSize;
+
+    @Value("${dictionary.words.anonymous-limit:100}")
+    private int anonymousLimit;
+
+    private TransactionTemplate transactionTemplate;
+    private TransactionTemplate readOnlyTransactionTemplate;
+
+    // Transaction'lar kullanıcının shard'ı seçildikten sonra açılmalı; bu yüzden @Transactional yerine
+    // shardRouter'ın içinde bu template'ler kullanılır
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTransactionTemplate.setReadOnly(true);
+    }
 
     // eski metod (geriye dönük uyumluluk için kullanıcısız hali)
     public Word addWord(String englishWord) {
@@ -37,184 +93,287 @@ public class WordService {
 
     // Kelime kullanıcı için daha önce eklenmiş mi kontrol et
     public boolean checkWordExistsForUser(String englishWord, Long userId) {
-        User user = userService.getUserById(userId);
-        Optional<Word> existing = wordRepository.findByEnglishIgnoreCaseAndUser(englishWord, user);
-        return existing.isPresent();
+        return shardRouter.onUserShard(userId, () -> wordRepository.existsByUserIdAndEnglishLower(userId, Word.lowerCase(englishWord)));
     }
 
+    // Kelime hemen kaydedilir; anlam ve çeviri arka planda doldurulur (enrichmentStatus)
     public Word addWord(String englishWord, Long userId) {
-        User user = null;
-        if (userId != null) {
-            user = userService.getUserById(userId);
-        }
+        return shardRouter.writeOnUserShard(userId, () -> saveNewWord(englishWord, userId));
+    }
+
+    private Word saveNewWord(String englishWord, Long userId) {
+        // Sadece yabancı anahtar için gerekli: SELECT atmayan bir proxy yeter
+        User user = userId != null ? userService.getUserReference(userId) : null;
 
-        String apiUrl = "https://api.dictionaryapi.dev/api/v2/entries/en/" + englishWord;
+        Word word = Word.builder()
+                .english(englishWord)
+                .addedDate(LocalDateTime.now())
+                .enrichmentStatus(EnrichmentStatus.PENDING)
+                .user(user)
+                .build();
 
+        Word saved = wordRepository.save(word);
+        eventPublisher.publishEvent(WordChangedEvent.created(saved));
         try {
-        	DictionaryResponse[] response = restTemplate.getForObject(apiUrl, DictionaryResponse[].class);
-        	String meaning = extractMeaningFromResponse(response);
-        	String exampleUsage = extractExampleSentenceFromResponse(response);
-        	String turkishMeaning = translateToTurkish(meaning);
-
-            Word word = Word.builder()
-                    .english(englishWord)
-                    .meaning(meaning)
-                    .exampleUsage(exampleUsage)
-                    .turkishMeaning(turkishMeaning)
-                    .addedDate(LocalDateTime.now())
-                    .user(user)
-                    .build();
-
-            return wordRepository.save(word);
-        } catch (Exception e) {
-            throw new RuntimeException("Anlam alınamadı veya kelime bulunamadı: " + e.getMessage());
+            wordEnrichmentService.enrichAsync(saved);
+        } catch (RejectedExecutionException e) {
+            // Havuz dolu: kelime PENDING kalır, periyodik tarama zenginleştirir
         }
+        return saved;
     }
 
 
-    public List<Word> getAllWords() {
-        return wordRepository.findAll();
+    // Kullanıcının kelimelerini (added_date, id) azalan sırada sayfa sayfa döner
+    public WordPage getWordPageForUser(Long userId, String difficultyLevel, String cursor, Integer size) {
+        return shardRouter.onUserShard(userId, () -> findWordPage(userId, difficultyLevel, cursor, size));
     }
 
-    public List<Word> getAllWordsForUser(Long userId) {
-        User user = userService.getUserById(userId);
-        return wordRepository.findByUserOrderByAddedDateDesc(user);
-    }
+    private WordPage findWordPage(Long userId, String difficultyLevel, String cursor, Integer size) {
+        int pageSize = clampPageSize(size);
+        // Bir fazla çekilir, gelirse sonraki sayfa vardır
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<Word> words;
+        if (cursor == null || cursor.isBlank()) {
+            words = difficultyLevel == null
+                    ? wordRepository.findPageByUserId(userId, limit)
+                    : wordRepository.findPageByUserIdAndDifficultyLevel(userId, difficultyLevel, limit);
+        } else {
+            WordCursor after = WordCursor.decode(cursor);
+            if (after.addedDate() == null) {
+                words = findUndatedPage(userId, difficultyLevel, after.id(), limit);
+            } else {
+                words = difficultyLevel == null
+                        ? wordRepository.findPageByUserIdAfter(userId, after.addedDate(), after.id(), limit)
+                        : wordRepository.findPageByUserIdAndDifficultyLevelAfter(userId, difficultyLevel, after.addedDate(), after.id(), limit);
+                // Tarihli kelimeler bu sayfada bittiyse sayfa tarihsizlerle tamamlanır (tarih karşılaştırması null'ı kapsamaz)
+                if (words.size() < limit.max()) {
+                    words = new ArrayList<>(words);
+                    words.addAll(findUndatedPage(userId, difficultyLevel, Long.MAX_VALUE, Limit.of(limit.max() - words.size())));
+                }
+            }
+        }
 
-    private String extractMeaningFromResponse(DictionaryResponse[] response) {
-        DictionaryResponse dictionaryResponse = response[0];
-        List<Meaning> meanings = dictionaryResponse.getMeanings();
+        if (words.size() > pageSize) {
+            words = words.subList(0, pageSize);
+            return new WordPage(words, WordCursor.of(words.get(pageSize - 1)).encode());
+        }
+        return new WordPage(words, null);
+    }
 
-        if (meanings != null && !meanings.isEmpty()) {
-            Meaning firstMeaning = meanings.get(0);
-            List<Definition> definitions = firstMeaning.getDefinitions();
+    private List<Word> findUndatedPage(Long userId, String difficultyLevel, Long beforeId, Limit limit) {
+        return difficultyLevel == null
+                ? wordRepository.findUndatedPageByUserIdBefore(userId, beforeId, limit)
+                : wordRepository.findUndatedPageByUserIdAndDifficultyLevelBefore(userId, difficultyLevel, beforeId, limit);
+    }
 
-            if (definitions != null && !definitions.isEmpty()) {
-                return definitions.get(0).getDefinition();
+    // Kullanıcının tüm kelimeleri sayfalamadan; her kelime sink'e yazıldıktan sonra persistence
+    // context'ten çıkarılır, böylece bellek kullanımı liste boyundan bağımsız kalır
+    public void streamWordsForUser(Long userId, String difficultyLevel, Consumer<Word> sink) {
+        shardRouter.runOnUserShard(userId, () -> readOnlyTransactionTemplate.executeWithoutResult(status -> {
+            try (Stream<Word> words = difficultyLevel == null
+                    ? wordRepository.streamByUserId(userId)
+                    : wordRepository.streamByUserIdAndDifficultyLevel(userId, difficultyLevel)) {
+                words.forEach(word -> {
+                    sink.accept(word);
+                    entityManager.detach(word);
+                });
             }
+        }));
+    }
+
+    // Giriş yapmamış kullanıcılar için tüm tabloyu değil en son eklenenleri döner
+    // Her shard kendi en yenilerini verir, birleştirilip ilk anonymousLimit tanesi alınır
+    public List<Word> getRecentWords(String difficultyLevel) {
+        Limit limit = Limit.of(anonymousLimit);
+        List<Word> words = gather(() -> difficultyLevel == null
+                ? wordRepository.findAllByOrderByAddedDateDescIdDesc(limit)
+                : wordRepository.findByDifficultyLevelOrderByAddedDateDescIdDesc(difficultyLevel, limit), NEWEST_FIRST);
+        return words.size() > anonymousLimit ? words.subList(0, anonymousLimit) : words;
+    }
+
+    // Kullanıcısız liste sorguları: tüm shard'ların sonuçları, verilen sırayla
+    private List<Word> gather(Supplier<List<Word>> query, Comparator<Word> order) {
+        List<List<Word>> shards = shardRouter.scatter(query);
+        if (shards.size() == 1) {
+            return shards.get(0);
+        }
+        List<Word> words = new ArrayList<>();
+        shards.forEach(words::addAll);
+        if (order != null) {
+            words.sort(order);
         }
-        return "Anlam bulunamadı";
+        return words;
     }
 
-    private String extractExampleSentenceFromResponse(DictionaryResponse[] response) {
-        DictionaryResponse dictionaryResponse = response[0];
-        List<Meaning> meanings = dictionaryResponse.getMeanings();
-        if (meanings != null && !meanings.isEmpty()) {
-            Meaning firstMeaning = meanings.get(0);
-            List<Definition> definitions = firstMeaning.getDefinitions();
-            if (definitions != null && !definitions.isEmpty()) {
-                return definitions.get(0).getExampleSentence(); // Örnek cümleyi al
-            }
+    private long sum(Supplier<Long> count) {
+        long total = 0;
+        for (Long shard : shardRouter.scatter(count)) {
+            total += shard;
         }
-        return "Örnek cümle bulunamadı";
+        return total;
+    }
+
+    private int clampPageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return defaultPageSize;
+        }
+        return Math.min(size, maxPageSize);
+    }
+
+    public List<Word> getAllWords() {
+        return gather(wordRepository::findAll, null);
     }
 
+    public List<Word> getAllWordsForUser(Long userId) {
+        return shardRouter.onUserShard(userId, () -> wordRepository.findByUserIdOrderByAddedDateDesc(userId));
+    }
 
     public List<Word> searchWords(String query) {
-        return wordRepository.findByEnglishContainingIgnoreCaseOrMeaningContainingIgnoreCase(query, query);
+        return gather(() -> wordRepository.findByEnglishContainingIgnoreCaseOrMeaningContainingIgnoreCase(query, query), null);
     }
 
+    // Bellekteki indeksten sıralı id'ler alınır; kelimeler önce ikinci seviye cache'ten, kalanlar tek
+    // sorguda yüklenir ve aynı sırada döner (silinmiş kelimeler için null gelir)
     public List<Word> searchWordsForUser(String query, Long userId) {
-        User user = userService.getUserById(userId);
-        return wordRepository.findByUserAndEnglishContainingIgnoreCaseOrUserAndMeaningContainingIgnoreCase(user, query, user, query);
+        List<Long> rankedIds = wordSearchIndex.search(userId, query, maxSearchResults);
+        if (rankedIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Word> loaded = shardRouter.onUserShard(userId, () -> readOnlyTransactionTemplate.execute(status ->
+                entityManager.unwrap(Session.class).byMultipleIds(Word.class).multiLoad(rankedIds)));
+        List<Word> result = new ArrayList<>(rankedIds.size());
+        for (Word word : loaded) {
+            if (word != null) {
+                result.add(word);
+            }
+        }
+        return result;
+    }
+
+    // Önce kelimenin shard'ı bulunur; yazma, sahibinin taşınmasıyla çakışmasın diye writeOnUserShard içinde
+    public Optional<Word> updateWord(Long id, Word updatedWord) {
+        Long ownerId = findOwnerId(id);
+        if (ownerId == null) {
+            return Optional.empty();
+        }
+        return shardRouter.writeOnUserShard(ownerId, () -> transactionTemplate.execute(status -> updateExistingWord(id, updatedWord)));
+    }
+
+    private Optional<Word> updateExistingWord(Long id, Word updatedWord) {
+        return wordRepository.findById(id)
+                .map(existingWord -> {
+                    LocalDateTime previousAddedDate = existingWord.getAddedDate();
+                    if (!Objects.equals(existingWord.getEnglishLower(), Word.lowerCase(updatedWord.getEnglish()))) {
+                        wordSenseService.deleteSenses(id);
+                    }
+                    existingWord.setEnglish(updatedWord.getEnglish());
+                    existingWord.setMeaning(updatedWord.getMeaning());
+                    existingWord.setTurkishMeaning(updatedWord.getTurkishMeaning());
+                    existingWord.setExampleUsage(updatedWord.getExampleUsage());
+                    existingWord.setDifficultyLevel(updatedWord.getDifficultyLevel());
+                    existingWord.setAddedDate(updatedWord.getAddedDate());
+                    Word saved = wordRepository.save(existingWord);
+                    eventPublisher.publishEvent(WordChangedEvent.updated(saved, previousAddedDate));
+                    return saved;
+                });
+    }
+
+    public boolean deleteWord(Long id) {
+        Long ownerId = findOwnerId(id);
+        if (ownerId == null) {
+            return false;
+        }
+        return shardRouter.writeOnUserShard(ownerId, () -> transactionTemplate.execute(status -> {
+            Optional<Word> existing = wordRepository.findById(id);
+            if (existing.isEmpty()) {
+                return false;
+            }
+            wordRepository.delete(existing.get());
+            eventPublisher.publishEvent(WordChangedEvent.deleted(existing.get()));
+            return true;
+        }));
+    }
+
+    // Kullanıcısız kelimelerde 0 (hepsi 0. shard'dadır); kelime yoksa null
+    private Long findOwnerId(Long id) {
+        Integer shard = shardRouter.locateWord(id);
+        if (shard == null) {
+            return null;
+        }
+        return shardRouter.onShard(shard, () -> transactionTemplate.execute(status -> wordRepository.findOwnerIdById(id).orElse(null)));
+    }
+
+    // Kullanıcının kelimeleri 0. shard'da User.words cascade'iyle silinir, diğer shard'larda burada
+    // (kullanıcının silinmesi commit olduktan sonra)
+    @EventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        if (shardRouter.shardOf(event.userId()) != 0) {
+            shardRouter.runOnUserShardAfterCommit(event.userId(), () -> wordRepository.deleteByUserId(event.userId()));
+        }
     }
 
     public List<Word> getAllWordsSortedByDateDesc() {
-        return wordRepository.findAllByOrderByAddedDateDesc();
+        return gather(wordRepository::findAllByOrderByAddedDateDesc, BY_DATE_DESC);
     }
 
     public List<Word> getAllWordsSortedByDateDescForUser(Long userId) {
-        User user = userService.getUserById(userId);
-        return wordRepository.findByUserOrderByAddedDateDesc(user);
+        return shardRouter.onUserShard(userId, () -> wordRepository.findByUserIdOrderByAddedDateDesc(userId));
     }
 
     public List<Word> getWordsByDifficultyLevel(String difficultyLevel) {
-        return wordRepository.findByDifficultyLevelOrderByAddedDateDesc(difficultyLevel);
+        return gather(() -> wordRepository.findByDifficultyLevelOrderByAddedDateDesc(difficultyLevel), BY_DATE_DESC);
     }
 
     public List<Word> getWordsByDifficultyLevelForUser(String difficultyLevel, Long userId) {
-        User user = userService.getUserById(userId);
-        return wordRepository.findByDifficultyLevelAndUserOrderByAddedDateDesc(difficultyLevel, user);
+        return shardRouter.onUserShard(userId, () -> wordRepository.findByDifficultyLevelAndUserIdOrderByAddedDateDesc(difficultyLevel, userId));
     }
 
     public long getTotalWordCount() {
-        return wordRepository.count();
+        return sum(wordRepository::count);
     }
 
     public long getTotalWordCountForUser(Long userId) {
-        User user = userService.getUserById(userId);
-        return wordRepository.countByUser(user);
+        return shardRouter.onUserShard(userId, () -> wordRepository.countByUserId(userId));
     }
 
     public long getTodayWordCount() {
         LocalDateTime todayStart = LocalDateTime.now().toLocalDate().atStartOfDay();
-        return wordRepository.countByAddedDateGreaterThanEqual(todayStart);
+        return sum(() -> wordRepository.countByAddedDateGreaterThanEqual(todayStart));
     }
 
     public long getTodayWordCountForUser(Long userId) {
         LocalDateTime todayStart = LocalDateTime.now().toLocalDate().atStartOfDay();
-        User user = userService.getUserById(userId);
-        return wordRepository.countByAddedDateGreaterThanEqualAndUser(todayStart, user);
+        return shardRouter.onUserShard(userId, () -> wordRepository.countByAddedDateGreaterThanEqualAndUserId(todayStart, userId));
     }
 
     public long getLast7DaysWordCount() {
         LocalDateTime sevenDaysAgo = LocalDateTime.now().minusDays(7);
-        return wordRepository.countByAddedDateAfter(sevenDaysAgo);
+        return sum(() -> wordRepository.countByAddedDateAfter(sevenDaysAgo));
     }
 
     public long getLast7DaysWordCountForUser(Long userId) {
         LocalDateTime sevenDaysAgo = LocalDateTime.now().minusDays(7);
-        User user = userService.getUserById(userId);
-        return wordRepository.countByAddedDateAfterAndUser(sevenDaysAgo, user);
+        return shardRouter.onUserShard(userId, () -> wordRepository.countByAddedDateAfterAndUserId(sevenDaysAgo, userId));
     }
 
     public long getLastMonthWordCount() {
         LocalDateTime oneMonthAgo = LocalDateTime.now().minusMonths(1);
-        return wordRepository.countByAddedDateAfter(oneMonthAgo);
+        return sum(() -> wordRepository.countByAddedDateAfter(oneMonthAgo));
     }
 
     public long getLastMonthWordCountForUser(Long userId) {
         LocalDateTime oneMonthAgo = LocalDateTime.now().minusMonths(1);
-        User user = userService.getUserById(userId);
-        return wordRepository.countByAddedDateAfterAndUser(oneMonthAgo, user);
+        return shardRouter.onUserShard(userId, () -> wordRepository.countByAddedDateAfterAndUserId(oneMonthAgo, userId));
     }
 
     public long getLastYearWordCount() {
         LocalDateTime oneYearAgo = LocalDateTime.now().minusYears(1);
-        return wordRepository.countByAddedDateAfter(oneYearAgo);
+        return sum(() -> wordRepository.countByAddedDateAfter(oneYearAgo));
     }
 
     public long getLastYearWordCountForUser(Long userId) {
         LocalDateTime oneYearAgo = LocalDateTime.now().minusYears(1);
-        User user = userService.getUserById(userId);
-        return wordRepository.countByAddedDateAfterAndUser(oneYearAgo, user);
-    }
-
-    private String translateToTurkish(String englishText) {
-    	String url = "http://localhost:5000/translate";
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(org.springframework.http.MediaType.APPLICATION_JSON);
-
-        Map<String, String> requestBody = new HashMap<>();
-        requestBody.put("q", englishText);
-        requestBody.put("source", "en");
-        requestBody.put("target", "tr");
-        requestBody.put("format", "text");
-
-        HttpEntity<Map<String, String>> request = new HttpEntity<>(requestBody, headers);
-
-        try {
-            ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.POST,
-                    request,
-                    new ParameterizedTypeReference<>() {}
-            );
-
-            Object translated = response.getBody().get("translatedText");
-            return translated != null ? translated.toString() : "Türkçe çeviri alınamadı";
-        } catch (Exception e) {
-            return "Çeviri hatası: " + e.getMessage();
-        }
+        return shardRouter.onUserShard(userId, () -> wordRepository.countByAddedDateAfterAndUserId(oneYearAgo, userId));
     }
 }
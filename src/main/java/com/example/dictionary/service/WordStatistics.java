@@ -0,0 +1,4 @@
+package com.example.dictionary.service;
+
+public record WordStatistics(long totalWords, long todayWords, long last7Days, long lastMonth, long lastYear) {
+}
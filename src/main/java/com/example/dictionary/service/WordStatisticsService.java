@@ -0,0 +1,184 @@
+package com.example.dictionary.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.dictionary.event.UserDeletedEvent;
+import com.example.dictionary.event.WordChangedEvent;
+import com.example.dictionary.model.WordDailyCount;
+import com.example.dictionary.repository.WordDailyCountRepository;
+import com.example.dictionary.repository.WordRepository;
+import com.example.dictionary.shard.ShardRouter;
+
+// word_daily_count özet tablosunu kelime olaylarıyla günceller ve istatistikleri oradan okur.
+// Her kelime hem kendi kullanıcısının satırına hem de ALL_USERS toplam satırına, kelimenin shard'ında yazılır.
+@Service
+public class WordStatisticsService {
+
+    @Autowired
+    private WordDailyCountRepository dailyCountRepository;
+
+    @Autowired
+    private WordRepository wordRepository;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    // Gün bazında: "son 7 gün" bugün dahil 7 takvim günüdür. ALL_USERS satırları her shard'da
+    // o shard'ın toplamıdır; kullanıcısız istatistik shard'ların toplamıdır.
+    public WordStatistics getStatistics(Long userId) {
+        if (userId != null) {
+            return shardRouter.onUserShard(userId, () -> summarize(userId));
+        }
+        long total = 0, today = 0, last7Days = 0, lastMonth = 0, lastYear = 0;
+        for (WordStatistics shard : shardRouter.scatter(() -> summarize(WordDailyCount.ALL_USERS))) {
+            total += shard.totalWords();
+            today += shard.todayWords();
+            last7Days += shard.last7Days();
+            lastMonth += shard.lastMonth();
+            lastYear += shard.lastYear();
+        }
+        return new WordStatistics(total, today, last7Days, lastMonth, lastYear);
+    }
+
+    private WordStatistics summarize(Long userId) {
+        LocalDate today = LocalDate.now();
+        return dailyCountRepository.summarize(
+                userId,
+                today,
+                today.minusDays(6),
+                today.minusMonths(1),
+                today.minusYears(1));
+    }
+
+    // Son `days` günün günlük kelime sayıları; son eleman bugündür
+    public int[] getDailyCounts(Long userId, int days) {
+        LocalDate today = LocalDate.now();
+        LocalDate from = today.minusDays(days - 1);
+        List<List<Object[]>> shards = userId != null
+                ? List.of(shardRouter.onUserShard(userId, () -> dailyCountRepository.findDailyCounts(userId, from)))
+                : shardRouter.scatter(() -> dailyCountRepository.findDailyCounts(WordDailyCount.ALL_USERS, from));
+        int[] counts = new int[days];
+        for (List<Object[]> rows : shards) {
+            for (Object[] row : rows) {
+                long daysAgo = ChronoUnit.DAYS.between((LocalDate) row[0], today);
+                if (daysAgo >= 0 && daysAgo < days) {
+                    counts[days - 1 - (int) daysAgo] += ((Number) row[1]).intValue();
+                }
+            }
+        }
+        return counts;
+    }
+
+    // {easy, medium, hard, seviyesiz}
+    public int[] getDifficultyCounts(Long userId) {
+        List<List<Object[]>> shards = userId != null
+                ? List.of(shardRouter.onUserShard(userId, () -> wordRepository.countByDifficultyLevelForUser(userId)))
+                : shardRouter.scatter(wordRepository::countByDifficultyLevel);
+        int[] counts = new int[4];
+        for (List<Object[]> rows : shards) {
+            for (Object[] row : rows) {
+                String difficulty = (String) row[0];
+                int count = ((Number) row[1]).intValue();
+                if ("easy".equals(difficulty)) {
+                    counts[0] += count;
+                } else if ("medium".equals(difficulty)) {
+                    counts[1] += count;
+                } else if ("hard".equals(difficulty)) {
+                    counts[2] += count;
+                } else {
+                    counts[3] += count;
+                }
+            }
+        }
+        return counts;
+    }
+
+    @EventListener
+    public void onWordChanged(WordChangedEvent event) {
+        LocalDateTime addedDate = event.word().getAddedDate();
+        switch (event.type()) {
+            case CREATED:
+                adjust(event.userId(), addedDate, 1);
+                break;
+            case DELETED:
+                adjust(event.userId(), event.previousAddedDate(), -1);
+                break;
+            case UPDATED:
+                LocalDate before = toDay(event.previousAddedDate());
+                LocalDate after = toDay(addedDate);
+                if (before == null ? after != null : !before.equals(after)) {
+                    adjust(event.userId(), event.previousAddedDate(), -1);
+                    adjust(event.userId(), addedDate, 1);
+                }
+                break;
+        }
+    }
+
+    // Kullanıcının kelimeleri silindi (0. shard'da cascade ile, diğerlerinde WordService'te):
+    // satırlarını kendi shard'ının toplamından düş ve sil (0. shard dışında silme commit olduktan sonra)
+    @EventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        shardRouter.runOnUserShardAfterCommit(event.userId(), () -> removeUserCounts(event.userId()));
+    }
+
+    // Bulunulan shard'da; shard taşımada kullanıcının satırları buradan kaynak shard'dan silinir
+    public void removeUserCounts(Long userId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (WordDailyCount count : dailyCountRepository.findByUserId(userId)) {
+                dailyCountRepository.increment(WordDailyCount.ALL_USERS, count.getCountDate(), -count.getWordCount());
+            }
+            dailyCountRepository.deleteByUserId(userId);
+        });
+    }
+
+    // Bulunulan shard'da; shard taşımada kaynak shard'daki satırlar hedefe eklenir
+    public void addUserCounts(Long userId, List<WordDailyCount> counts) {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (WordDailyCount count : counts) {
+                dailyCountRepository.increment(userId, count.getCountDate(), count.getWordCount());
+                dailyCountRepository.increment(WordDailyCount.ALL_USERS, count.getCountDate(), count.getWordCount());
+            }
+        });
+    }
+
+    public List<WordDailyCount> getUserCounts(Long userId) {
+        return transactionTemplate.execute(status -> dailyCountRepository.findByUserId(userId));
+    }
+
+    // Özet tablosu ilk kez oluşturulduysa mevcut kelimelerden doldur (her shard kendi kelimelerinden)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        shardRouter.scatter(() -> transactionTemplate.execute(status -> {
+            if (dailyCountRepository.count() == 0 && wordRepository.count() > 0) {
+                dailyCountRepository.rebuildUserRows();
+                dailyCountRepository.rebuildTotalRows();
+            }
+            return null;
+        }));
+    }
+
+    private void adjust(Long userId, LocalDateTime addedDate, long delta) {
+        LocalDate day = toDay(addedDate);
+        if (day == null) {
+            return;
+        }
+        dailyCountRepository.increment(userId != null ? userId : WordDailyCount.NO_USER, day, delta);
+        dailyCountRepository.increment(WordDailyCount.ALL_USERS, day, delta);
+    }
+
+    private static LocalDate toDay(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.toLocalDate() : null;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.dictionary.shard;
+
+// Bu thread'de açılacak kelime bağlantılarının gideceği shard. Ayarlanmamışsa 0. shard
+// (spring.datasource): kullanıcılar, cache tabloları ve shard dizini her zaman oradadır.
+// Yalnızca ShardRouter ayarlar; transaction'dan önce ayarlanmalıdır.
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static int current() {
+        Integer shard = CURRENT.get();
+        return shard != null ? shard : 0;
+    }
+
+    static Integer enter(int shard) {
+        Integer previous = CURRENT.get();
+        CURRENT.set(shard);
+        return previous;
+    }
+
+    static void restore(Integer previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
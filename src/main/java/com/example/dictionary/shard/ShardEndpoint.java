@@ -0,0 +1,36 @@
+package com.example.dictionary.shard;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+// /actuator/shards: GET shard başına kelime/kullanıcı sayıları, POST {"userId": .., "targetShard": ..}
+// kullanıcıyı taşır. Dışarı açmak için management.endpoints.web.exposure.include'a eklenmelidir.
+@Component
+@Endpoint(id = "shards")
+public class ShardEndpoint {
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private ShardRebalancer shardRebalancer;
+
+    @ReadOperation
+    public Map<String, Object> shards() {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("shardCount", shardRouter.getShardCount());
+        response.put("shards", shardRebalancer.getStatistics());
+        return response;
+    }
+
+    @WriteOperation
+    public Map<String, Object> move(long userId, int targetShard) {
+        return shardRebalancer.moveUser(userId, targetShard);
+    }
+}
@@ -0,0 +1,205 @@
+package com.example.dictionary.shard;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.dictionary.cache.UserResponseCache;
+import com.example.dictionary.model.WordDailyCount;
+import com.example.dictionary.model.WordDefinition;
+import com.example.dictionary.model.WordSense;
+import com.example.dictionary.repository.WordRepository;
+import com.example.dictionary.repository.WordSenseRepository;
+import com.example.dictionary.service.WordStatisticsService;
+
+// Bir kullanıcının kelimelerini uygulama çalışırken başka shard'a taşır. Kopyalama süresince kullanıcının
+// yazmaları tüm sunucularda bekler (shard_move satırı, ShardRouter.writeOnUserShard), okumaları kaynak shard'dan devam eder:
+// 1. hedefte önceki yarım kalmış taşımadan kalanlar silinir
+// 2. kelimeler aynı id'lerle, anlamları yeni id'lerle batch'ler halinde kopyalanır
+// 3. günlük sayılar ve veri sürümü hedefe eklenir, user_shard satırı hedefi gösterir (bundan sonra yazmalar hedefe)
+// 4. dizini cache'lemiş sunucular hedeften okumaya başlayana kadar (directory-ttl) beklenir, yazmalar serbesttir
+// 5. diğer shard'lardaki kopyalar ve sayılar silinir
+@Component
+public class ShardRebalancer {
+
+    private static final String SELECT_WORDS = "select id, added_date, difficulty_level, english, english_lower, enrichment_status,"
+            + " example_usage, meaning, turkish_meaning, user_id from word where user_id = ? and id > ? order by id limit ?";
+
+    private static final String INSERT_WORD = "insert into word (id, added_date, difficulty_level, english, english_lower, enrichment_status,"
+            + " example_usage, meaning, turkish_meaning, user_id) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String[] WORD_COLUMNS = {"id", "added_date", "difficulty_level", "english", "english_lower",
+            "enrichment_status", "example_usage", "meaning", "turkish_meaning", "user_id"};
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private WordRepository wordRepository;
+
+    @Autowired
+    private WordSenseRepository wordSenseRepository;
+
+    @Autowired
+    private WordStatisticsService wordStatisticsService;
+
+    @Autowired
+    private UserResponseCache userResponseCache;
+
+    @Value("${dictionary.shard.move.batch-size:500}")
+    private int batchSize;
+
+    @Value("${dictionary.shard.move.lock-timeout:30s}")
+    private Duration lockTimeout;
+
+    // Kullanıcı zaten hedefteyse yalnızca diğer shard'lardaki kalıntılar temizlenir (yarım kalmış taşımayı bitirir)
+    public Map<String, Object> moveUser(Long userId, int targetShard) {
+        if (targetShard < 0 || targetShard >= shardRouter.getShardCount()) {
+            throw new IllegalArgumentException("Shard " + targetShard + " does not exist");
+        }
+        long start = System.nanoTime();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("userId", userId);
+        int sourceShard = shardRouter.whileMoving(userId, lockTimeout, () -> {
+            int source = shardRouter.directoryShardOf(userId);
+            int copied = 0;
+            if (source != targetShard) {
+                removeUserData(userId, targetShard);
+                copied = copyWords(userId, source, targetShard);
+                List<WordDailyCount> counts = shardRouter.onShard(source, () -> wordStatisticsService.getUserCounts(userId));
+                long version = shardRouter.onShard(source, () -> userResponseCache.readVersion(userId));
+                shardRouter.onShard(targetShard, () -> {
+                    wordStatisticsService.addUserCounts(userId, counts);
+                    userResponseCache.advanceVersion(userId, version);
+                    return null;
+                });
+                shardRouter.moveDirectoryEntry(userId, targetShard);
+            }
+            result.put("sourceShard", source);
+            result.put("targetShard", targetShard);
+            result.put("copiedWords", copied);
+            return source;
+        });
+
+        if (sourceShard != targetShard) {
+            try {
+                Thread.sleep(shardRouter.getDirectoryTtl().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Move was interrupted before cleanup, run it again to finish", e);
+            }
+        }
+        int removed = shardRouter.withMoveLease(userId, lockTimeout, () -> {
+            // Bu arada başka bir taşıma kullanıcıyı başka shard'a götürdüyse onun verisine dokunulmaz
+            if (shardRouter.directoryShardOf(userId) != targetShard) {
+                return 0;
+            }
+            int count = 0;
+            for (int shard = 0; shard < shardRouter.getShardCount(); shard++) {
+                if (shard != targetShard) {
+                    count += removeUserData(userId, shard);
+                }
+            }
+            return count;
+        });
+
+        result.put("removedWords", removed);
+        result.put("durationMs", (System.nanoTime() - start) / 1_000_000);
+        return result;
+    }
+
+    // Shard başına kelime ve kelimesi olan kullanıcı sayısı
+    public List<Map<String, Object>> getStatistics() {
+        List<Map<String, Object>> shards = shardRouter.scatter(() -> {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("words", wordRepository.count());
+            stats.put("users", wordRepository.countUsers());
+            return stats;
+        });
+        for (int shard = 0; shard < shards.size(); shard++) {
+            shards.get(shard).put("shard", shard);
+        }
+        return shards;
+    }
+
+    private int copyWords(Long userId, int sourceShard, int targetShard) {
+        int copied = 0;
+        long lastId = 0;
+        while (true) {
+            long afterId = lastId;
+            // Kaynak okumaları transaction içinde: 0. shard'da replika varsa primary'den
+            List<Map<String, Object>> words = shardRouter.onShard(sourceShard, () -> transactionTemplate.execute(status ->
+                    jdbcTemplate.queryForList(SELECT_WORDS, userId, afterId, batchSize)));
+            if (words.isEmpty()) {
+                return copied;
+            }
+            List<Long> wordIds = new ArrayList<>(words.size());
+            List<Object[]> rows = new ArrayList<>(words.size());
+            for (Map<String, Object> word : words) {
+                wordIds.add(((Number) word.get("id")).longValue());
+                Object[] row = new Object[WORD_COLUMNS.length];
+                for (int i = 0; i < row.length; i++) {
+                    row[i] = word.get(WORD_COLUMNS[i]);
+                }
+                rows.add(row);
+            }
+            List<WordSense> senses = shardRouter.onShard(sourceShard, () -> transactionTemplate.execute(status ->
+                    wordSenseRepository.findWithDefinitionsByWordIdIn(wordIds)));
+
+            shardRouter.onShard(targetShard, () -> transactionTemplate.execute(status -> {
+                jdbcTemplate.batchUpdate(INSERT_WORD, rows);
+                List<WordSense> copies = new ArrayList<>(senses.size());
+                for (WordSense sense : senses) {
+                    copies.add(copyOf(sense));
+                }
+                wordSenseRepository.saveAll(copies);
+                return null;
+            }));
+
+            copied += words.size();
+            lastId = wordIds.get(wordIds.size() - 1);
+            shardRouter.renewMoveLease(userId);
+        }
+    }
+
+    private WordSense copyOf(WordSense sense) {
+        WordSense copy = WordSense.builder()
+                .word(wordRepository.getReferenceById(sense.getWord().getId()))
+                .senseOrder(sense.getSenseOrder())
+                .partOfSpeech(sense.getPartOfSpeech())
+                .synonyms(sense.getSynonyms())
+                .build();
+        for (WordDefinition definition : sense.getDefinitions()) {
+            copy.getDefinitions().add(WordDefinition.builder()
+                    .sense(copy)
+                    .definitionOrder(definition.getDefinitionOrder())
+                    .definition(definition.getDefinition())
+                    .example(definition.getExample())
+                    .synonyms(definition.getSynonyms())
+                    .build());
+        }
+        return copy;
+    }
+
+    // Anlamlar on delete cascade ile silinir; günlük sayılar shard'ın toplamından düşülür
+    private int removeUserData(Long userId, int shard) {
+        return shardRouter.onShard(shard, () -> transactionTemplate.execute(status -> {
+            wordStatisticsService.removeUserCounts(userId);
+            return wordRepository.deleteByUserId(userId);
+        }));
+    }
+}
@@ -0,0 +1,402 @@
+package com.example.dictionary.shard;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.dictionary.cache.BoundedCache;
+import com.example.dictionary.event.UserDeletedEvent;
+import com.example.dictionary.repository.WordRepository;
+
+import jakarta.annotation.PostConstruct;
+
+// Kelime verisinin (word, word_sense, word_definition, word_daily_count) hangi shard'da olduğunu bilir.
+// Kullanıcının shard'ı 0. shard'daki user_shard tablosundadır: yeni kullanıcılar id hash'iyle dağıtılır,
+// satırı olmayan (sharding'den önceki) kullanıcılar 0. shard'dadır. dictionary.shard.urls boşsa tek shard
+// vardır ve her metot işi olduğu gibi çalıştırır.
+// Okumalar dizini directory-ttl boyunca cache'ten alır; yazmalar her seferinde 0. shard'dan okur ve
+// shard_move tablosuna bakar, böylece başka bir sunucuda yapılan taşımaya hemen uyar.
+@Component
+public class ShardRouter {
+
+    private static final int MOVE_LOCK_STRIPES = 1024;
+    private static final long MOVE_POLL_MILLIS = 50;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private WordRepository wordRepository;
+
+    @Autowired(required = false)
+    private ShardRoutingDataSource shardRoutingDataSource;
+
+    @Autowired(required = false)
+    @Qualifier("shardQueryExecutor")
+    private Executor shardQueryExecutor;
+
+    @Value("${dictionary.shard.directory-cache-size:100000}")
+    private int directoryCacheSize;
+
+    @Value("${dictionary.shard.directory-ttl:10s}")
+    private Duration directoryTtl;
+
+    @Value("${dictionary.shard.write-wait:2s}")
+    private Duration writeWait;
+
+    @Value("${dictionary.shard.move.lease:5m}")
+    private Duration moveLease;
+
+    @Value("${dictionary.shard.move.drain:5s}")
+    private Duration moveDrain;
+
+    private int shardCount = 1;
+    private BoundedCache<Long, Integer> directory;
+    private TransactionTemplate outsideTransaction;
+    private TransactionTemplate inTransaction;
+
+    // Bu sunucudaki yazmalar için; diğer sunucular shard_move satırını görür. Kullanıcı başına değil şeritli:
+    // taşınan kullanıcıyla aynı şeritteki kullanıcıların yazmaları da kısa süre bekler
+    private final ReadWriteLock[] moveLocks = new ReadWriteLock[MOVE_LOCK_STRIPES];
+
+    @PostConstruct
+    void init() {
+        if (shardRoutingDataSource != null) {
+            shardCount = shardRoutingDataSource.getShardCount();
+        }
+        directory = new BoundedCache<>(directoryCacheSize, directoryTtl);
+        outsideTransaction = new TransactionTemplate(transactionManager);
+        outsideTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_NOT_SUPPORTED);
+        inTransaction = new TransactionTemplate(transactionManager);
+        for (int i = 0; i < moveLocks.length; i++) {
+            moveLocks[i] = new ReentrantReadWriteLock();
+        }
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public boolean isSharded() {
+        return shardCount > 1;
+    }
+
+    public int shardOf(Long userId) {
+        if (!isSharded() || userId == null) {
+            return 0;
+        }
+        Integer shard = directory.get(userId);
+        return shard != null ? shard : directoryShardOf(userId);
+    }
+
+    // Cache'e bakmadan; replikadan değil primary'den: yeni kullanıcının satırı henüz replikaya gelmemiş olabilir
+    int directoryShardOf(Long userId) {
+        int shard = inDirectory(() -> jdbcTemplate.query("select shard from user_shard where user_id = ?",
+                rs -> rs.next() ? rs.getInt(1) : 0, userId));
+        directory.put(userId, shard);
+        return shard;
+    }
+
+    // Kayıttan hemen sonra, kullanıcının ilk kelimesinden önce çağrılır
+    public void assignShard(Long userId) {
+        if (!isSharded()) {
+            return;
+        }
+        int shard = Math.floorMod(Long.hashCode(userId * 0x9E3779B97F4A7C15L), shardCount);
+        inDirectory(() -> jdbcTemplate.update("insert into user_shard (user_id, shard) values (?, ?)", userId, shard));
+        directory.put(userId, shard);
+    }
+
+    void moveDirectoryEntry(Long userId, int shard) {
+        inDirectory(() -> {
+            if (jdbcTemplate.update("update user_shard set shard = ? where user_id = ?", shard, userId) == 0) {
+                jdbcTemplate.update("insert into user_shard (user_id, shard) values (?, ?)", userId, shard);
+            }
+            return null;
+        });
+        directory.put(userId, shard);
+    }
+
+    // İş, verilen shard'ın bağlantılarıyla çalışır. Başka shard'da açık bir transaction varsa iş onun
+    // dışında yapılır (askıya alınır); iç işin transaction'ı gerekiyorsa kendisi açmalıdır.
+    public <T> T onShard(int shard, Supplier<T> work) {
+        if (!isSharded() || shard == ShardContext.current()) {
+            return work.get();
+        }
+        Integer previous = ShardContext.enter(shard);
+        try {
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                return outsideTransaction.execute(status -> work.get());
+            }
+            return work.get();
+        } finally {
+            ShardContext.restore(previous);
+        }
+    }
+
+    // Okumalar: kullanıcı taşınırken eski shard'dan okunur, taşıma bitince yenisinden
+    public <T> T onUserShard(Long userId, Supplier<T> work) {
+        return onShard(shardOf(userId), work);
+    }
+
+    public void runOnUserShard(Long userId, Runnable work) {
+        runOnShard(shardOf(userId), work);
+    }
+
+    private void runOnShard(int shard, Runnable work) {
+        onShard(shard, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    // Kullanıcı silinirken: 0. shard'da iş silme transaction'ının içinde çalışır, diğer shard'larda (onShard
+    // transaction'ı askıya aldığından) ancak silme commit olduktan sonra; geri alınan silme verisini bırakır.
+    // Shard şimdi okunur, dizin satırı commit'ten sonra silinir (onUserDeleted)
+    public void runOnUserShardAfterCommit(Long userId, Runnable work) {
+        int shard = shardOf(userId);
+        if (shard == 0 || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            runOnShard(shard, work);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runOnShard(shard, work);
+            }
+        });
+    }
+
+    // Yazmalar: kullanıcının kelimeleri (herhangi bir sunucuda) kopyalanıyorsa write-wait kadar beklenir,
+    // kopyalama bitmezse ShardMoveInProgressException
+    public <T> T writeOnUserShard(Long userId, Supplier<T> work) {
+        if (!isSharded() || userId == null) {
+            return work.get();
+        }
+        long deadline = System.nanoTime() + writeWait.toNanos();
+        Lock lock = moveLock(userId).readLock();
+        if (!tryLock(lock, writeWait)) {
+            throw new ShardMoveInProgressException();
+        }
+        try {
+            while (true) {
+                Integer shard = writableShardOf(userId);
+                if (shard != null) {
+                    return onShard(shard, work);
+                }
+                if (System.nanoTime() >= deadline || !sleep(MOVE_POLL_MILLIS)) {
+                    throw new ShardMoveInProgressException();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Taşıma: shard_move satırı alınır (yazmalar tüm sunucularda bekler), bu sunucudaki devam eden yazmalar
+    // kilitle, diğer sunucularda satır görülmeden hemen önce başlamış olanlar move.drain kadar beklenerek biter
+    <T> T whileMoving(Long userId, Duration wait, Supplier<T> move) {
+        Lock lock = moveLock(userId).writeLock();
+        if (!tryLock(lock, wait)) {
+            throw new ShardMoveInProgressException();
+        }
+        try {
+            return underMoveLease(userId, wait, true, () -> {
+                if (!sleep(moveDrain.toMillis())) {
+                    throw new ShardMoveInProgressException();
+                }
+                return move.get();
+            });
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Taşımadan sonraki temizlik: başka taşıma başlamaz ama yazmalar bekletilmez
+    <T> T withMoveLease(Long userId, Duration wait, Supplier<T> work) {
+        return underMoveLease(userId, wait, false, work);
+    }
+
+    // Uzun taşımalarda her batch'te çağrılır ki satır başka bir taşımaca devralınmasın
+    void renewMoveLease(Long userId) {
+        inDirectory(() -> jdbcTemplate.update("update shard_move set lease_until = ? where user_id = ?", leaseUntil(), userId));
+    }
+
+    // Dizini cache'lemiş diğer sunucuların yeni shard'ı okumaya başlaması için geçen süre
+    Duration getDirectoryTtl() {
+        return directoryTtl;
+    }
+
+    // Kopyalama sürüyorsa null
+    private Integer writableShardOf(Long userId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Integer shard = inDirectory(() -> jdbcTemplate.query("select (select shard from user_shard where user_id = ?),"
+                        + " (select count(*) from shard_move where user_id = ? and copying = true and lease_until > ?)",
+                rs -> {
+                    rs.next();
+                    return rs.getInt(2) > 0 ? null : rs.getInt(1);
+                }, userId, userId, now));
+        if (shard != null) {
+            directory.put(userId, shard);
+        }
+        return shard;
+    }
+
+    private <T> T underMoveLease(Long userId, Duration wait, boolean copying, Supplier<T> work) {
+        long deadline = System.nanoTime() + wait.toNanos();
+        while (!tryAcquireMoveLease(userId, copying)) {
+            if (System.nanoTime() >= deadline || !sleep(MOVE_POLL_MILLIS)) {
+                throw new ShardMoveInProgressException();
+            }
+        }
+        try {
+            return work.get();
+        } finally {
+            inDirectory(() -> jdbcTemplate.update("delete from shard_move where user_id = ?", userId));
+        }
+    }
+
+    // Süresi dolmuş satır yarıda kalmış bir taşımanındır ve devralınır
+    private boolean tryAcquireMoveLease(Long userId, boolean copying) {
+        return inDirectory(() -> {
+            jdbcTemplate.update("delete from shard_move where user_id = ? and lease_until <= ?",
+                    userId, Timestamp.valueOf(LocalDateTime.now()));
+            try {
+                jdbcTemplate.update("insert into shard_move (user_id, lease_until, copying) values (?, ?, ?)",
+                        userId, leaseUntil(), copying);
+                return true;
+            } catch (DuplicateKeyException e) {
+                return false;
+            }
+        });
+    }
+
+    private Timestamp leaseUntil() {
+        return Timestamp.valueOf(LocalDateTime.now().plus(moveLease));
+    }
+
+    // Kullanıcısız sorgular: iş her shard'da paralel çalışır, sonuçlar shard sırasıyla döner
+    public <T> List<T> scatter(Supplier<T> work) {
+        if (!isSharded()) {
+            return Collections.singletonList(work.get());
+        }
+        List<CompletableFuture<T>> futures = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            int target = shard;
+            futures.add(CompletableFuture.supplyAsync(() -> onShard(target, work), shardQueryExecutor));
+        }
+        List<T> results = new ArrayList<>(shardCount);
+        for (CompletableFuture<T> future : futures) {
+            try {
+                results.add(future.join());
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+        return results;
+    }
+
+    // Kelimenin sahibinin shard'ı; kelime hiçbir shard'da yoksa null. Kelime tüm shard'larda paralel aranır
+    // (id'ler tekildir ama hangi shard'da üretildikleri id'den anlaşılmaz: Hibernate'in id bloğu paylaşılır).
+    public Integer locateWord(Long wordId) {
+        if (!isSharded()) {
+            return 0;
+        }
+        // readOnly olmayan transaction: 0. shard'da replikalar varsa sahibi primary'den okunur
+        for (Long ownerId : scatter(() -> inTransaction.execute(status -> wordRepository.findOwnerIdById(wordId).orElse(null)))) {
+            if (ownerId != null) {
+                // Taşıma sırasında veya yarım kalmış taşımada iki kopya olabilir; geçerli olan sahibinin shard'ındakidir
+                return shardOf(ownerId);
+            }
+        }
+        return null;
+    }
+
+    // Diğer dinleyiciler kullanıcının kelimelerini silmek için shard'ı buradan okur: satır commit'ten sonra silinir
+    @EventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        if (!isSharded()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    removeDirectoryEntry(event.userId());
+                }
+            });
+        } else {
+            removeDirectoryEntry(event.userId());
+        }
+    }
+
+    private void removeDirectoryEntry(Long userId) {
+        inDirectory(() -> jdbcTemplate.update("delete from user_shard where user_id = ?", userId));
+        directory.invalidate(userId);
+    }
+
+    private <T> T inDirectory(Supplier<T> work) {
+        Integer previous = ShardContext.enter(0);
+        try {
+            return outsideTransaction.execute(status -> work.get());
+        } finally {
+            ShardContext.restore(previous);
+        }
+    }
+
+    private ReadWriteLock moveLock(Long userId) {
+        return moveLocks[Math.floorMod(Long.hashCode(userId), MOVE_LOCK_STRIPES)];
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static boolean tryLock(Lock lock, Duration wait) {
+        try {
+            return lock.tryLock(wait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public static class ShardMoveInProgressException extends RuntimeException {
+        public ShardMoveInProgressException() {
+            super("Words of this user are being moved, please try again");
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.dictionary.shard;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+// Bağlantıyı ShardContext'teki shard'ın havuzundan verir. 0. shard primary'dir (replika varsa
+// ReplicaRoutingDataSource); diğerleri dictionary.shard.urls'teki havuzlar. LazyConnectionDataSourceProxy
+// arkasında kullanılır, böylece shard transaction'ın ilk sorgusunda seçilir.
+public class ShardRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private final List<DataSource> shards;
+
+    public ShardRoutingDataSource(List<DataSource> shards) {
+        this.shards = List.copyOf(shards);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return shards.get(ShardContext.current()).getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return shards.get(ShardContext.current()).getConnection(username, password);
+    }
+
+    public int getShardCount() {
+        return shards.size();
+    }
+
+    // 0. shard Spring bean'i olarak ayrıca kapatılır
+    @Override
+    public void close() {
+        for (DataSource shard : shards.subList(1, shards.size())) {
+            if (shard instanceof HikariDataSource pool) {
+                pool.close();
+            }
+        }
+    }
+}
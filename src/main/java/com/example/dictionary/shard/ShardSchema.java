@@ -0,0 +1,54 @@
+package com.example.dictionary.shard;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.dictionary.model.Word;
+
+// Ek shard'lar Flyway'den sonra buradan geçer (açılışta her seferinde, işlemler tekrarlanabilir):
+// - word.user_id -> users yabancı anahtarı kaldırılır; kullanıcılar yalnızca 0. shard'dadır.
+// - word_seq her shard'da ayrı bir aralıktan başlar (shard << ID_BITS). Hibernate id bloğunu o an hangi
+//   shard'daysa oradan aldığı için kelime id'lerinin tüm shard'larda tekil kalması bu aralıklara dayanır;
+//   taşımada id'ler korunur.
+public final class ShardSchema {
+
+    public static final int ID_BITS = 40;
+
+    private ShardSchema() {
+    }
+
+    public static long firstId(int shard) {
+        // Hibernate'in pooled optimizer'ı sequence değerinden geriye doğru bir blok kullanır
+        return ((long) shard << ID_BITS) + Word.ID_ALLOCATION_SIZE;
+    }
+
+    public static void prepare(DataSource shardDataSource, int shard) {
+        JdbcTemplate jdbc = new JdbcTemplate(shardDataSource);
+        if (isMySql(shardDataSource)) {
+            Integer foreignKeys = jdbc.queryForObject("select count(*) from information_schema.table_constraints"
+                    + " where table_schema = database() and table_name = 'word' and constraint_name = 'fk_word_user'", Integer.class);
+            if (foreignKeys != null && foreignKeys > 0) {
+                jdbc.execute("alter table word drop foreign key fk_word_user");
+            }
+            jdbc.update("update word_seq set next_val = ? where next_val < ?", firstId(shard), firstId(shard));
+        } else {
+            jdbc.execute("alter table word drop constraint if exists fk_word_user");
+            Long next = jdbc.queryForObject("select base_value from information_schema.sequences where sequence_name = 'word_seq'", Long.class);
+            if (next == null || next < firstId(shard)) {
+                jdbc.execute("alter sequence word_seq restart with " + firstId(shard));
+            }
+        }
+    }
+
+    private static boolean isMySql(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            return "MySQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+        } catch (SQLException e) {
+            throw new IllegalStateException("Shard is not reachable", e);
+        }
+    }
+}
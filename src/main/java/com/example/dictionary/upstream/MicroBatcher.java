@@ -0,0 +1,171 @@
+package com.example.dictionary.upstream;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Tek tek gelen işleri kısa bir süre (linger) veya maxBatchSize'a kadar biriktirip tek istekte gönderir,
+// sonuçları sırasıyla çağıranlara dağıtır. Aynı anda en fazla maxInFlight batch gönderilir; hepsi
+// meşgulken gelen işler bir sonraki batch'e eklenir, yani yük arttıkça batch'ler büyür.
+// Batch isteği içerik yüzünden reddedilirse (splitOn) işler tek tek gönderilir: hatalı iş sadece
+// kendi çağıranını başarısız yapar.
+public class MicroBatcher<T, R> {
+
+    private final BlockingQueue<Job<T, R>> queue;
+    private final int maxBatchSize;
+    private final long lingerNanos;
+    private final int maxInFlight;
+    private final Semaphore inFlight;
+    private final Executor executor;
+    private final Function<List<T>, List<R>> sender;
+    private final Predicate<RuntimeException> splitOn;
+    private final DistributionSummary batchSizes;
+    private final Thread dispatcher;
+
+    private volatile boolean running = true;
+
+    // sender aynı sırada ve aynı sayıda sonuç dönmeli
+    public MicroBatcher(String name, int maxBatchSize, Duration linger, int queueCapacity, int maxInFlight,
+                        Executor executor, Function<List<T>, List<R>> sender, Predicate<RuntimeException> splitOn,
+                        MeterRegistry meterRegistry) {
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.maxBatchSize = maxBatchSize;
+        this.lingerNanos = linger.toNanos();
+        this.maxInFlight = maxInFlight;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.executor = executor;
+        this.sender = sender;
+        this.splitOn = splitOn;
+
+        this.batchSizes = DistributionSummary.builder("dictionary.batch.size")
+                .tag("batcher", name)
+                .register(meterRegistry);
+        Gauge.builder("dictionary.batch.queue.size", queue, BlockingQueue::size)
+                .tag("batcher", name)
+                .register(meterRegistry);
+        Gauge.builder("dictionary.batch.in.flight", inFlight, permits -> maxInFlight - permits.availablePermits())
+                .tag("batcher", name)
+                .register(meterRegistry);
+
+        this.dispatcher = new Thread(this::dispatchLoop, "batcher-" + name);
+        this.dispatcher.setDaemon(true);
+        this.dispatcher.start();
+    }
+
+    // Kuyruk doluysa sonuç RejectedExecutionException ile tamamlanır
+    public CompletableFuture<R> submit(T item) {
+        Job<T, R> job = new Job<>(item, new CompletableFuture<>());
+        if (!running || !queue.offer(job)) {
+            job.result().completeExceptionally(new RejectedExecutionException("Batch queue is full"));
+        }
+        return job.result();
+    }
+
+    public void shutdown() {
+        running = false;
+        dispatcher.interrupt();
+    }
+
+    private void dispatchLoop() {
+        try {
+            while (running) {
+                List<Job<T, R>> batch = new ArrayList<>(maxBatchSize);
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + lingerNanos;
+                while (batch.size() < maxBatchSize) {
+                    Job<T, R> next = queue.poll(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                inFlight.acquire();
+                // İzin beklerken biriken işler de bu batch'e girer
+                queue.drainTo(batch, maxBatchSize - batch.size());
+                dispatch(batch);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<Job<T, R>> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        fail(remaining, new RejectedExecutionException("Batcher is shut down"));
+    }
+
+    private void dispatch(List<Job<T, R>> batch) {
+        try {
+            executor.execute(() -> send(batch));
+        } catch (RejectedExecutionException e) {
+            inFlight.release();
+            fail(batch, e);
+        }
+    }
+
+    private void send(List<Job<T, R>> batch) {
+        try {
+            batchSizes.record(batch.size());
+            List<T> items = new ArrayList<>(batch.size());
+            for (Job<T, R> job : batch) {
+                items.add(job.item());
+            }
+            List<R> results;
+            try {
+                results = apply(items);
+            } catch (RuntimeException e) {
+                if (batch.size() > 1 && splitOn.test(e)) {
+                    sendOneByOne(batch);
+                    return;
+                }
+                throw e;
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result().complete(results.get(i));
+            }
+        } catch (RuntimeException e) {
+            fail(batch, e);
+        } finally {
+            inFlight.release();
+        }
+    }
+
+    private void sendOneByOne(List<Job<T, R>> batch) {
+        for (Job<T, R> job : batch) {
+            try {
+                job.result().complete(apply(List.of(job.item())).get(0));
+            } catch (RuntimeException e) {
+                job.result().completeExceptionally(e);
+            }
+        }
+    }
+
+    private List<R> apply(List<T> items) {
+        List<R> results = sender.apply(items);
+        if (results == null || results.size() != items.size()) {
+            throw new IllegalStateException("Expected " + items.size() + " results but got "
+                    + (results == null ? "none" : results.size()));
+        }
+        return results;
+    }
+
+    private static <T, R> void fail(List<Job<T, R>> jobs, Throwable e) {
+        for (Job<T, R> job : jobs) {
+            job.result().completeExceptionally(e);
+        }
+    }
+
+    private record Job<T, R>(T item, CompletableFuture<R> result) {
+    }
+}
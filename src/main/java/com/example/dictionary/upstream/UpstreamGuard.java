@@ -0,0 +1,110 @@
+package com.example.dictionary.upstream;
+
+import java.time.Duration;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import com.example.dictionary.metrics.UpstreamMetrics;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.core.IntervalFunction;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedRetryMetrics;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Bir dış servisin (dictionaryapi.dev, LibreTranslate) çağrılarını sarar:
+// eşzamanlı çağrı sınırı (bulkhead), devre kesici ve sadece idempotent çağrılar için jitter'lı tekrar.
+// Sıra: retry( circuitBreaker( bulkhead( metrik( çağrı ) ) ) ); her deneme ayrı ölçülür ve ayrı izin alır.
+public class UpstreamGuard {
+
+    public static final String DICTIONARY_API = "dictionaryapi";
+    public static final String LIBRE_TRANSLATE = "libretranslate";
+
+    // Sadece servisin kendisinden kaynaklanan hatalar sayılır; 404 gibi cevaplar geçerli sonuçtur
+    private static final Predicate<Throwable> UPSTREAM_FAILURE = e -> e instanceof ResourceAccessException
+            || e instanceof HttpServerErrorException
+            || e instanceof HttpClientErrorException.TooManyRequests;
+
+    private final String name;
+    private final Bulkhead bulkhead;
+    private final CircuitBreaker circuitBreaker;
+    private final Retry retry;
+    private final UpstreamMetrics upstreamMetrics;
+
+    public UpstreamGuard(String name, Policy policy, UpstreamMetrics upstreamMetrics, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.upstreamMetrics = upstreamMetrics;
+
+        BulkheadRegistry bulkheads = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(policy.maxConcurrentCalls())
+                .maxWaitDuration(policy.maxWait())
+                .build());
+        CircuitBreakerRegistry circuitBreakers = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .failureRateThreshold(policy.failureRateThreshold())
+                .slidingWindowSize(policy.slidingWindowSize())
+                .minimumNumberOfCalls(policy.minimumCalls())
+                .waitDurationInOpenState(policy.openDuration())
+                .permittedNumberOfCallsInHalfOpenState(policy.halfOpenCalls())
+                .recordException(UPSTREAM_FAILURE)
+                .build());
+        RetryConfig.Builder<Object> retryConfig = RetryConfig.custom()
+                .maxAttempts(Math.max(1, policy.retryAttempts()))
+                .retryOnException(UPSTREAM_FAILURE);
+        // Tek denemede bekleme aralığı anlamsız (ve sıfır süreyi resilience4j kabul etmez)
+        if (policy.retryAttempts() > 1) {
+            retryConfig.intervalFunction(IntervalFunction.ofExponentialRandomBackoff(policy.retryBackoff(), 2.0, 0.5));
+        }
+        RetryRegistry retries = RetryRegistry.of(retryConfig.build());
+
+        this.bulkhead = bulkheads.bulkhead(name);
+        this.circuitBreaker = circuitBreakers.circuitBreaker(name);
+        this.retry = retries.retry(name);
+
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheads).bindTo(meterRegistry);
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakers).bindTo(meterRegistry);
+        TaggedRetryMetrics.ofRetryRegistry(retries).bindTo(meterRegistry);
+    }
+
+    // Yan etkisi olabilecek çağrılar: tekrar denenmez
+    public <T> T call(Supplier<T> call) {
+        return guarded(call).get();
+    }
+
+    // GET gibi tekrarı güvenli çağrılar
+    public <T> T callIdempotent(Supplier<T> call) {
+        return Retry.decorateSupplier(retry, guarded(call)).get();
+    }
+
+    private <T> Supplier<T> guarded(Supplier<T> call) {
+        Supplier<T> measured = () -> upstreamMetrics.record(name, call);
+        return CircuitBreaker.decorateSupplier(circuitBreaker, Bulkhead.decorateSupplier(bulkhead, measured));
+    }
+
+    public CircuitBreaker.State getState() {
+        return circuitBreaker.getState();
+    }
+
+    public record Policy(int maxConcurrentCalls,
+                         Duration maxWait,
+                         int retryAttempts,
+                         Duration retryBackoff,
+                         float failureRateThreshold,
+                         int slidingWindowSize,
+                         int minimumCalls,
+                         Duration openDuration,
+                         int halfOpenCalls) {
+    }
+}
@@ -0,0 +1,51 @@
+-- Geliştirme/benchmark için H2 (MODE=MySQL) şeması; mysql/V1__baseline.sql ile aynı tablolar.
+-- H2'de word_seq gerçek bir sequence'tir.
+
+create table if not exists users (
+    id bigint not null auto_increment,
+    email varchar(255) not null,
+    name varchar(255),
+    password varchar(255) not null,
+    primary key (id),
+    constraint uk_users_email unique (email)
+);
+
+create table if not exists word (
+    id bigint not null,
+    added_date timestamp(6),
+    difficulty_level varchar(255),
+    english varchar(255),
+    enrichment_status varchar(16),
+    example_usage varchar(255),
+    meaning varchar(255),
+    turkish_meaning varchar(255),
+    user_id bigint,
+    primary key (id),
+    constraint fk_word_user foreign key (user_id) references users (id)
+);
+
+create sequence if not exists word_seq start with 1 increment by 50;
+
+create table if not exists dictionary_cache (
+    headword varchar(191) not null,
+    payload clob not null,
+    fetched_at timestamp(6) not null,
+    primary key (headword)
+);
+
+create table if not exists translation_memory (
+    memory_key varchar(64) not null,
+    source_lang varchar(8) not null,
+    target_lang varchar(8) not null,
+    source_text clob not null,
+    translated_text clob not null,
+    last_used_at timestamp(6) not null,
+    primary key (memory_key)
+);
+
+create table if not exists word_daily_count (
+    user_id bigint not null,
+    count_date date not null,
+    word_count bigint not null,
+    primary key (user_id, count_date)
+);
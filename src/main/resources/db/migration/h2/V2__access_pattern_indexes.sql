@@ -0,0 +1,19 @@
+-- mysql/V2__access_pattern_indexes.sql ile aynı indeksler
+
+-- Büyük/küçük harf duyarsız tekrar kontrolü için küçük harfli kelime (uygulama yazar)
+alter table word add column english_lower varchar(255);
+update word set english_lower = lower(english);
+
+-- Kullanıcının listesi, keyset sayfalama, stream ve kullanıcı sayımları
+create index idx_word_user_added on word (user_id, added_date, id);
+-- Zorluk filtresi ve zorluk dağılımı
+create index idx_word_user_difficulty_added on word (user_id, difficulty_level, added_date, id);
+-- existsByUserIdAndEnglishLower ve toplu eklemedeki tekrar kontrolü
+create index idx_word_user_english_lower on word (user_id, english_lower);
+-- Giriş yapmamış kullanıcıya en son eklenenler (tümü / zorluğa göre)
+create index idx_word_added on word (added_date, id);
+create index idx_word_difficulty_added on word (difficulty_level, added_date, id);
+
+-- Çeviri hafızası LRU budaması ve sözlük cache'inin süresi geçenleri silmesi
+create index idx_translation_memory_last_used on translation_memory (last_used_at);
+create index idx_dictionary_cache_fetched_at on dictionary_cache (fetched_at);
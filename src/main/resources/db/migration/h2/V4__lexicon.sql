@@ -0,0 +1,18 @@
+-- mysql/V4__lexicon.sql ile aynı tablolar
+
+create table lexicon_entry (
+    headword varchar(191) not null,
+    payload clob not null,
+    imported_at timestamp(6) not null,
+    primary key (headword)
+);
+
+create table lexicon_import (
+    source varchar(191) not null,
+    file_size bigint not null,
+    position bigint not null,
+    started_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    completed_at timestamp(6),
+    primary key (source)
+);
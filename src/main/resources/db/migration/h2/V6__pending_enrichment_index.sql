@@ -0,0 +1,3 @@
+-- mysql/V6__pending_enrichment_index.sql ile aynı indeks
+
+create index idx_word_enrichment_added on word (enrichment_status, added_date);
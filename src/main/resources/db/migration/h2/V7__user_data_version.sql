@@ -0,0 +1,7 @@
+-- mysql/V7__user_data_version.sql ile aynı tablo
+
+create table user_data_version (
+    user_id bigint not null,
+    version bigint not null,
+    primary key (user_id)
+);
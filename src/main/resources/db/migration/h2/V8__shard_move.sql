@@ -0,0 +1,8 @@
+-- mysql/V8__shard_move.sql ile aynı tablo
+
+create table shard_move (
+    user_id bigint not null,
+    lease_until timestamp(6) not null,
+    copying boolean not null,
+    primary key (user_id)
+);
@@ -0,0 +1,78 @@
+-- ddl-auto=update ile oluşmuş mevcut şemanın karşılığı. Mevcut veritabanlarında
+-- baseline-version=0 ile çalışır; "if not exists" sayesinde var olan tablolara dokunmaz.
+
+create table if not exists users (
+    id bigint not null auto_increment,
+    email varchar(255) not null,
+    name varchar(255),
+    password varchar(255) not null,
+    primary key (id),
+    constraint uk_users_email unique (email)
+) engine=InnoDB;
+
+create table if not exists word (
+    id bigint not null,
+    added_date datetime(6),
+    difficulty_level varchar(255),
+    english varchar(255),
+    enrichment_status varchar(16),
+    example_usage varchar(255),
+    meaning varchar(255),
+    turkish_meaning varchar(255),
+    user_id bigint,
+    primary key (id),
+    constraint fk_word_user foreign key (user_id) references users (id)
+) engine=InnoDB;
+
+-- Arka plan zenginleştirmesinden önce ddl-auto=update ile oluşmuş veritabanlarında sütun hiç yok:
+-- MySQL'de "add column if not exists" olmadığı için information_schema'ya bakılıp eklenir
+set @add_enrichment_status = (
+    select if(count(*) = 0, 'alter table word add column enrichment_status varchar(16)', 'do 0')
+    from information_schema.columns
+    where table_schema = database() and table_name = 'word' and column_name = 'enrichment_status'
+);
+prepare add_enrichment_status from @add_enrichment_status;
+execute add_enrichment_status;
+deallocate prepare add_enrichment_status;
+
+-- Hibernate 6 enum'u MySQL'de enum(...) sütunu olarak oluşturmuştu; yeni değer eklerken
+-- ALTER gerekmesin diye düz varchar
+alter table word modify enrichment_status varchar(16);
+
+-- Hibernate MySQL'de word_seq sequence'ini tek satırlı bir tabloyla taklit eder.
+-- Eski AUTO_INCREMENT id'leriyle çakışmaması için en büyük id'nin ötesinden başlar
+-- (bir blok = Word.ID_ALLOCATION_SIZE = 50).
+create table if not exists word_seq (
+    next_val bigint
+) engine=InnoDB;
+
+insert into word_seq (next_val)
+select coalesce(max(id), 0) + 51 from word
+where not exists (select * from word_seq);
+
+update word_seq
+set next_val = greatest(next_val, (select coalesce(max(id), 0) + 51 from word));
+
+create table if not exists dictionary_cache (
+    headword varchar(191) not null,
+    payload longtext not null,
+    fetched_at datetime(6) not null,
+    primary key (headword)
+) engine=InnoDB;
+
+create table if not exists translation_memory (
+    memory_key varchar(64) not null,
+    source_lang varchar(8) not null,
+    target_lang varchar(8) not null,
+    source_text longtext not null,
+    translated_text longtext not null,
+    last_used_at datetime(6) not null,
+    primary key (memory_key)
+) engine=InnoDB;
+
+create table if not exists word_daily_count (
+    user_id bigint not null,
+    count_date date not null,
+    word_count bigint not null,
+    primary key (user_id, count_date)
+) engine=InnoDB;
@@ -0,0 +1,27 @@
+-- Kelimenin tüm anlamları ve tanımları; detay sayfası dictionaryapi.dev'i çağırmadan buradan okur.
+-- Kelime silinince satırlar veritabanında silinir.
+
+create table word_sense (
+    id bigint not null auto_increment,
+    word_id bigint not null,
+    sense_order integer not null,
+    part_of_speech varchar(64),
+    synonyms varchar(1000),
+    primary key (id),
+    constraint fk_word_sense_word foreign key (word_id) references word (id) on delete cascade
+) engine=InnoDB;
+
+create index idx_word_sense_word on word_sense (word_id, sense_order);
+
+create table word_definition (
+    id bigint not null auto_increment,
+    sense_id bigint not null,
+    definition_order integer not null,
+    definition varchar(1000),
+    example varchar(1000),
+    synonyms varchar(1000),
+    primary key (id),
+    constraint fk_word_definition_sense foreign key (sense_id) references word_sense (id) on delete cascade
+) engine=InnoDB;
+
+create index idx_word_definition_sense on word_definition (sense_id, definition_order);
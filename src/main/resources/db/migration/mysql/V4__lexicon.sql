@@ -0,0 +1,18 @@
+-- Yerel sözlük dökümü (dictionary.lexicon.import-file) ve yüklemenin kaldığı yer
+
+create table lexicon_entry (
+    headword varchar(191) not null,
+    payload longtext not null,
+    imported_at datetime(6) not null,
+    primary key (headword)
+) engine=InnoDB;
+
+create table lexicon_import (
+    source varchar(191) not null,
+    file_size bigint not null,
+    position bigint not null,
+    started_at datetime(6) not null,
+    updated_at datetime(6) not null,
+    completed_at datetime(6),
+    primary key (source)
+) engine=InnoDB;
@@ -0,0 +1,8 @@
+-- Kullanıcının kelimelerinin bulunduğu shard (dictionary.shard.urls sırasına göre, 0 = spring.datasource).
+-- Yalnızca 0. shard'daki tablo kullanılır; satırı olmayan kullanıcı 0. shard'dadır.
+
+create table user_shard (
+    user_id bigint not null,
+    shard integer not null,
+    primary key (user_id)
+) engine=InnoDB;
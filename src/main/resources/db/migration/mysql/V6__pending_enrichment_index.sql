@@ -0,0 +1,3 @@
+-- Zenginleştirmesi yarıda kalmış (PENDING) kelimeleri bulan periyodik tarama
+-- (WordEnrichmentService.resumePending); tamamlanmış kelimeler taranmaz
+create index idx_word_enrichment_added on word (enrichment_status, added_date);
@@ -0,0 +1,9 @@
+-- Kullanıcının kelime verisinin sürümü (UserResponseCache ETag'leri). Kelimelerle aynı shard'da tutulur ve
+-- kelimeyi değiştiren transaction'da artırılır; böylece tüm sunucular aynı sürümü görür.
+-- Satırı olmayan kullanıcının sürümü 0'dır.
+
+create table user_data_version (
+    user_id bigint not null,
+    version bigint not null,
+    primary key (user_id)
+);
@@ -0,0 +1,11 @@
+-- Devam eden shard taşımaları (ShardRouter.whileMoving); yalnızca 0. shard'daki tablo kullanılır.
+-- Satır tüm sunuculara kullanıcının taşındığını bildirir: copying iken kullanıcının yazmaları bekler,
+-- aynı kullanıcı için ikinci bir taşıma başlamaz. lease_until geçmiş satır yarıda kalmış bir taşımadır
+-- ve yeni taşıma onu devralır.
+
+create table shard_move (
+    user_id bigint not null,
+    lease_until datetime(6) not null,
+    copying boolean not null,
+    primary key (user_id)
+) engine=InnoDB;
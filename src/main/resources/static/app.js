@@ -459,11 +459,35 @@ async function handleAddWord(e) {
         searchResults.style.display = 'none';
 
         loadStatistics();
+
+        // Anlam ve çeviri arka planda dolduruluyor, hazır olunca kartı güncelle
+        waitForEnrichment(newWord).then(enrichedWord => {
+            if (currentRecentlyAdded && currentRecentlyAdded.id === enrichedWord.id) {
+                currentRecentlyAdded = enrichedWord;
+                renderWordList([enrichedWord], recentlyAddedWord);
+            }
+        });
     } catch (error) {
         showNotification(error.message, true);
     }
 }
 
+// Poll the word until background enrichment finishes (or give up after a few tries)
+async function waitForEnrichment(word, attempts = 15, delayMs = 1000) {
+    let current = word;
+    for (let i = 0; i < attempts && current.enrichmentStatus === 'PENDING'; i++) {
+        await new Promise(resolve => setTimeout(resolve, delayMs));
+        try {
+            const response = await fetch(`${API_BASE_URL}/${word.id}`);
+            if (!response.ok) break;
+            current = await response.json();
+        } catch (error) {
+            break;
+        }
+    }
+    return current;
+}
+
 // Handle search
 function handleSearch() {
     const query = searchInput.value.trim();
@@ -158,10 +158,7 @@ async function loadWords() {
             return;
         }
 
-        const response = await fetch(`${API_BASE_URL}/sorted`);
-        if (!response.ok) throw new Error('Failed to fetch words');
-
-        allWords = await response.json(); // Store all words
+        allWords = await fetchAllPages(`${API_BASE_URL}/sorted`, 'Failed to fetch words'); // Store all words
         currentWords = [...allWords]; // Copy for current display
         renderWordList(currentWords);
         updateCharts(); // Update charts with the new data
@@ -170,6 +167,22 @@ async function loadWords() {
     }
 }
 
+// Liste uç noktaları sayfalı döner; X-Next-Cursor başlığı bitene kadar sonraki sayfaları çek
+async function fetchAllPages(url, errorMessage) {
+    const words = [];
+    let cursor = null;
+    do {
+        const separator = url.includes('?') ? '&' : '?';
+        const pageUrl = cursor ? `${url}${separator}cursor=${encodeURIComponent(cursor)}` : url;
+        const response = await fetch(pageUrl);
+        if (!response.ok) throw new Error(errorMessage);
+
+        words.push(...await response.json());
+        cursor = response.headers.get('X-Next-Cursor');
+    } while (cursor);
+    return words;
+}
+
 // Load statistics from API
 async function loadStatistics() {
     try {
@@ -332,10 +345,7 @@ async function filterWordsByDifficulty(difficulty) {
             handleClearSearchWordlist();
         }
 
-        const response = await fetch(`${API_BASE_URL}/filter?difficulty=${difficulty}`);
-        if (!response.ok) throw new Error('Failed to filter words');
-
-        allWords = await response.json(); // Update allWords for search
+        allWords = await fetchAllPages(`${API_BASE_URL}/filter?difficulty=${difficulty}`, 'Failed to filter words'); // Update allWords for search
         currentWords = [...allWords]; // Copy for current display
 
         if (currentSortMethod === 'alphabet') {
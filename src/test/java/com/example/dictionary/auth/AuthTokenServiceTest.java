@@ -0,0 +1,74 @@
+package com.example.dictionary.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Token üretme ve doğrulama; servis Spring olmadan kurulur
+class AuthTokenServiceTest {
+
+    private static final String SECRET = "0123456789abcdef0123456789abcdef";
+    private static final AuthenticatedUser USER = new AuthenticatedUser(42L, "token@example.com", "Token");
+
+    @Test
+    void issuedTokenIsVerified() {
+        AuthTokenService service = service("token", SECRET, Duration.ofHours(1));
+
+        assertThat(service.parse(service.issue(USER))).isEqualTo(USER);
+    }
+
+    @Test
+    void expiredTokenIsRejected() {
+        AuthTokenService service = service("token", SECRET, Duration.ofSeconds(-1));
+
+        assertThat(service.parse(service.issue(USER))).isNull();
+    }
+
+    // İmza aynı kalıp claim'ler değişince token reddedilir
+    @Test
+    void tamperedClaimsAreRejected() {
+        AuthTokenService service = service("token", SECRET, Duration.ofHours(1));
+        String[] parts = service.issue(USER).split("\\.");
+        String claims = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8)
+                .replace("\"sub\":\"42\"", "\"sub\":\"1\"");
+        String forged = parts[0] + "." + Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(claims.getBytes(StandardCharsets.UTF_8)) + "." + parts[2];
+
+        assertThat(service.parse(forged)).isNull();
+        assertThat(service.parse(parts[0] + "." + parts[1] + ".")).isNull();
+        assertThat(service.parse("not-a-token")).isNull();
+    }
+
+    @Test
+    void tokenSignedWithAnotherSecretIsRejected() {
+        AuthTokenService other = service("token", SECRET.toUpperCase(), Duration.ofHours(1));
+
+        assertThat(service("token", SECRET, Duration.ofHours(1)).parse(other.issue(USER))).isNull();
+    }
+
+    // Token kullanılan modlarda her sunucuya aynı, yeterince uzun secret verilmeli
+    @Test
+    void tokenModeRequiresSecret() {
+        assertThatThrownBy(() -> service("token", "", Duration.ofHours(1))).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> service("both", "too-short", Duration.ofHours(1))).isInstanceOf(IllegalStateException.class);
+        assertThat(service("session", "", Duration.ofHours(1))).isNotNull();
+    }
+
+    private static AuthTokenService service(String mode, String secret, Duration ttl) {
+        AuthTokenService service = new AuthTokenService();
+        ReflectionTestUtils.setField(service, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(service, "mode", mode);
+        ReflectionTestUtils.setField(service, "secret", secret);
+        ReflectionTestUtils.setField(service, "ttl", ttl);
+        service.init();
+        return service;
+    }
+}
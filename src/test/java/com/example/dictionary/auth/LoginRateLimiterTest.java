@@ -0,0 +1,81 @@
+package com.example.dictionary.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// Giriş sınırı Spring olmadan kurulur: IP başına 3 deneme, email başına 2 başarısız deneme
+class LoginRateLimiterTest {
+
+    private static final Duration IP_WINDOW = Duration.ofMinutes(1);
+    private static final Duration EMAIL_WINDOW = Duration.ofMinutes(15);
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void attemptsFromOneIpAreLimited() {
+        LoginRateLimiter limiter = limiter(IP_WINDOW);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire("user" + i + "@example.com", "10.0.0.1")).isNull();
+        }
+
+        assertThat(limiter.tryAcquire("other@example.com", "10.0.0.1")).isEqualTo(IP_WINDOW);
+        assertThat(limiter.tryAcquire("other@example.com", "10.0.0.2")).isNull();
+        assertThat(meterRegistry.get("dictionary.auth.login.throttled").tag("reason", "ip").counter().count()).isOne();
+    }
+
+    // Email sınırı IP'den bağımsızdır; büyük/küçük harf ve boşluk aynı hesap sayılır
+    @Test
+    void failuresForOneEmailAreLimited() {
+        LoginRateLimiter limiter = limiter(IP_WINDOW);
+
+        limiter.recordFailure("victim@example.com");
+        limiter.recordFailure(" Victim@Example.com");
+
+        assertThat(limiter.tryAcquire("victim@example.com", "10.0.0.3")).isEqualTo(EMAIL_WINDOW);
+        assertThat(limiter.tryAcquire("someone@example.com", "10.0.0.3")).isNull();
+        assertThat(meterRegistry.get("dictionary.auth.login.throttled").tag("reason", "email").counter().count()).isOne();
+    }
+
+    @Test
+    void successResetsEmailFailures() {
+        LoginRateLimiter limiter = limiter(IP_WINDOW);
+
+        limiter.recordFailure("user@example.com");
+        limiter.recordSuccess("user@example.com");
+        limiter.recordFailure("user@example.com");
+
+        assertThat(limiter.tryAcquire("user@example.com", "10.0.0.4")).isNull();
+    }
+
+    @Test
+    void ipCounterResetsAfterWindow() {
+        LoginRateLimiter limiter = limiter(Duration.ofMillis(200));
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("user@example.com", "10.0.0.5");
+        }
+        assertThat(limiter.tryAcquire("user@example.com", "10.0.0.5")).isNotNull();
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> limiter.tryAcquire("user@example.com", "10.0.0.5") == null);
+    }
+
+    private LoginRateLimiter limiter(Duration ipWindow) {
+        LoginRateLimiter limiter = new LoginRateLimiter();
+        ReflectionTestUtils.setField(limiter, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(limiter, "maxAttemptsPerIp", 3);
+        ReflectionTestUtils.setField(limiter, "ipWindow", ipWindow);
+        ReflectionTestUtils.setField(limiter, "maxFailuresPerEmail", 2);
+        ReflectionTestUtils.setField(limiter, "emailWindow", EMAIL_WINDOW);
+        ReflectionTestUtils.setField(limiter, "maxKeys", 100);
+        limiter.init();
+        return limiter;
+    }
+}
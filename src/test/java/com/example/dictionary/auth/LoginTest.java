@@ -0,0 +1,106 @@
+package com.example.dictionary.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.example.dictionary.model.User;
+import com.example.dictionary.service.UserService;
+
+// Giriş: eski düz metin ve düşük maliyetli şifreler girişte yeniden hashlenir; art arda başarısız
+// denemelerden sonra doğru şifre de 429 alır. SessionAuthenticationTest ile aynı context'i (ve IP sayacını) paylaşır
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class LoginTest {
+
+    private static final String PASSWORD = "secret";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void plaintextPasswordIsHashedOnLogin() throws Exception {
+        User user = registerUser();
+        storePassword(user, PASSWORD);
+
+        login(user.getEmail(), PASSWORD).andExpect(status().isOk());
+
+        String stored = storedPassword(user);
+        assertThat(stored).startsWith("$2a$10$");
+        assertThat(new BCryptPasswordEncoder().matches(PASSWORD, stored)).isTrue();
+        login(user.getEmail(), PASSWORD).andExpect(status().isOk());
+    }
+
+    @Test
+    void lowCostHashIsUpgradedOnLogin() throws Exception {
+        User user = registerUser();
+        storePassword(user, new BCryptPasswordEncoder(4).encode(PASSWORD));
+
+        login(user.getEmail(), PASSWORD).andExpect(status().isOk());
+
+        assertThat(storedPassword(user)).startsWith("$2a$10$");
+    }
+
+    @Test
+    void currentHashIsKept() throws Exception {
+        User user = registerUser();
+        String hash = storedPassword(user);
+
+        login(user.getEmail(), PASSWORD).andExpect(status().isOk());
+
+        assertThat(storedPassword(user)).isEqualTo(hash);
+    }
+
+    // Varsayılan sınır: email başına 5 başarısız deneme
+    @Test
+    void repeatedFailuresThrottleTheEmail() throws Exception {
+        User user = registerUser();
+        for (int i = 0; i < 5; i++) {
+            login(user.getEmail(), "wrong").andExpect(status().isUnauthorized());
+        }
+
+        login(user.getEmail(), PASSWORD)
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "900"));
+    }
+
+    private ResultActions login(String email, String password) throws Exception {
+        return mockMvc.perform(post("/api/users/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\": \"" + email + "\", \"password\": \"" + password + "\"}"));
+    }
+
+    private void storePassword(User user, String password) {
+        jdbcTemplate.update("update users set password = ? where id = ?", password, user.getId());
+    }
+
+    private String storedPassword(User user) {
+        return jdbcTemplate.queryForObject("select password from users where id = ?", String.class, user.getId());
+    }
+
+    private User registerUser() {
+        return userService.registerUser("login-" + UUID.randomUUID() + "@example.com", PASSWORD, "Login");
+    }
+}
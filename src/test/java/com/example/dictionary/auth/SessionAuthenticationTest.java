@@ -0,0 +1,137 @@
+package com.example.dictionary.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.example.dictionary.model.User;
+import com.example.dictionary.service.UserService;
+
+// Session modunda (varsayılan) girişte AuthenticatedUser session'a yazılır ve controller'lara oradan
+// verilir; giriş yapmamış isteklerde session açılmaz, token kabul edilmez
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SessionAuthenticationTest {
+
+    private static final String PASSWORD = "secret";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private AuthTokenService authTokenService;
+
+    @Test
+    void loginStoresUserInSession() throws Exception {
+        User user = registerUser();
+
+        MockHttpSession session = login(user.getEmail());
+
+        assertThat(AuthenticatedUser.from(session)).isEqualTo(new AuthenticatedUser(user.getId(), user.getEmail(), "Session"));
+        mockMvc.perform(get("/api/users/login").session(session))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(user.getId()))
+                .andExpect(jsonPath("$.email").value(user.getEmail()))
+                .andExpect(jsonPath("$.name").value("Session"));
+    }
+
+    @Test
+    void anonymousRequestDoesNotCreateSession() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/users/login"))
+                .andExpect(status().isUnauthorized())
+                .andReturn();
+
+        assertThat(result.getRequest().getSession(false)).isNull();
+    }
+
+    @Test
+    void wrongPasswordIsRejected() throws Exception {
+        User user = registerUser();
+
+        MvcResult result = mockMvc.perform(post("/api/users/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(credentials(user.getEmail(), "wrong")))
+                .andExpect(status().isUnauthorized())
+                .andReturn();
+
+        assertThat(result.getRequest().getSession(false)).isNull();
+    }
+
+    // Session modunda token'lar yok sayılır
+    @Test
+    void tokenIsIgnoredInSessionMode() throws Exception {
+        User user = registerUser();
+        String token = authTokenService.issue(AuthenticatedUser.of(user));
+
+        mockMvc.perform(get("/api/users/login").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void profileUpdateRewritesSession() throws Exception {
+        User user = registerUser();
+        MockHttpSession session = login(user.getEmail());
+
+        mockMvc.perform(put("/api/users/update").session(session)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"Renamed\", \"email\": \"" + user.getEmail()
+                                + "\", \"currentPassword\": \"" + PASSWORD + "\"}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/users/login").session(session))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Renamed"));
+    }
+
+    @Test
+    void logoutInvalidatesSession() throws Exception {
+        User user = registerUser();
+        MockHttpSession session = login(user.getEmail());
+
+        mockMvc.perform(post("/api/users/logout").session(session)).andExpect(status().isOk());
+
+        assertThat(session.isInvalid()).isTrue();
+        mockMvc.perform(get("/api/users/login").session(new MockHttpSession()))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private MockHttpSession login(String email) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/users/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(credentials(email, PASSWORD)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").doesNotExist())
+                .andReturn();
+        MockHttpSession session = (MockHttpSession) result.getRequest().getSession(false);
+        assertThat(session).isNotNull();
+        return session;
+    }
+
+    private User registerUser() {
+        return userService.registerUser("session-" + UUID.randomUUID() + "@example.com", PASSWORD, "Session");
+    }
+
+    private static String credentials(String email, String password) {
+        return "{\"email\": \"" + email + "\", \"password\": \"" + password + "\"}";
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.dictionary.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.example.dictionary.model.User;
+import com.example.dictionary.service.UserService;
+
+import jakarta.servlet.http.Cookie;
+
+// Token modunda giriş session açmaz; token Bearer header'ı veya AUTH_TOKEN cookie'si ile kabul edilir
+@SpringBootTest(properties = {
+        "dictionary.auth.mode=token",
+        "dictionary.auth.token.secret=test-secret-that-is-at-least-32-bytes-long"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TokenAuthenticationTest {
+
+    private static final String PASSWORD = "secret";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    void loginReturnsTokenWithoutSession() throws Exception {
+        User user = registerUser();
+
+        MvcResult result = login(user.getEmail());
+
+        assertThat(result.getRequest().getSession(false)).isNull();
+        assertThat(result.getResponse().getCookie(AuthenticationService.TOKEN_COOKIE).isHttpOnly()).isTrue();
+    }
+
+    @Test
+    void bearerTokenIsAccepted() throws Exception {
+        User user = registerUser();
+        String token = token(login(user.getEmail()));
+
+        mockMvc.perform(get("/api/users/login").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(user.getId()))
+                .andExpect(jsonPath("$.email").value(user.getEmail()));
+    }
+
+    @Test
+    void cookieTokenIsAccepted() throws Exception {
+        User user = registerUser();
+        String token = token(login(user.getEmail()));
+
+        mockMvc.perform(get("/api/users/login").cookie(new Cookie(AuthenticationService.TOKEN_COOKIE, token)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(user.getId()));
+    }
+
+    @Test
+    void tamperedTokenIsRejected() throws Exception {
+        User user = registerUser();
+        String token = token(login(user.getEmail()));
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        mockMvc.perform(get("/api/users/login").header(HttpHeaders.AUTHORIZATION, "Bearer " + tampered))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void logoutClearsCookie() throws Exception {
+        mockMvc.perform(post("/api/users/logout"))
+                .andExpect(status().isOk())
+                .andExpect(cookie().maxAge(AuthenticationService.TOKEN_COOKIE, 0));
+    }
+
+    private MvcResult login(String email) throws Exception {
+        return mockMvc.perform(post("/api/users/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\": \"" + email + "\", \"password\": \"" + PASSWORD + "\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").isNotEmpty())
+                .andExpect(cookie().exists(AuthenticationService.TOKEN_COOKIE))
+                .andReturn();
+    }
+
+    private static String token(MvcResult result) {
+        return result.getResponse().getCookie(AuthenticationService.TOKEN_COOKIE).getValue();
+    }
+
+    private User registerUser() {
+        return userService.registerUser("token-" + UUID.randomUUID() + "@example.com", PASSWORD, "Token");
+    }
+}
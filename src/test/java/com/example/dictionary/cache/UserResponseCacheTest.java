@@ -0,0 +1,114 @@
+package com.example.dictionary.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.example.dictionary.model.User;
+import com.example.dictionary.service.UserService;
+import com.example.dictionary.service.WordService;
+
+// ETag / If-None-Match: veri değişmedikçe 304, kullanıcının kelimesi değişince yeni cevap. Sürüm veritabanında
+// olduğundan başka bir sunucunun yazması (burada tabloya doğrudan yazılır) bu sunucunun ETag'lerini de geçersiz kılar
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class UserResponseCacheTest {
+
+    private static final String PASSWORD = "secret";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private WordService wordService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private MockHttpSession session;
+
+    @BeforeEach
+    void login() throws Exception {
+        user = userService.registerUser("etag-" + UUID.randomUUID() + "@example.com", PASSWORD, "ETag");
+        MvcResult result = mockMvc.perform(post("/api/users/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\": \"" + user.getEmail() + "\", \"password\": \"" + PASSWORD + "\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        session = (MockHttpSession) result.getRequest().getSession(false);
+    }
+
+    @Test
+    void unchangedDataIsNotModified() throws Exception {
+        String etag = etagOf("/api/words/statistics");
+
+        mockMvc.perform(get("/api/words/statistics").session(session).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void addedWordChangesResponse() throws Exception {
+        String etag = etagOf("/api/words");
+
+        wordService.addWord("etag", user.getId());
+
+        MvcResult result = mockMvc.perform(get("/api/words").session(session).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].english").value("etag"))
+                .andReturn();
+        assertThat(result.getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag);
+    }
+
+    @Test
+    void versionWrittenElsewhereInvalidatesEtag() throws Exception {
+        String etag = etagOf("/api/words/statistics");
+
+        jdbcTemplate.update("insert into user_data_version (user_id, version) values (?, 1)"
+                + " on duplicate key update version = version + 1", user.getId());
+
+        mockMvc.perform(get("/api/words/statistics").session(session).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    // Başka kullanıcının yazması bu kullanıcının ETag'ini değiştirmez
+    @Test
+    void otherUsersWritesDoNotInvalidate() throws Exception {
+        String etag = etagOf("/api/words/statistics");
+        User other = userService.registerUser("etag-other-" + UUID.randomUUID() + "@example.com", PASSWORD, "Other");
+
+        wordService.addWord("other", other.getId());
+
+        mockMvc.perform(get("/api/words/statistics").session(session).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    private String etagOf(String path) throws Exception {
+        String etag = mockMvc.perform(get(path).session(session))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotNull();
+        return etag;
+    }
+}
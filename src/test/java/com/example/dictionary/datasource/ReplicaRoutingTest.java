@@ -0,0 +1,191 @@
+package com.example.dictionary.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.flywaydb.core.Flyway;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.dictionary.model.User;
+import com.example.dictionary.model.Word;
+import com.example.dictionary.service.UserService;
+import com.example.dictionary.service.WordPage;
+import com.example.dictionary.service.WordService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.Cookie;
+
+// İki bellek içi H2: test profilinin veritabanı primary, ikincisi replika. Replikaya replikasyon yok;
+// kayıtlar iki tarafa ayrı yazıldığı için bir okumanın hangisinden yapıldığı sonuçtan anlaşılır.
+@SpringBootTest(properties = {
+        "dictionary.datasource.replica.health-check-interval=100ms",
+        "dictionary.datasource.read-your-writes.window=1m"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReplicaRoutingTest {
+
+    private static final String REPLICA_URL = "jdbc:h2:mem:replica-" + UUID.randomUUID()
+            + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=DAY,VALUE,YEAR,MONTH;DB_CLOSE_DELAY=-1";
+
+    private static final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    @Autowired
+    private JdbcTemplate primary;
+
+    @Autowired
+    private WordService wordService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    // Replikanın şeması primary'ninkiyle aynı; uygulama replikalarda migration çalıştırmaz
+    @DynamicPropertySource
+    static void replicaProperties(DynamicPropertyRegistry registry) {
+        Flyway.configure()
+                .dataSource(REPLICA_URL, "sa", "")
+                .locations("classpath:db/migration/h2")
+                .load()
+                .migrate();
+        registry.add("dictionary.datasource.replica.urls", () -> REPLICA_URL);
+    }
+
+    @BeforeEach
+    void waitForHealthyReplica() {
+        await().atMost(Duration.ofSeconds(10)).until(() ->
+                meterRegistry.get("dictionary.datasource.replica.healthy").gauge().value() == 1);
+    }
+
+    @Test
+    void readOnlyReadsGoToReplica() {
+        User user = registerUser();
+        insertOnReplica(user, "replica-only");
+
+        WordPage page = wordService.getWordPageForUser(user.getId(), null, null, 20);
+
+        assertThat(page.words()).extracting(Word::getEnglish).containsExactly("replica-only");
+        assertThat(primary.queryForObject("select count(*) from word where user_id = ?", Long.class, user.getId())).isZero();
+        assertThat(connections("replica", "read")).isPositive();
+    }
+
+    @Test
+    void writesGoToPrimary() {
+        User user = registerUser();
+
+        wordService.addWord("written", user.getId());
+
+        assertThat(primary.queryForObject("select count(*) from word where user_id = ? and english = 'written'",
+                Long.class, user.getId())).isOne();
+        assertThat(replica.queryForObject("select count(*) from word where english = 'written'", Long.class)).isZero();
+        assertThat(replica.queryForObject("select count(*) from users where id = ?", Long.class, user.getId())).isZero();
+    }
+
+    // Yazan istemcinin pencere içindeki okumaları primary'den: replikada olmayan yeni kelimesini görür
+    @Test
+    void clientReadsOwnWritesFromPrimary() throws Exception {
+        User user = registerUser();
+        insertOnReplica(user, "replica-only");
+        MockHttpSession session = login(user);
+        double stickyBefore = connections("primary", "read-your-writes");
+
+        Cookie lastWrite = mockMvc.perform(post("/api/words").session(session)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"english\":\"fresh\"}"))
+                .andExpect(status().isOk())
+                .andExpect(cookie().exists(ReadYourWrites.LAST_WRITE_COOKIE))
+                .andReturn().getResponse().getCookie(ReadYourWrites.LAST_WRITE_COOKIE);
+        mockMvc.perform(get("/api/words").session(session).cookie(lastWrite))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].english", Matchers.contains("fresh")));
+
+        assertThat(connections("primary", "read-your-writes")).isGreaterThan(stickyBefore);
+    }
+
+    // Yazma sunucuda iz bırakmaz: cookie'siz okuma, aynı kullanıcı az önce yazmış olsa da replikadan
+    @Test
+    void readWithoutCookieGoesToReplica() throws Exception {
+        User user = registerUser();
+        insertOnReplica(user, "replica-only");
+        MockHttpSession session = login(user);
+
+        mockMvc.perform(post("/api/words").session(session)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"english\":\"unmarked\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/words").session(session))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].english", Matchers.contains("replica-only")));
+    }
+
+    // Cookie'yi başka bir sunucu vermiş olabilir; süresi geçmiş cookie yok sayılır
+    @Test
+    void lastWriteCookieDecidesRouting() throws Exception {
+        User user = registerUser();
+        insertOnReplica(user, "replica-only");
+        wordService.addWord("primary-only", user.getId());
+        MockHttpSession session = login(user);
+        long now = System.currentTimeMillis();
+
+        mockMvc.perform(get("/api/words/statistics").session(session)
+                        .cookie(new Cookie(ReadYourWrites.LAST_WRITE_COOKIE, Long.toString(now - Duration.ofMinutes(2).toMillis()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalWords").value(0));
+        mockMvc.perform(get("/api/words").session(session)
+                        .cookie(new Cookie(ReadYourWrites.LAST_WRITE_COOKIE, Long.toString(now))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].english", Matchers.contains("primary-only")));
+    }
+
+    private MockHttpSession login(User user) throws Exception {
+        MockHttpSession session = new MockHttpSession();
+        mockMvc.perform(post("/api/users/login").session(session)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + user.getEmail() + "\",\"password\":\"secret\"}"))
+                .andExpect(status().isOk());
+        return session;
+    }
+
+    private User registerUser() {
+        return userService.registerUser("replica-" + UUID.randomUUID() + "@example.com", "secret", "Replica");
+    }
+
+    private static void insertOnReplica(User user, String english) {
+        replica.update("insert into users (id, email, password) values (?, ?, ?)", user.getId(), user.getEmail(), "x");
+        replica.update("insert into word (id, user_id, english, english_lower, added_date) values (next value for word_seq, ?, ?, ?, ?)",
+                user.getId(), english, english, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    private double connections(String target, String reason) {
+        return meterRegistry.get("dictionary.datasource.connections").tag("target", target).tag("reason", reason)
+                .counter().count();
+    }
+}
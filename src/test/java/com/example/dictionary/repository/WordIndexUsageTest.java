@@ -0,0 +1,157 @@
+package com.example.dictionary.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+// Sık çalışan sorguların (WordRepository, çeviri hafızası budaması, sözlük cache temizliği) EXPLAIN
+// planlarında V2 indekslerinin kullanıldığını kontrol eder. Sorgular Hibernate'in ürettiği SQL'in
+// karşılığıdır; H2 migration'ları MySQL'dekilerle aynı indeksleri kurar.
+@SpringBootTest
+@ActiveProfiles("test")
+class WordIndexUsageTest {
+
+    private static final int USERS = 20;
+    private static final int WORDS_PER_USER = 100;
+    private static final Pattern INDEX_IN_PLAN = Pattern.compile("/\\* public\\.(\\w+)[: ]");
+    private static final String[] LEVELS = {"easy", "medium", "hard"};
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Planlar boş tablolarla değil, birkaç kullanıcının kelimeleriyle ve güncel istatistiklerle alınır
+    @BeforeEach
+    void seed() {
+        if (jdbcTemplate.queryForObject("select count(*) from word", Long.class) > 0) {
+            return;
+        }
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<Object[]> users = new ArrayList<>();
+        List<Object[]> words = new ArrayList<>();
+        long wordId = 1;
+        for (long userId = 1; userId <= USERS; userId++) {
+            users.add(new Object[] {userId, "user" + userId + "@example.com", "x"});
+            for (int i = 0; i < WORDS_PER_USER; i++) {
+                String english = "word" + userId + "-" + i;
+                words.add(new Object[] {wordId++, userId, english, english, LEVELS[i % LEVELS.length],
+                        Timestamp.valueOf(start.plusMinutes(i))});
+            }
+        }
+        jdbcTemplate.batchUpdate("insert into users (id, email, password) values (?, ?, ?)", users);
+        jdbcTemplate.batchUpdate("insert into word (id, user_id, english, english_lower, difficulty_level, added_date)"
+                + " values (?, ?, ?, ?, ?, ?)", words);
+        jdbcTemplate.execute("analyze");
+    }
+
+    // H2 indeks seçerken ORDER BY'a bakmaz, user_id ile başlayan indeksler (foreign key'inki dahil) eşittir;
+    // MySQL sıralamayı da karşılayan idx_word_user_added'ı seçer
+    @Test
+    void userPageUsesUserIndex() {
+        assertUsesIndexOn("select * from word where user_id = 5 order by added_date desc, id desc limit 20",
+                "user_id");
+    }
+
+    @Test
+    void userPageAfterCursorUsesUserIndex() {
+        assertUsesIndexOn("select * from word where user_id = 5"
+                        + " and (added_date < timestamp '2024-01-01 01:00:00'"
+                        + " or (added_date = timestamp '2024-01-01 01:00:00' and id < 460))"
+                        + " order by added_date desc, id desc limit 20",
+                "user_id");
+    }
+
+    @Test
+    void undatedUserPageUsesUserIndex() {
+        assertUsesIndexOn("select * from word where user_id = 5 and added_date is null and id < 460"
+                        + " order by id desc limit 20",
+                "user_id");
+    }
+
+    @Test
+    void difficultyFilterUsesUserDifficultyIndex() {
+        assertUsesIndex("select * from word where user_id = 5 and difficulty_level = 'hard'"
+                        + " order by added_date desc, id desc limit 20",
+                "idx_word_user_difficulty_added");
+    }
+
+    @Test
+    void duplicateCheckUsesEnglishLowerIndex() {
+        assertUsesIndex("select count(*) > 0 from word where user_id = 5 and english_lower = 'word5-7'",
+                "idx_word_user_english_lower");
+    }
+
+    @Test
+    void bulkDuplicateCheckUsesEnglishLowerIndex() {
+        assertUsesIndex("select english_lower from word where user_id = 5"
+                        + " and english_lower in ('word5-1', 'word5-2', 'new')",
+                "idx_word_user_english_lower");
+    }
+
+    @Test
+    void userCountUsesUserIndex() {
+        assertUsesIndex("select count(*) from word where user_id = 5 and added_date > timestamp '2024-01-01 00:30:00'",
+                "idx_word_user_added");
+    }
+
+    @Test
+    void anonymousLatestUsesAddedIndex() {
+        assertUsesIndex("select * from word order by added_date desc, id desc limit 20", "idx_word_added");
+    }
+
+    @Test
+    void anonymousDifficultyLatestUsesDifficultyIndex() {
+        assertUsesIndex("select * from word where difficulty_level = 'hard' order by added_date desc, id desc limit 20",
+                "idx_word_difficulty_added");
+    }
+
+    @Test
+    void pendingEnrichmentSweepUsesEnrichmentIndex() {
+        assertUsesIndex("select * from word where enrichment_status = 'PENDING'"
+                        + " and added_date < timestamp '2024-01-01 01:00:00' order by added_date limit 200",
+                "idx_word_enrichment_added");
+    }
+
+    @Test
+    void translationMemoryPruneUsesLastUsedIndex() {
+        assertUsesIndex("select memory_key from translation_memory order by last_used_at asc limit 1000",
+                "idx_translation_memory_last_used");
+    }
+
+    @Test
+    void dictionaryCachePurgeUsesFetchedAtIndex() {
+        assertUsesIndex("select headword from dictionary_cache where fetched_at < timestamp '2024-01-01 00:00:00'",
+                "idx_dictionary_cache_fetched_at");
+    }
+
+    private void assertUsesIndex(String sql, String index) {
+        assertThat(usedIndex(sql)).as("EXPLAIN %s", sql).isEqualToIgnoringCase(index);
+    }
+
+    private void assertUsesIndexOn(String sql, String leadingColumn) {
+        String index = usedIndex(sql);
+        String firstColumn = jdbcTemplate.queryForObject("select column_name from information_schema.index_columns"
+                + " where table_name = 'word' and index_name = ? and ordinal_position = 1", String.class, index);
+        assertThat(firstColumn).as("EXPLAIN %s uses %s", sql, index).isEqualToIgnoringCase(leadingColumn);
+    }
+
+    // H2 planında tablo taraması "tableScan", indeks kullanımı "/* public.<indeks>: <koşul> */" veya
+    // (sadece sıralama için) "/* public.<indeks> */" olarak yazılır
+    private String usedIndex(String sql) {
+        String plan = String.join("\n", jdbcTemplate.queryForList("explain " + sql, String.class));
+        Matcher matcher = INDEX_IN_PLAN.matcher(plan);
+        assertThat(matcher.find()).as("EXPLAIN %s uses an index:%n%s", sql, plan).isTrue();
+        return matcher.group(1);
+    }
+}
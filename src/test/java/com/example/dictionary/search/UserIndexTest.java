@@ -0,0 +1,105 @@
+package com.example.dictionary.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+// Arama sıralaması ve ön ek genişletme sınırı; indeks doğrudan, veritabanı olmadan kurulur
+class UserIndexTest {
+
+    private static final int MAX_PREFIX_EXPANSIONS = 4;
+
+    @Test
+    void headwordMatchRanksAboveMeaningMatch() {
+        UserIndex index = index(
+                word(1L, "rain", "yağmur", "water falling as drops, a light rain", null),
+                word(2L, "drizzle", "çisenti", "light rain", null),
+                word(3L, "sun", "güneş", "the star", null));
+
+        assertThat(search(index, "rain")).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void exactMatchRanksAbovePrefixMatch() {
+        UserIndex index = index(
+                word(1L, "apple", "elma", null, null),
+                word(2L, "app", "uygulama", null, null),
+                word(3L, "application", "başvuru", null, null));
+
+        // Eşit skorda yeni eklenen (büyük id) önce
+        assertThat(search(index, "app")).containsExactly(2L, 3L, 1L);
+    }
+
+    @Test
+    void allQueryWordsMustMatch() {
+        UserIndex index = index(
+                word(1L, "take off", "havalanmak", null, null),
+                word(2L, "take", "almak", null, null),
+                word(3L, "off", "kapalı", null, null));
+
+        assertThat(search(index, "take of")).containsExactly(1L);
+    }
+
+    @Test
+    void matchesTermPrefixNotSubstring() {
+        UserIndex index = index(word(1L, "pineapple", "ananas", null, null));
+
+        assertThat(search(index, "pine")).containsExactly(1L);
+        assertThat(search(index, "apple")).isEmpty();
+    }
+
+    // "ca" ile başlayan, alfabetik olarak "cat"ten önce gelen çok sayıda anlam terimi sınırı doldurur;
+    // kelimenin kendisi yine bulunur, sınırın ötesindeki anlam terimi bulunmaz
+    @Test
+    void headwordsAreExpandedBeyondTheCap() {
+        String manyTerms = IntStream.range(0, 20).mapToObj(i -> "caa" + i).collect(Collectors.joining(" "));
+        UserIndex index = index(
+                word(1L, "noise", "gürültü", manyTerms, null),
+                word(2L, "cat", "kedi", null, null),
+                word(3L, "dog", "köpek", null, "cazz"));
+
+        assertThat(search(index, "ca")).containsExactly(2L, 1L);
+        assertThat(search(index, "caz")).containsExactly(3L);
+    }
+
+    @Test
+    void removedWordIsNotFound() {
+        UserIndex index = index(
+                word(1L, "cat", "kedi", null, null),
+                word(2L, "car", "araba", null, null));
+
+        index.remove(1L);
+
+        assertThat(search(index, "ca")).containsExactly(2L);
+        assertThat(search(index, "cat")).isEmpty();
+    }
+
+    private static List<Long> search(UserIndex index, String query) {
+        return index.search(WordSearchIndex.tokenize(query), 10, MAX_PREFIX_EXPANSIONS);
+    }
+
+    private static UserIndex index(Document... documents) {
+        UserIndex index = new UserIndex();
+        for (Document document : documents) {
+            index.put(document.id(), document.fields());
+        }
+        index.finishLoading();
+        return index;
+    }
+
+    private static Document word(Long id, String english, String turkish, String meaning, String example) {
+        String[] fields = new String[UserIndex.FIELD_COUNT];
+        fields[UserIndex.FIELD_ENGLISH] = english;
+        fields[UserIndex.FIELD_TURKISH] = turkish;
+        fields[UserIndex.FIELD_MEANING] = meaning;
+        fields[UserIndex.FIELD_EXAMPLE] = example;
+        return new Document(id, fields);
+    }
+
+    private record Document(Long id, String[] fields) {
+    }
+}
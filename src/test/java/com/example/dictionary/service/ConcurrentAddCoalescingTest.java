@@ -0,0 +1,154 @@
+package com.example.dictionary.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.example.dictionary.model.EnrichmentStatus;
+import com.example.dictionary.model.Word;
+import com.example.dictionary.repository.WordRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+// Sınıfta aynı kelimeyi aynı anda ekleyen öğrenciler: sözlük ve çeviri servislerine tek istek gitmeli.
+// Sahte sunucu cevabı geciktirir ki eklemeler aynı anda uçuşta olsun.
+@SpringBootTest
+@ActiveProfiles("test")
+class ConcurrentAddCoalescingTest {
+
+    private static final int STUDENTS = 30;
+    private static final Duration UPSTREAM_DELAY = Duration.ofMillis(500);
+
+    private static final AtomicInteger dictionaryRequests = new AtomicInteger();
+    private static final AtomicInteger translationRequests = new AtomicInteger();
+    private static HttpServer upstream;
+
+    @Autowired
+    private WordService wordService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private WordRepository wordRepository;
+
+    @Autowired
+    private DictionaryLookupService dictionaryLookupService;
+
+    @DynamicPropertySource
+    static void upstreamProperties(DynamicPropertyRegistry registry) throws IOException {
+        upstream = startUpstream();
+        String baseUrl = "http://127.0.0.1:" + upstream.getAddress().getPort();
+        registry.add("dictionary.lookup.api-url", () -> baseUrl + "/api/v2/entries/en/");
+        registry.add("dictionary.translation.api-url", () -> baseUrl + "/translate");
+    }
+
+    @AfterAll
+    static void stopUpstream() {
+        upstream.stop(0);
+    }
+
+    @Test
+    void concurrentAddsOfSameWordShareOneUpstreamRequest() throws Exception {
+        List<Long> userIds = new ArrayList<>();
+        for (int i = 0; i < STUDENTS; i++) {
+            userIds.add(userService.registerUser("student-" + UUID.randomUUID() + "@example.com", "secret", "Student").getId());
+        }
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService students = Executors.newFixedThreadPool(STUDENTS);
+        List<Future<Word>> added = new ArrayList<>();
+        List<Long> wordIds = new ArrayList<>();
+        try {
+            for (Long userId : userIds) {
+                added.add(students.submit(() -> {
+                    start.await();
+                    return wordService.addWord("Serendipity", userId);
+                }));
+            }
+            start.countDown();
+
+            for (Future<Word> word : added) {
+                wordIds.add(word.get().getId());
+            }
+
+            await().atMost(Duration.ofSeconds(30)).untilAsserted(() -> assertThat(wordRepository.findAllById(wordIds))
+                    .hasSize(STUDENTS)
+                    .allSatisfy(word -> assertThat(word.getEnrichmentStatus()).isEqualTo(EnrichmentStatus.COMPLETED))
+                    .extracting(Word::getTurkishMeaning)
+                    .containsOnly("TR:a fortunate accident"));
+        } finally {
+            students.shutdownNow();
+        }
+
+        assertThat(dictionaryRequests.get()).isEqualTo(1);
+        assertThat(translationRequests.get()).isEqualTo(1);
+        // Tek istek cache'ten değil paylaşılan çağrıdan: bekleyenler aynı sonucu almış olmalı
+        assertThat((Long) dictionaryLookupService.getStatistics().get("coalesced")).isPositive();
+    }
+
+    private static HttpServer startUpstream() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/api/v2/entries/en/", exchange -> {
+            dictionaryRequests.incrementAndGet();
+            String word = exchange.getRequestURI().getPath().substring("/api/v2/entries/en/".length());
+            respond(exchange, "[{\"word\":\"" + word + "\",\"meanings\":[{\"partOfSpeech\":\"noun\","
+                    + "\"definitions\":[{\"definition\":\"a fortunate accident\",\"example\":\"pure serendipity\"}]}]}]");
+        });
+        // Tekli istekte q bir string, toplu istekte bir dizidir
+        server.createContext("/translate", exchange -> {
+            translationRequests.incrementAndGet();
+            JsonNode q = objectMapper.readTree(exchange.getRequestBody()).path("q");
+            List<String> translated = new ArrayList<>();
+            if (q.isArray()) {
+                q.forEach(text -> translated.add("TR:" + text.asText()));
+            } else {
+                translated.add("TR:" + q.asText());
+            }
+            respond(exchange, objectMapper.writeValueAsString(
+                    Map.of("translatedText", q.isArray() ? translated : translated.get(0))));
+        });
+        server.start();
+        return server;
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        try {
+            Thread.sleep(UPSTREAM_DELAY.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] payload = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, payload.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(payload);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.dictionary.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import com.example.dictionary.upstream.UpstreamGuard;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+
+// Sahte sözlük sunucusuyla tekrar, zaman aşımı ve devre kesici. Kelimenin ön eki sunucunun davranışını seçer:
+// flaky* ilk iki istekte 503, slow* read-timeout'tan uzun bekler, broken* hep 500, missing* 404.
+// Devre kesici context boyunca ortaktır: açan test en son çalışır, öncekiler pencereyi dolduramaz
+@SpringBootTest(properties = {
+        "dictionary.lookup.retry.max-attempts=3",
+        "dictionary.lookup.retry.backoff=20ms",
+        "dictionary.lookup.http.read-timeout=300ms",
+        "dictionary.lookup.circuit-breaker.sliding-window-size=20",
+        "dictionary.lookup.circuit-breaker.minimum-calls=20",
+        "dictionary.lookup.circuit-breaker.open-duration=1h"
+})
+@ActiveProfiles("test")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class DictionaryLookupServiceTest {
+
+    private static final String PATH = "/api/v2/entries/en/";
+
+    private static final Map<String, AtomicInteger> requests = new ConcurrentHashMap<>();
+    private static HttpServer upstream;
+
+    @Autowired
+    private DictionaryLookupService dictionaryLookupService;
+
+    @Autowired
+    @Qualifier("dictionaryUpstream")
+    private UpstreamGuard dictionaryUpstream;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void upstreamProperties(DynamicPropertyRegistry registry) throws IOException {
+        upstream = startUpstream();
+        registry.add("dictionary.lookup.api-url", () -> "http://127.0.0.1:" + upstream.getAddress().getPort() + PATH);
+    }
+
+    @AfterAll
+    static void stopUpstream() {
+        upstream.stop(0);
+    }
+
+    @Test
+    @Order(1)
+    void serverErrorsAreRetried() {
+        DictionaryResponse[] response = dictionaryLookupService.lookup("flaky");
+
+        assertThat(response).extracting(DictionaryResponse::getWord).containsExactly("flaky");
+        assertThat(requestsFor("flaky")).isEqualTo(3);
+        // Sonuç cache'lendi: tekrar sorulunca sunucuya gidilmez
+        dictionaryLookupService.lookup("Flaky");
+        assertThat(requestsFor("flaky")).isEqualTo(3);
+    }
+
+    @Test
+    @Order(2)
+    void notFoundIsNotRetried() {
+        assertThatThrownBy(() -> dictionaryLookupService.lookup("missing")).isInstanceOf(HttpClientErrorException.NotFound.class);
+        assertThat(requestsFor("missing")).isOne();
+    }
+
+    @Test
+    @Order(3)
+    void timeoutFallsBackToStaleRow() {
+        insertCacheRow("slow", LocalDateTime.now().minusDays(30));
+
+        DictionaryResponse[] response = dictionaryLookupService.lookup("slow");
+
+        assertThat(response).extracting(DictionaryResponse::getWord).containsExactly("stale slow");
+        assertThat(requestsFor("slow")).isEqualTo(3);
+    }
+
+    @Test
+    @Order(4)
+    void timeoutWithoutStaleRowFails() {
+        assertThatThrownBy(() -> dictionaryLookupService.lookup("slower")).isInstanceOf(ResourceAccessException.class);
+        assertThat(requestsFor("slower")).isEqualTo(3);
+    }
+
+    // Pencere dolup hata oranı eşiği aşınca devre açılır; sonraki kelimeler sunucuya gitmez,
+    // tablodaki eski kayıt varsa o döner
+    @Test
+    @Order(5)
+    void openCircuitSkipsServerAndUsesStaleRow() {
+        for (int i = 0; i < 20 && dictionaryUpstream.getState() != CircuitBreaker.State.OPEN; i++) {
+            String word = "broken" + i;
+            // Devre son denemeler arasında açılırsa tekrar CallNotPermittedException ile biter
+            assertThatThrownBy(() -> dictionaryLookupService.lookup(word))
+                    .isInstanceOfAny(HttpServerErrorException.class, CallNotPermittedException.class);
+        }
+        assertThat(dictionaryUpstream.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        insertCacheRow("brokenstale", LocalDateTime.now().minusDays(30));
+        assertThat(dictionaryLookupService.lookup("brokenstale")).extracting(DictionaryResponse::getWord)
+                .containsExactly("stale brokenstale");
+        assertThatThrownBy(() -> dictionaryLookupService.lookup("brokennew")).isInstanceOf(CallNotPermittedException.class);
+        assertThat(requestsFor("brokenstale")).isZero();
+        assertThat(requestsFor("brokennew")).isZero();
+    }
+
+    private void insertCacheRow(String headword, LocalDateTime fetchedAt) {
+        jdbcTemplate.update("insert into dictionary_cache (headword, payload, fetched_at) values (?, ?, ?)",
+                headword, entry("stale " + headword), Timestamp.valueOf(fetchedAt));
+    }
+
+    private static int requestsFor(String word) {
+        AtomicInteger count = requests.get(word);
+        return count != null ? count.get() : 0;
+    }
+
+    private static String entry(String word) {
+        return "[{\"word\":\"" + word + "\",\"meanings\":[{\"partOfSpeech\":\"noun\","
+                + "\"definitions\":[{\"definition\":\"meaning of " + word + "\"}]}]}]";
+    }
+
+    private static HttpServer startUpstream() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext(PATH, exchange -> {
+            String word = exchange.getRequestURI().getPath().substring(PATH.length());
+            int attempt = requests.computeIfAbsent(word, w -> new AtomicInteger()).incrementAndGet();
+            if (word.startsWith("flaky") && attempt <= 2) {
+                respond(exchange, 503, "{}");
+            } else if (word.startsWith("slow")) {
+                sleep(2000);
+                respond(exchange, 200, entry(word));
+            } else if (word.startsWith("broken")) {
+                respond(exchange, 500, "{}");
+            } else if (word.startsWith("missing")) {
+                respond(exchange, 404, "{\"title\":\"No Definitions Found\"}");
+            } else {
+                respond(exchange, 200, entry(word));
+            }
+        });
+        server.start();
+        return server;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] payload = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        try {
+            exchange.sendResponseHeaders(status, payload.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(payload);
+            }
+        } catch (IOException e) {
+            // İstemci zaman aşımıyla bağlantıyı kapatmış olabilir
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.dictionary.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.client.HttpClientErrorException;
+
+import com.example.dictionary.model.TranslationMemoryEntry;
+import com.example.dictionary.repository.TranslationMemoryRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+// Toplu çeviri sahte LibreTranslate sunucusuyla: tek thread'den gelen çeviriler beklemeden batch'lenir,
+// bir metnin hatası (boş çeviri, 400) sadece o metnin çağıranına döner
+@SpringBootTest(properties = {
+        "dictionary.translation.batch.max-size=16",
+        "dictionary.translation.batch.linger=100ms"
+})
+@ActiveProfiles("test")
+class TranslationServiceTest {
+
+    // Sunucu "bad" içeren isteği 400 ile reddeder, "empty" için boş çeviri döner
+    private static final List<Integer> requestSizes = new CopyOnWriteArrayList<>();
+    private static HttpServer upstream;
+
+    @Autowired
+    private TranslationService translationService;
+
+    @Autowired
+    private TranslationMemoryRepository translationMemoryRepository;
+
+    @DynamicPropertySource
+    static void upstreamProperties(DynamicPropertyRegistry registry) throws IOException {
+        upstream = startUpstream();
+        registry.add("dictionary.translation.api-url", () -> "http://127.0.0.1:" + upstream.getAddress().getPort() + "/translate");
+    }
+
+    @AfterAll
+    static void stopUpstream() {
+        upstream.stop(0);
+    }
+
+    @BeforeEach
+    void resetRequests() {
+        requestSizes.clear();
+    }
+
+    // Eskiden her çeviri bir thread'i bloklardı; aynı thread'den gönderilenler tek batch'te gider
+    @Test
+    void translationsFromOneThreadAreBatched() {
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            results.add(translationService.translateAsync("batched " + i, "en", "tr"));
+        }
+
+        for (int i = 0; i < 12; i++) {
+            assertThat(results.get(i).join()).isEqualTo("TR:batched " + i);
+        }
+        assertThat(requestSizes).containsExactly(12);
+        assertThat(translationMemoryRepository.findById(TranslationService.memoryKey("batched 3", "en", "tr")))
+                .get().extracting(TranslationMemoryEntry::getTranslatedText).isEqualTo("TR:batched 3");
+    }
+
+    @Test
+    void sameTextIsTranslatedOnce() {
+        CompletableFuture<String> first = translationService.translateAsync("shared", "en", "tr");
+        CompletableFuture<String> second = translationService.translateAsync("shared", "en", "tr");
+
+        assertThat(first.join()).isEqualTo("TR:shared");
+        assertThat(second.join()).isEqualTo("TR:shared");
+        assertThat(requestSizes).containsExactly(1);
+        // Artık bellekte
+        assertThat(translationService.translateAsync("shared", "en", "tr")).isCompletedWithValue("TR:shared");
+    }
+
+    @Test
+    void emptyTranslationFailsOnlyItsCaller() {
+        CompletableFuture<String> ok = translationService.translateAsync("fine", "en", "tr");
+        CompletableFuture<String> empty = translationService.translateAsync("empty", "en", "tr");
+
+        assertThat(ok.join()).isEqualTo("TR:fine");
+        assertThatThrownBy(empty::join).isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(requestSizes).containsExactly(2);
+    }
+
+    // Batch 400 alınca metinler tek tek gönderilir: diğer metinler yine çevrilir
+    @Test
+    void rejectedBatchIsRetriedOneByOne() {
+        CompletableFuture<String> before = translationService.translateAsync("before bad", "en", "tr");
+        CompletableFuture<String> bad = translationService.translateAsync("bad", "en", "tr");
+        CompletableFuture<String> after = translationService.translateAsync("after bad", "en", "tr");
+
+        assertThat(before.join()).isEqualTo("TR:before bad");
+        assertThat(after.join()).isEqualTo("TR:after bad");
+        assertThatThrownBy(bad::join).isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(HttpClientErrorException.BadRequest.class);
+        assertThat(requestSizes).containsExactly(3, 1, 1, 1);
+    }
+
+    @Test
+    void translationDoesNotWaitForTheBatch() throws Exception {
+        CompletableFuture<String> result = translationService.translateAsync("lingering", "en", "tr");
+
+        // linger (100ms) dolmadan çağırana döner
+        assertThat(result).isNotDone();
+        assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo("TR:lingering");
+    }
+
+    private static HttpServer startUpstream() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/translate", exchange -> {
+            JsonNode q = objectMapper.readTree(exchange.getRequestBody()).path("q");
+            List<String> texts = new ArrayList<>();
+            if (q.isArray()) {
+                q.forEach(text -> texts.add(text.asText()));
+            } else {
+                texts.add(q.asText());
+            }
+            requestSizes.add(texts.size());
+            if (texts.contains("bad")) {
+                respond(exchange, 400, "{\"error\":\"Invalid request\"}");
+                return;
+            }
+            List<String> translated = texts.stream().map(text -> text.equals("empty") ? "" : "TR:" + text).toList();
+            respond(exchange, 200, objectMapper.writeValueAsString(
+                    Map.of("translatedText", q.isArray() ? translated : translated.get(0))));
+        });
+        server.start();
+        return server;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] payload = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, payload.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(payload);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.dictionary.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+class WordCursorTest {
+
+    @Test
+    void roundTripsDateAndId() {
+        WordCursor cursor = new WordCursor(LocalDateTime.of(2024, 3, 1, 12, 30, 15, 123456000), 42L);
+
+        assertThat(WordCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    // Eski kayıtlarda added_date null olabilir; imleç yine çözülebilmeli
+    @Test
+    void roundTripsMissingDate() {
+        WordCursor cursor = new WordCursor(null, 7L);
+
+        assertThat(WordCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void rejectsMalformedCursor() {
+        assertThatThrownBy(() -> WordCursor.decode("not a cursor")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> WordCursor.decode("bm9waXBl")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
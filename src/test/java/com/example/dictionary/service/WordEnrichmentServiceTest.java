@@ -0,0 +1,163 @@
+package com.example.dictionary.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.example.dictionary.model.EnrichmentStatus;
+import com.example.dictionary.model.Word;
+import com.example.dictionary.repository.WordRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+// Tek thread'lik zenginleştirme havuzu ve her cevabı geciktiren sahte sözlük/çeviri sunucusu: kuyrukta
+// bekleyen kelimeler zaman aşımına sayılmamalı, yarıda kalmış PENDING kelimeler tarama ile tamamlanmalı
+@SpringBootTest(properties = {
+        "dictionary.enrichment.pool.core-size=1",
+        "dictionary.enrichment.pool.max-size=1",
+        "dictionary.enrichment.pool.queue-capacity=20",
+        "dictionary.enrichment.lookup-timeout=1500ms",
+        "dictionary.enrichment.translation-timeout=1500ms",
+        "dictionary.enrichment.stale-after=1m",
+        "dictionary.enrichment.sweep-interval=1h"
+})
+@ActiveProfiles("test")
+class WordEnrichmentServiceTest {
+
+    private static final Duration UPSTREAM_DELAY = Duration.ofMillis(300);
+
+    private static HttpServer upstream;
+
+    @Autowired
+    private WordService wordService;
+
+    @Autowired
+    private WordEnrichmentService wordEnrichmentService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private WordRepository wordRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void upstreamProperties(DynamicPropertyRegistry registry) throws IOException {
+        upstream = startUpstream();
+        String baseUrl = "http://127.0.0.1:" + upstream.getAddress().getPort();
+        registry.add("dictionary.lookup.api-url", () -> baseUrl + "/api/v2/entries/en/");
+        registry.add("dictionary.translation.api-url", () -> baseUrl + "/translate");
+    }
+
+    @AfterAll
+    static void stopUpstream() {
+        upstream.stop(0);
+    }
+
+    // Sekiz kelime tek thread'de sırayla işlenir: sonuncusu kuyrukta zaman aşımından uzun bekler
+    @Test
+    void queueWaitDoesNotCountAgainstTimeouts() {
+        Long userId = registerUser();
+        List<Long> wordIds = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            wordIds.add(wordService.addWord("queued" + i, userId).getId());
+        }
+
+        await().atMost(Duration.ofSeconds(30)).untilAsserted(() -> assertThat(wordRepository.findAllById(wordIds))
+                .extracting(Word::getEnrichmentStatus)
+                .containsOnly(EnrichmentStatus.COMPLETED));
+        assertThat(wordRepository.findAllById(wordIds)).extracting(Word::getTurkishMeaning)
+                .allSatisfy(meaning -> assertThat(meaning).startsWith("TR:"));
+    }
+
+    @Test
+    void stalePendingWordsAreResumed() {
+        Long userId = registerUser();
+        Long staleId = insertPending(userId, "stale", LocalDateTime.now().minusMinutes(10));
+        Long freshId = insertPending(userId, "fresh", LocalDateTime.now());
+
+        wordEnrichmentService.resumePending();
+
+        await().atMost(Duration.ofSeconds(30)).untilAsserted(() ->
+                assertThat(wordRepository.findById(staleId)).get()
+                        .extracting(Word::getEnrichmentStatus).isEqualTo(EnrichmentStatus.COMPLETED));
+        // Henüz stale-after dolmadı: eklenirken gönderilmiş olabilir, tarama dokunmaz
+        assertThat(wordRepository.findById(freshId)).get()
+                .extracting(Word::getEnrichmentStatus).isEqualTo(EnrichmentStatus.PENDING);
+    }
+
+    private Long registerUser() {
+        return userService.registerUser("enrichment-" + UUID.randomUUID() + "@example.com", "secret", "Enrichment").getId();
+    }
+
+    private Long insertPending(Long userId, String english, LocalDateTime addedDate) {
+        Long id = jdbcTemplate.queryForObject("select next value for word_seq", Long.class);
+        jdbcTemplate.update("insert into word (id, user_id, english, english_lower, added_date, enrichment_status)"
+                + " values (?, ?, ?, ?, ?, 'PENDING')", id, userId, english, english, Timestamp.valueOf(addedDate));
+        return id;
+    }
+
+    private static HttpServer startUpstream() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/api/v2/entries/en/", exchange -> {
+            String word = exchange.getRequestURI().getPath().substring("/api/v2/entries/en/".length());
+            respond(exchange, "[{\"word\":\"" + word + "\",\"meanings\":[{\"partOfSpeech\":\"noun\","
+                    + "\"definitions\":[{\"definition\":\"meaning of " + word + "\"}]}]}]");
+        });
+        // Tekli istekte q bir string, toplu istekte bir dizidir
+        server.createContext("/translate", exchange -> {
+            JsonNode q = objectMapper.readTree(exchange.getRequestBody()).path("q");
+            List<String> translated = new ArrayList<>();
+            if (q.isArray()) {
+                q.forEach(text -> translated.add("TR:" + text.asText()));
+            } else {
+                translated.add("TR:" + q.asText());
+            }
+            respond(exchange, objectMapper.writeValueAsString(
+                    Map.of("translatedText", q.isArray() ? translated : translated.get(0))));
+        });
+        server.start();
+        return server;
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        try {
+            Thread.sleep(UPSTREAM_DELAY.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] payload = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, payload.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(payload);
+        }
+    }
+}
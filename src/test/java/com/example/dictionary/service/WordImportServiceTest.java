@@ -0,0 +1,249 @@
+package com.example.dictionary.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.example.dictionary.model.EnrichmentStatus;
+import com.example.dictionary.model.Word;
+import com.example.dictionary.repository.WordRepository;
+import com.example.dictionary.service.WordImportService.ImportResult;
+import com.example.dictionary.service.WordImportService.WordSource;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+// JSON, CSV ve NDJSON içe aktarma; zenginleştirme sahte sözlük/çeviri sunucusuna gider
+@SpringBootTest(properties = {
+        "dictionary.bulk.max-items=20",
+        "dictionary.bulk.enrichment-in-flight=2",
+        "dictionary.enrichment.pool.core-size=8",
+        "dictionary.enrichment.pool.max-size=8"
+})
+@ActiveProfiles("test")
+class WordImportServiceTest {
+
+    private static final Duration UPSTREAM_DELAY = Duration.ofMillis(100);
+    private static final String THROTTLED_PREFIX = "throttled";
+
+    // Sadece THROTTLED_PREFIX ile başlayan kelimelerin aynı anda süren sözlük istekleri sayılır
+    private static final AtomicInteger concurrentLookups = new AtomicInteger();
+    private static final AtomicInteger maxConcurrentLookups = new AtomicInteger();
+    private static HttpServer upstream;
+
+    @Autowired
+    private WordImportService wordImportService;
+
+    @Autowired
+    private WordService wordService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private WordRepository wordRepository;
+
+    @DynamicPropertySource
+    static void upstreamProperties(DynamicPropertyRegistry registry) throws IOException {
+        upstream = startUpstream();
+        String baseUrl = "http://127.0.0.1:" + upstream.getAddress().getPort();
+        registry.add("dictionary.lookup.api-url", () -> baseUrl + "/api/v2/entries/en/");
+        registry.add("dictionary.translation.api-url", () -> baseUrl + "/translate");
+    }
+
+    @AfterAll
+    static void stopUpstream() {
+        upstream.stop(0);
+    }
+
+    @Test
+    void jsonImportSkipsExistingAndRepeatedWords() throws IOException {
+        Long userId = registerUser();
+        wordService.addWord("apple", userId);
+
+        Map<String, String> results = importWords(userId, wordImportService.jsonArraySource(
+                stream("[\"Apple\", \"banana\", \"BANANA\", {\"english\": \"cherry\"}, \"\", \"  \"]")));
+
+        assertThat(results).containsExactlyInAnyOrderEntriesOf(Map.of(
+                "Apple", "DUPLICATE",
+                "banana", "ADDED",
+                "BANANA", "DUPLICATE",
+                "cherry", "ADDED"));
+        assertThat(englishWords(userId)).containsExactlyInAnyOrder("apple", "banana", "cherry");
+    }
+
+    // Dışa aktarılan CSV'deki gibi: başlık, virgüllü ve ikilenmiş tırnaklı alanlar, çok satırlı anlam
+    @Test
+    void csvImportReadsQuotedFirstColumn() throws IOException {
+        Long userId = registerUser();
+        String csv = "english,meaning\r\n"
+                + "\"hello, world\",greeting\r\n"
+                + "\"say \"\"hi\"\"\",\"first line\r\nsecond line, with comma\"\r\n"
+                + "\r\n"
+                + "plain\r\n";
+
+        Map<String, String> results = importWords(userId, wordImportService.textSource(reader(csv), false));
+
+        assertThat(results).containsExactlyInAnyOrderEntriesOf(Map.of(
+                "hello, world", "ADDED",
+                "say \"hi\"", "ADDED",
+                "plain", "ADDED"));
+    }
+
+    @Test
+    void ndjsonImportAcceptsStringsAndObjects() throws IOException {
+        Long userId = registerUser();
+
+        Map<String, String> results = importWords(userId, wordImportService.textSource(
+                reader("\"one\"\n\n{\"english\": \"two\"}\n{\"english\": \"One\"}\n"), true));
+
+        assertThat(results).containsExactlyInAnyOrderEntriesOf(Map.of(
+                "one", "ADDED",
+                "two", "ADDED",
+                "One", "DUPLICATE"));
+    }
+
+    // Cevap başlıkları gönderilmiş olduğundan hata son satırda bildirilir; önceki kelimeler kaydedilir
+    @Test
+    void malformedJsonKeepsWordsReadBeforeTheError() throws IOException {
+        Long userId = registerUser();
+        List<ImportResult> results = new ArrayList<>();
+
+        wordImportService.importWords(wordImportService.jsonArraySource(stream("[\"kept\", {")), userId, results::add);
+
+        assertThat(results).extracting(ImportResult::status).containsExactly("ADDED", "INVALID");
+        assertThat(results.get(1).message()).startsWith("Malformed input");
+        assertThat(englishWords(userId)).containsExactly("kept");
+    }
+
+    @Test
+    void importStopsAtItemLimit() throws IOException {
+        Long userId = registerUser();
+        StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < 25; i++) {
+            csv.append("limited").append(i).append('\n');
+        }
+
+        List<ImportResult> results = new ArrayList<>();
+        wordImportService.importWords(wordImportService.textSource(reader(csv.toString()), false), userId, results::add);
+
+        // Sınırdan sonraki ilk kelime bildirilir, gerisi okunmaz
+        assertThat(results).filteredOn(result -> result.status().equals("ADDED")).hasSize(20);
+        assertThat(results).filteredOn(result -> result.status().equals("SKIPPED"))
+                .extracting(ImportResult::english).containsExactly("limited20");
+        assertThat(englishWords(userId)).hasSize(20);
+    }
+
+    // enrichment-in-flight=2: havuzda 8 thread olsa da aynı anda en fazla iki kelime zenginleştirilir
+    @Test
+    void enrichmentOfImportedWordsIsThrottled() throws IOException {
+        Long userId = registerUser();
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 12; i++) {
+            json.append(i > 0 ? "," : "").append('"').append(THROTTLED_PREFIX).append(i).append('"');
+        }
+        json.append(']');
+
+        importWords(userId, wordImportService.jsonArraySource(stream(json.toString())));
+
+        await().atMost(Duration.ofSeconds(30)).untilAsserted(() -> assertThat(wordService.getAllWordsForUser(userId))
+                .hasSize(12)
+                .extracting(Word::getEnrichmentStatus)
+                .containsOnly(EnrichmentStatus.COMPLETED));
+        assertThat(maxConcurrentLookups.get()).isBetween(1, 2);
+    }
+
+    private Map<String, String> importWords(Long userId, WordSource source) {
+        Map<String, String> results = new LinkedHashMap<>();
+        wordImportService.importWords(source, userId, result -> results.put(result.english(), result.status()));
+        return results;
+    }
+
+    private List<String> englishWords(Long userId) {
+        return wordRepository.findByUserIdOrderByAddedDateDesc(userId).stream().map(Word::getEnglish).toList();
+    }
+
+    private Long registerUser() {
+        return userService.registerUser("import-" + UUID.randomUUID() + "@example.com", "secret", "Import").getId();
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static BufferedReader reader(String body) {
+        return new BufferedReader(new StringReader(body));
+    }
+
+    private static HttpServer startUpstream() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/api/v2/entries/en/", exchange -> {
+            String word = exchange.getRequestURI().getPath().substring("/api/v2/entries/en/".length());
+            boolean counted = word.startsWith(THROTTLED_PREFIX);
+            if (counted) {
+                maxConcurrentLookups.accumulateAndGet(concurrentLookups.incrementAndGet(), Math::max);
+            }
+            try {
+                respond(exchange, "[{\"word\":\"" + word + "\",\"meanings\":[{\"partOfSpeech\":\"noun\","
+                        + "\"definitions\":[{\"definition\":\"meaning of " + word + "\"}]}]}]");
+            } finally {
+                if (counted) {
+                    concurrentLookups.decrementAndGet();
+                }
+            }
+        });
+        server.createContext("/translate", exchange -> {
+            JsonNode q = objectMapper.readTree(exchange.getRequestBody()).path("q");
+            List<String> translated = new ArrayList<>();
+            if (q.isArray()) {
+                q.forEach(text -> translated.add("TR:" + text.asText()));
+            } else {
+                translated.add("TR:" + q.asText());
+            }
+            respond(exchange, objectMapper.writeValueAsString(
+                    Map.of("translatedText", q.isArray() ? translated : translated.get(0))));
+        });
+        server.start();
+        return server;
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        try {
+            Thread.sleep(UPSTREAM_DELAY.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] payload = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, payload.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(payload);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.dictionary.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.dictionary.model.Word;
+
+// Keyset sayfalama: sayfalar arka arkaya okunduğunda her kelime bir kez ve (added_date, id) azalan
+// sırada gelmeli. Aynı tarihli kelimeler id ile, tarihsiz eski kayıtlar en sonda id ile sıralanır.
+// Kendi context'i (ve veritabanı) vardır: WordIndexUsageTest kelimeleri sabit id'lerle ekler
+@SpringBootTest(properties = "dictionary.words.max-page-size=100")
+@ActiveProfiles("test")
+class WordPaginationTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    @Autowired
+    private WordService wordService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void pagesVisitEveryWordOnceInOrder() {
+        Long userId = registerUser();
+        List<Long> expected = new ArrayList<>();
+        // İkişer kelime aynı dakikada: sıra id ile belirlenir
+        for (int i = 4; i >= 0; i--) {
+            Long second = insertWord(userId, "word" + i + "b", START.plusMinutes(i), "easy");
+            Long first = insertWord(userId, "word" + i + "a", START.plusMinutes(i), "hard");
+            expected.add(Math.max(first, second));
+            expected.add(Math.min(first, second));
+        }
+
+        assertThat(readAllPages(userId, null, 3)).isEqualTo(expected);
+        assertThat(readAllPages(userId, null, 10)).isEqualTo(expected);
+        assertThat(readAllPages(userId, null, 100)).isEqualTo(expected);
+    }
+
+    @Test
+    void undatedWordsComeLastAndKeepPaging() {
+        Long userId = registerUser();
+        List<Long> dated = new ArrayList<>();
+        for (int i = 2; i >= 0; i--) {
+            dated.add(insertWord(userId, "dated" + i, START.plusDays(i), "easy"));
+        }
+        List<Long> undated = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            undated.add(0, insertWord(userId, "undated" + i, null, i % 2 == 0 ? "easy" : "hard"));
+        }
+        List<Long> expected = new ArrayList<>(dated);
+        expected.addAll(undated);
+
+        // Sayfa sınırı tarihli kelimelerin içinde, tam sonunda ve tarihsizlerin içinde
+        for (int size = 1; size <= expected.size(); size++) {
+            assertThat(readAllPages(userId, null, size)).as("page size %d", size).isEqualTo(expected);
+        }
+        List<Long> easy = List.of(dated.get(0), dated.get(1), dated.get(2), undated.get(1), undated.get(3));
+        assertThat(readAllPages(userId, "easy", 2)).isEqualTo(easy);
+    }
+
+    private List<Long> readAllPages(Long userId, String difficulty, int size) {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            WordPage page = wordService.getWordPageForUser(userId, difficulty, cursor, size);
+            assertThat(page.words().size()).isLessThanOrEqualTo(size);
+            page.words().stream().map(Word::getId).forEach(ids::add);
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return ids;
+    }
+
+    private Long registerUser() {
+        return userService.registerUser("pages-" + UUID.randomUUID() + "@example.com", "secret", "Pages").getId();
+    }
+
+    private Long insertWord(Long userId, String english, LocalDateTime addedDate, String difficulty) {
+        Long id = jdbcTemplate.queryForObject("select next value for word_seq", Long.class);
+        jdbcTemplate.update("insert into word (id, user_id, english, english_lower, difficulty_level, added_date)"
+                        + " values (?, ?, ?, ?, ?, ?)",
+                id, userId, english, english, difficulty, addedDate != null ? Timestamp.valueOf(addedDate) : null);
+        return id;
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.dictionary.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.dictionary.model.EnrichmentStatus;
+import com.example.dictionary.model.Word;
+import com.example.dictionary.repository.WordRepository;
+
+// word_daily_count özeti: ekleme, tarih değiştiren güncelleme, silme ve kullanıcı silme kullanıcının ve
+// ALL_USERS satırlarını günceller; boş tablo word'den yeniden doldurulur.
+// Kendi context'i (ve veritabanı) vardır: WordIndexUsageTest kelimeleri sabit id'lerle ekler; erişilemeyen
+// sözlük servisi tekrar denenmez ki zenginleştirme beklemesi kısa sürsün
+@SpringBootTest(properties = "dictionary.lookup.retry.max-attempts=1")
+@ActiveProfiles("test")
+class WordStatisticsServiceTest {
+
+    @Autowired
+    private WordStatisticsService wordStatisticsService;
+
+    @Autowired
+    private WordService wordService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private WordRepository wordRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void countsFollowAddedDates() {
+        Long userId = registerUser();
+        WordStatistics totalsBefore = wordStatisticsService.getStatistics(null);
+
+        addWord(userId, "today");
+        moveTo(addWord(userId, "three-days-ago"), LocalDateTime.now().minusDays(3));
+        moveTo(addWord(userId, "ten-days-ago"), LocalDateTime.now().minusDays(10));
+        moveTo(addWord(userId, "two-months-ago"), LocalDateTime.now().minusMonths(2));
+        moveTo(addWord(userId, "two-years-ago"), LocalDateTime.now().minusYears(2));
+
+        assertThat(wordStatisticsService.getStatistics(userId)).isEqualTo(new WordStatistics(5, 1, 2, 3, 4));
+        assertThat(wordStatisticsService.getDailyCounts(userId, 7)).containsExactly(0, 0, 0, 1, 0, 0, 1);
+        assertThat(wordStatisticsService.getStatistics(null)).isEqualTo(new WordStatistics(
+                totalsBefore.totalWords() + 5,
+                totalsBefore.todayWords() + 1,
+                totalsBefore.last7Days() + 2,
+                totalsBefore.lastMonth() + 3,
+                totalsBefore.lastYear() + 4));
+    }
+
+    @Test
+    void deletedWordIsSubtracted() {
+        Long userId = registerUser();
+        addWord(userId, "kept");
+        Word deleted = addWord(userId, "deleted");
+        moveTo(deleted, LocalDateTime.now().minusDays(2));
+        long totalBefore = wordStatisticsService.getStatistics(null).totalWords();
+
+        assertThat(wordService.deleteWord(deleted.getId())).isTrue();
+
+        assertThat(wordStatisticsService.getStatistics(userId)).isEqualTo(new WordStatistics(1, 1, 1, 1, 1));
+        assertThat(wordStatisticsService.getDailyCounts(userId, 3)).containsExactly(0, 0, 1);
+        assertThat(wordStatisticsService.getStatistics(null).totalWords()).isEqualTo(totalBefore - 1);
+    }
+
+    @Test
+    void deletedUserIsRemovedFromTotals() {
+        Long userId = registerUser();
+        addWord(userId, "first");
+        addWord(userId, "second");
+        long totalBefore = wordStatisticsService.getStatistics(null).totalWords();
+
+        userService.deleteUser(userId);
+
+        assertThat(wordStatisticsService.getStatistics(userId).totalWords()).isZero();
+        assertThat(wordStatisticsService.getStatistics(null).totalWords()).isEqualTo(totalBefore - 2);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from word_daily_count where user_id = ?", Long.class, userId)).isZero();
+    }
+
+    // Olaylarla tutulan sayılar word tablosundan baştan hesaplananlarla aynı olmalı
+    @Test
+    void backfillMatchesIncrementalCounts() {
+        Long userId = registerUser();
+        addWord(userId, "backfilled");
+        moveTo(addWord(userId, "backfilled-earlier"), LocalDateTime.now().minusDays(5));
+        WordStatistics userCounts = wordStatisticsService.getStatistics(userId);
+        WordStatistics totals = wordStatisticsService.getStatistics(null);
+
+        jdbcTemplate.update("delete from word_daily_count");
+        wordStatisticsService.backfillIfEmpty();
+
+        assertThat(wordStatisticsService.getStatistics(userId)).isEqualTo(userCounts);
+        assertThat(wordStatisticsService.getStatistics(null)).isEqualTo(totals);
+    }
+
+    // Zenginleştirme (dış servisler erişilemez) bitene kadar beklenir ki sonucu tarih güncellemesini ezmesin
+    private Word addWord(Long userId, String english) {
+        Word word = wordService.addWord(english, userId);
+        await().atMost(Duration.ofSeconds(30)).until(() -> wordRepository.findById(word.getId())
+                .map(Word::getEnrichmentStatus).orElse(null) != EnrichmentStatus.PENDING);
+        return word;
+    }
+
+    private void moveTo(Word word, LocalDateTime addedDate) {
+        Word updated = wordRepository.findById(word.getId()).orElseThrow();
+        updated.setAddedDate(addedDate);
+        assertThat(wordService.updateWord(word.getId(), updated)).isPresent();
+    }
+
+    private Long registerUser() {
+        return userService.registerUser("statistics-" + UUID.randomUUID() + "@example.com", "secret", "Statistics").getId();
+    }
+}
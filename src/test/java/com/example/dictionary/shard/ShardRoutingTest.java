@@ -0,0 +1,243 @@
+package com.example.dictionary.shard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.dictionary.model.EnrichmentStatus;
+import com.example.dictionary.model.Word;
+import com.example.dictionary.repository.WordRepository;
+import com.example.dictionary.service.UserService;
+import com.example.dictionary.service.WordService;
+import com.example.dictionary.service.WordStatisticsService;
+
+// Üç bellek içi H2: test profilinin veritabanı 0. shard, ikisi dictionary.shard.urls ile ek shard.
+// Ek shard'ların şemasını uygulama açılışta kurar; kelimelerin hangi shard'da olduğu doğrudan o veritabanından okunur.
+// Başka bir uygulama örneğinin taşıması shard_move ve user_shard tablolarına doğrudan yazılarak canlandırılır
+@SpringBootTest(properties = {
+        "dictionary.shard.move.lock-timeout=1s",
+        "dictionary.shard.move.drain=50ms",
+        "dictionary.shard.directory-ttl=200ms",
+        "dictionary.shard.write-wait=300ms"
+})
+@ActiveProfiles("test")
+class ShardRoutingTest {
+
+    private static final List<String> SHARD_URLS = List.of(shardUrl(), shardUrl());
+
+    @Autowired
+    private JdbcTemplate primary;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private ShardRebalancer shardRebalancer;
+
+    @Autowired
+    private WordService wordService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private WordStatisticsService wordStatisticsService;
+
+    @Autowired
+    private WordRepository wordRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @DynamicPropertySource
+    static void shardProperties(DynamicPropertyRegistry registry) {
+        registry.add("dictionary.shard.urls", () -> String.join(" ", SHARD_URLS));
+    }
+
+    @Test
+    void wordsAreWrittenToUserShard() {
+        for (int shard = 0; shard < 3; shard++) {
+            Long userId = registerUserOnShard(shard);
+
+            addWord(userId, "on-shard-" + shard);
+
+            assertThat(countWords(shard, userId)).isOne();
+            for (int other = 0; other < 3; other++) {
+                if (other != shard) {
+                    assertThat(countWords(other, userId)).as("shard %d", other).isZero();
+                }
+            }
+            assertThat(wordService.getAllWordsSortedByDateDescForUser(userId)).extracting(Word::getEnglish).containsExactly("on-shard-" + shard);
+            assertThat(wordStatisticsService.getStatistics(userId).totalWords()).isOne();
+        }
+    }
+
+    // Kullanıcısız sorgular tüm shard'lardan toplanır
+    @Test
+    void anonymousQueriesGatherAllShards() {
+        long totalBefore = wordStatisticsService.getStatistics(null).totalWords();
+        for (int shard = 0; shard < 3; shard++) {
+            addWord(registerUserOnShard(shard), "gathered-" + shard);
+        }
+
+        assertThat(wordService.getAllWordsSortedByDateDesc()).extracting(Word::getEnglish)
+                .contains("gathered-0", "gathered-1", "gathered-2");
+        assertThat(wordStatisticsService.getStatistics(null).totalWords()).isEqualTo(totalBefore + 3);
+    }
+
+    @Test
+    void movedUserIsReadAndWrittenOnTargetShard() {
+        Long userId = registerUserOnShard(1);
+        addWord(userId, "moving");
+        long version = dataVersion(1, userId);
+
+        Map<String, Object> result = shardRebalancer.moveUser(userId, 2);
+
+        assertThat(result).containsEntry("sourceShard", 1).containsEntry("copiedWords", 1);
+        assertThat(shardRouter.shardOf(userId)).isEqualTo(2);
+        assertThat(countWords(1, userId)).isZero();
+        assertThat(countWords(2, userId)).isOne();
+        assertThat(wordService.getAllWordsSortedByDateDescForUser(userId)).extracting(Word::getEnglish).containsExactly("moving");
+        assertThat(wordStatisticsService.getStatistics(userId).totalWords()).isOne();
+        // ETag'ler geri gitmesin: hedefteki sürüm kaynaktakinden büyük
+        assertThat(dataVersion(2, userId)).isGreaterThan(version);
+
+        addWord(userId, "after-move");
+        assertThat(countWords(2, userId)).isEqualTo(2);
+        assertThat(primary.queryForObject("select count(*) from shard_move where user_id = ?", Long.class, userId)).isZero();
+    }
+
+    // Kelimeleri başka bir örnekte kopyalanan kullanıcının yazmaları bu örnekte de bekler
+    @Test
+    void moveOnAnotherInstanceBlocksWrites() {
+        Long userId = registerUserOnShard(1);
+        insertMoveLease(userId, LocalDateTime.now().plusMinutes(1), true);
+
+        assertThatThrownBy(() -> wordService.addWord("blocked", userId)).isInstanceOf(ShardRouter.ShardMoveInProgressException.class);
+        assertThat(countWords(1, userId)).isZero();
+
+        primary.update("delete from shard_move where user_id = ?", userId);
+        addWord(userId, "unblocked");
+        assertThat(countWords(1, userId)).isOne();
+    }
+
+    // Aynı kullanıcı için ikinci taşıma başlamaz; süresi dolmuş kayıt yarıda kalmış taşımadır ve devralınır
+    @Test
+    void activeLeaseRejectsMoveAndExpiredLeaseIsTakenOver() {
+        Long userId = registerUserOnShard(1);
+        addWord(userId, "leased");
+        insertMoveLease(userId, LocalDateTime.now().plusMinutes(1), false);
+
+        assertThatThrownBy(() -> shardRebalancer.moveUser(userId, 2)).isInstanceOf(ShardRouter.ShardMoveInProgressException.class);
+        assertThat(countWords(1, userId)).isOne();
+
+        primary.update("update shard_move set lease_until = ? where user_id = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusMinutes(1)), userId);
+        shardRebalancer.moveUser(userId, 2);
+
+        assertThat(countWords(1, userId)).isZero();
+        assertThat(countWords(2, userId)).isOne();
+    }
+
+    // Başka örnekte biten taşıma: yazmalar yeni shard'a hemen gider, cache'lenmiş dizin directory-ttl sonunda yenilenir
+    @Test
+    void directoryChangedElsewhereIsPickedUp() {
+        Long writer = registerUserOnShard(1);
+        Long reader = registerUserOnShard(1);
+        primary.update("update user_shard set shard = 2 where user_id in (?, ?)", writer, reader);
+
+        addWord(writer, "moved-elsewhere");
+        assertThat(countWords(1, writer)).isZero();
+        assertThat(countWords(2, writer)).isOne();
+
+        assertThat(shardRouter.shardOf(reader)).isEqualTo(1);
+        await().atMost(Duration.ofSeconds(5)).until(() -> shardRouter.shardOf(reader) == 2);
+    }
+
+    @Test
+    void deletedUserDataIsRemovedFromShard() {
+        Long userId = registerUserOnShard(1);
+        addWord(userId, "deleted");
+
+        userService.deleteUser(userId);
+
+        assertThat(countWords(1, userId)).isZero();
+        assertThat(shard(1).queryForObject("select count(*) from word_daily_count where user_id = ?", Long.class, userId)).isZero();
+        assertThat(primary.queryForObject("select count(*) from user_shard where user_id = ?", Long.class, userId)).isZero();
+    }
+
+    // Ek shard'lardaki silme 0. shard'daki kullanıcı silme transaction'ının dışında çalışır: silme geri
+    // alınırsa kullanıcının kelimeleri ve sayıları yerinde kalmalı
+    @Test
+    void rolledBackUserDeletionKeepsShardData() {
+        Long userId = registerUserOnShard(1);
+        addWord(userId, "kept");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            userService.deleteUser(userId);
+            status.setRollbackOnly();
+        });
+
+        assertThat(primary.queryForObject("select count(*) from users where id = ?", Long.class, userId)).isOne();
+        assertThat(countWords(1, userId)).isOne();
+        assertThat(wordStatisticsService.getStatistics(userId).totalWords()).isOne();
+        assertThat(shardRouter.shardOf(userId)).isEqualTo(1);
+    }
+
+    // Kayıtta shard id hash'iyle seçilir; istenen shard'a düşen ilk kullanıcı alınır
+    private Long registerUserOnShard(int shard) {
+        while (true) {
+            Long userId = userService.registerUser("shard-" + UUID.randomUUID() + "@example.com", "secret", "Shard").getId();
+            if (shardRouter.shardOf(userId) == shard) {
+                return userId;
+            }
+        }
+    }
+
+    // Zenginleştirme (dış servisler erişilemez) bitene kadar beklenir ki sonucu yazılırken taşımayla çakışmasın
+    private Word addWord(Long userId, String english) {
+        Word word = wordService.addWord(english, userId);
+        await().atMost(Duration.ofSeconds(30)).until(() -> shardRouter.onUserShard(userId, () -> wordRepository.findById(word.getId()))
+                .map(Word::getEnrichmentStatus).orElse(null) != EnrichmentStatus.PENDING);
+        return word;
+    }
+
+    private long countWords(int shard, Long userId) {
+        return shard(shard).queryForObject("select count(*) from word where user_id = ?", Long.class, userId);
+    }
+
+    private void insertMoveLease(Long userId, LocalDateTime leaseUntil, boolean copying) {
+        primary.update("insert into shard_move (user_id, lease_until, copying) values (?, ?, ?)",
+                userId, Timestamp.valueOf(leaseUntil), copying);
+    }
+
+    private long dataVersion(int shard, Long userId) {
+        return shard(shard).queryForObject("select version from user_data_version where user_id = ?", Long.class, userId);
+    }
+
+    private JdbcTemplate shard(int shard) {
+        return shard == 0 ? primary : new JdbcTemplate(new DriverManagerDataSource(SHARD_URLS.get(shard - 1), "sa", ""));
+    }
+
+    private static String shardUrl() {
+        return "jdbc:h2:mem:shard-" + UUID.randomUUID()
+                + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=DAY,VALUE,YEAR,MONTH;DB_CLOSE_DELAY=-1";
+    }
+}